@@ -0,0 +1,38 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.benchmarks;
+
+import java.io.File;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs all JMH benchmarks of this project. This is started as a test, so the benchmarks run inside the
+ * fabric-loader-junit bootstrap, which gives them access to Minecraft classes and the mod mixins.
+ */
+public class RunBenchmarks {
+    @Test
+    public void runBenchmarks() throws RunnerException {
+        String include = System.getProperty("wynntils.benchmark.include", "");
+        File resultFile = new File(System.getProperty("wynntils.benchmark.results", "build/reports/jmh/results.json"));
+        resultFile.getParentFile().mkdirs();
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                // Forked JVMs would not be set up by the test bootstrap, so run everything in this JVM
+                .forks(0)
+                .shouldFailOnError(true)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile.getAbsolutePath());
+        if (!include.isEmpty()) {
+            options.include(include);
+        }
+
+        new Runner(options.build()).run();
+    }
+}
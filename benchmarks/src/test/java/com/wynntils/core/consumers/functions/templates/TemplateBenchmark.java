@@ -0,0 +1,58 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.core.consumers.functions.templates;
+
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.core.consumers.functions.templates.parser.TemplateParser;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parses and evaluates an info box style template. Only generic functions are used, as functions reading game state
+ * have nothing to read in the benchmark.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class TemplateBenchmark {
+    private static final String TEMPLATE_STRING = "§c❤ {int(mul(1250;0.8))}/{int(add(1200;50))} "
+            + "§b✺ {clamp(map(15;10;20;0;100);0;100):0}% "
+            + "§7{if(equals(3;3);\"ready\";\"cooldown\")} "
+            + "§e{dec_to_hex(48879)} {cap(if(equals(2;3);capped(1;2);capped(3;4)))}";
+
+    private Template template;
+
+    @Setup
+    public void setup() {
+        WynntilsMod.setupTestEnv();
+
+        template = TemplateParser.getTemplateFromString(TEMPLATE_STRING);
+    }
+
+    @Benchmark
+    public Template parse() {
+        return TemplateParser.getTemplateFromString(TEMPLATE_STRING);
+    }
+
+    @Benchmark
+    public String evaluate() {
+        return template.getString();
+    }
+
+    @Benchmark
+    public String parseAndEvaluate() {
+        return TemplateParser.getTemplateFromString(TEMPLATE_STRING).getString();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.core.text;
+
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.core.text.type.StyleType;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import net.minecraft.ChatFormatting;
+import net.minecraft.network.chat.ClickEvent;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.HoverEvent;
+import net.minecraft.network.chat.Style;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class StyledTextBenchmark {
+    private static final Pattern CHAT_PATTERN =
+            Pattern.compile("^§7\\[(\\d+)\\*?/(\\w+)/(\\w+)\\] §f(.+?)§7: (.*)$");
+
+    private Component component;
+    private StyledText styledText;
+
+    @Setup
+    public void setup() {
+        WynntilsMod.setupTestEnv();
+
+        // A chat message in the shape of a Wynncraft player message, with hover and click events
+        component = Component.empty()
+                .append(Component.literal("[").withStyle(ChatFormatting.GRAY))
+                .append(Component.literal("106*/Ma/Arcanist").withStyle(ChatFormatting.GRAY))
+                .append(Component.literal("] ").withStyle(ChatFormatting.GRAY))
+                .append(Component.literal("Player")
+                        .withStyle(Style.EMPTY
+                                .withColor(ChatFormatting.WHITE)
+                                .withHoverEvent(new HoverEvent.ShowText(Component.literal("Player's profile")))
+                                .withClickEvent(new ClickEvent.SuggestCommand("/msg Player "))))
+                .append(Component.literal(": ").withStyle(ChatFormatting.GRAY))
+                .append(Component.literal("anyone up for a ")
+                        .withStyle(ChatFormatting.WHITE)
+                        .append(Component.literal("Nest of the Grootslangs").withStyle(ChatFormatting.GOLD))
+                        .append(Component.literal(" run? ").withStyle(ChatFormatting.WHITE))
+                        .append(Component.literal("2/4").withStyle(ChatFormatting.BOLD, ChatFormatting.AQUA)));
+        styledText = StyledText.fromComponent(component);
+    }
+
+    @Benchmark
+    public StyledText fromComponent() {
+        return StyledText.fromComponent(component);
+    }
+
+    @Benchmark
+    public String getString() {
+        return styledText.getString();
+    }
+
+    @Benchmark
+    public String getStringWithoutFormatting() {
+        return styledText.getString(StyleType.NONE);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return styledText.getMatcher(CHAT_PATTERN).matches();
+    }
+
+    @Benchmark
+    public boolean fromComponentAndMatch() {
+        return StyledText.fromComponent(component).getMatcher(CHAT_PATTERN).matches();
+    }
+}
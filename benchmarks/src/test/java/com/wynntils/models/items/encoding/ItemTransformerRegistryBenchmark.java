@@ -0,0 +1,79 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.models.items.encoding;
+
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.models.gear.type.ConsumableType;
+import com.wynntils.models.items.WynnItem;
+import com.wynntils.models.items.encoding.type.EncodingSettings;
+import com.wynntils.models.items.items.game.CraftedConsumableItem;
+import com.wynntils.models.wynnitem.type.ConsumableEffect;
+import com.wynntils.models.wynnitem.type.NamedItemEffect;
+import com.wynntils.utils.EncodedByteBuffer;
+import com.wynntils.utils.type.CappedValue;
+import com.wynntils.utils.type.ErrorOr;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encodes and decodes a crafted consumable. Gear, tomes and charms need downloaded item data, and identifications
+ * need the downloaded identification keys, so neither can be used here.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class ItemTransformerRegistryBenchmark {
+    private static final EncodingSettings ENCODING_SETTINGS = new EncodingSettings(false, true);
+
+    private ItemTransformerRegistry registry;
+    private WynnItem item;
+    private String encodedItem;
+
+    @Setup
+    public void setup() {
+        WynntilsMod.setupTestEnv();
+
+        registry = new ItemTransformerRegistry();
+        item = new CraftedConsumableItem(
+                "Crafted Potion",
+                ConsumableType.POTION,
+                103,
+                List.of(),
+                List.of(
+                        new NamedItemEffect(ConsumableEffect.HEAL, 1850),
+                        new NamedItemEffect(ConsumableEffect.MANA, 12),
+                        new NamedItemEffect(ConsumableEffect.DURATION, 180)),
+                List.of(),
+                new CappedValue(3, 3));
+        encodedItem = registry.encodeItem(item, ENCODING_SETTINGS).getValue().toUtf16String();
+    }
+
+    @Benchmark
+    public String encode() {
+        return registry.encodeItem(item, ENCODING_SETTINGS).getValue().toUtf16String();
+    }
+
+    @Benchmark
+    public ErrorOr<WynnItem> decode() {
+        return registry.decodeItem(EncodedByteBuffer.fromUtf16String(encodedItem), null);
+    }
+
+    @Benchmark
+    public ErrorOr<WynnItem> roundTrip() {
+        String encoded = registry.encodeItem(item, ENCODING_SETTINGS).getValue().toUtf16String();
+        return registry.decodeItem(EncodedByteBuffer.fromUtf16String(encoded), null);
+    }
+}
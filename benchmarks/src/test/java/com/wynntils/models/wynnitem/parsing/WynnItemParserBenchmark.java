@@ -0,0 +1,80 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.models.wynnitem.parsing;
+
+import com.google.common.reflect.TypeToken;
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.core.text.StyledText;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.component.ItemLore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parses a corpus of recorded item tooltips. The tooltips are passed to the parser directly, as building them from
+ * the item stack needs a running client.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class WynnItemParserBenchmark {
+    private static final String CORPUS_RESOURCE = "/benchmarks/item_tooltips.json";
+
+    private final List<ItemStack> itemStacks = new ArrayList<>();
+    private final List<List<Component>> tooltips = new ArrayList<>();
+
+    @Setup
+    public void setup() throws Exception {
+        WynntilsMod.setupTestEnv();
+
+        Type type = new TypeToken<List<List<String>>>() {}.getType();
+        List<List<String>> corpus;
+        try (Reader reader = new InputStreamReader(
+                WynnItemParserBenchmark.class.getResourceAsStream(CORPUS_RESOURCE), StandardCharsets.UTF_8)) {
+            corpus = WynntilsMod.GSON.fromJson(reader, type);
+        }
+
+        for (List<String> codedLines : corpus) {
+            List<Component> tooltip = codedLines.stream()
+                    .map(line -> (Component) StyledText.fromString(line).getComponent())
+                    .toList();
+
+            // The first line is the item name, the rest of the tooltip is the lore
+            ItemStack itemStack = new ItemStack(Items.DIAMOND_SHOVEL);
+            itemStack.set(DataComponents.CUSTOM_NAME, tooltip.getFirst());
+            itemStack.set(DataComponents.LORE, new ItemLore(tooltip.subList(1, tooltip.size())));
+
+            itemStacks.add(itemStack);
+            tooltips.add(tooltip);
+        }
+    }
+
+    @Benchmark
+    public void parseItemStack(Blackhole blackhole) {
+        for (int i = 0; i < itemStacks.size(); i++) {
+            blackhole.consume(WynnItemParser.parseItemStack(itemStacks.get(i), tooltips.get(i), null));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.itemfilter;
+
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.core.components.Handlers;
+import com.wynntils.core.components.Services;
+import com.wynntils.core.text.StyledText;
+import com.wynntils.models.gear.type.ConsumableType;
+import com.wynntils.models.items.items.game.CraftedConsumableItem;
+import com.wynntils.models.wynnitem.type.ConsumableEffect;
+import com.wynntils.models.wynnitem.type.NamedItemEffect;
+import com.wynntils.services.itemfilter.type.ItemProviderType;
+import com.wynntils.services.itemfilter.type.ItemSearchQuery;
+import com.wynntils.utils.type.CappedValue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Filters and sorts a list of annotated crafted consumables, the only item type that can be built without downloaded
+ * item data.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class ItemFilterServiceBenchmark {
+    private static final ConsumableType[] CONSUMABLE_TYPES = {
+        ConsumableType.POTION, ConsumableType.FOOD, ConsumableType.SCROLL
+    };
+
+    @Param({"54", "1000"})
+    public int itemCount;
+
+    private final List<ItemStack> itemStacks = new ArrayList<>();
+    private ItemSearchQuery filterQuery;
+    private ItemSearchQuery filterAndSortQuery;
+
+    @Setup
+    public void setup() {
+        WynntilsMod.setupTestEnv();
+
+        // A fixed seed, so every run filters the same items
+        Random random = new Random(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            ConsumableType type = CONSUMABLE_TYPES[i % CONSUMABLE_TYPES.length];
+            String name = "Crafted " + type.name().toLowerCase(Locale.ROOT) + " " + i;
+            CraftedConsumableItem item = new CraftedConsumableItem(
+                    name,
+                    type,
+                    1 + random.nextInt(106),
+                    List.of(),
+                    List.of(
+                            new NamedItemEffect(ConsumableEffect.HEAL, random.nextInt(2000)),
+                            new NamedItemEffect(ConsumableEffect.DURATION, random.nextInt(600))),
+                    List.of(),
+                    new CappedValue(1 + random.nextInt(3), 3));
+
+            ItemStack itemStack = new ItemStack(Items.POTION);
+            itemStack.set(DataComponents.CUSTOM_NAME, Component.literal(name));
+            Handlers.Item.updateItem(itemStack, item, StyledText.fromString(name));
+            itemStacks.add(itemStack);
+        }
+
+        filterQuery = Services.ItemFilter.createSearchQuery("level:>=20 potion", true, ItemProviderType.normalTypes());
+        filterAndSortQuery = Services.ItemFilter.createSearchQuery(
+                "level:>=20 sort:^level,duration", true, ItemProviderType.normalTypes());
+    }
+
+    @Benchmark
+    public List<ItemStack> filter() {
+        return Services.ItemFilter.filterAndSort(filterQuery, itemStacks);
+    }
+
+    @Benchmark
+    public List<ItemStack> filterAndSort() {
+        return Services.ItemFilter.filterAndSort(filterAndSortQuery, itemStacks);
+    }
+}
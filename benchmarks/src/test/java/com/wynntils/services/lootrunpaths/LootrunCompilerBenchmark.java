@@ -0,0 +1,78 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.lootrunpaths;
+
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.services.lootrunpaths.type.LootrunPath;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.phys.Vec3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compiles a generated lootrun path. The feature settings are passed directly, as features are not loaded in the
+ * benchmark.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class LootrunCompilerBenchmark {
+    private static final int PATH_COLOR = 0xff11ccff;
+
+    @Param({"2000", "20000"})
+    public int pointCount;
+
+    private UncompiledLootrunPath uncompiled;
+
+    @Setup
+    public void setup() {
+        WynntilsMod.setupTestEnv();
+
+        // A random walk in the shape of a recorded path, with a chest every 500 points
+        Random random = new Random(pointCount);
+        List<Vec3> points = new ArrayList<>();
+        Set<BlockPos> chests = new HashSet<>();
+        Vec3 position = new Vec3(-800, 70, -1600);
+        double heading = 0;
+        for (int i = 0; i < pointCount; i++) {
+            heading += (random.nextDouble() - 0.5) * 0.4;
+            position = position.add(
+                    Math.cos(heading) * 0.8, (random.nextDouble() - 0.5) * 0.2, Math.sin(heading) * 0.8);
+            points.add(position);
+
+            if (i % 500 == 0) {
+                chests.add(BlockPos.containing(position).offset(2, 0, 2));
+            }
+        }
+
+        uncompiled = new UncompiledLootrunPath(new LootrunPath(points), chests, List.of(), null);
+    }
+
+    @Benchmark
+    public LootrunPathInstance compile() {
+        return LootrunCompiler.compile(uncompiled, false, false, 0, PATH_COLOR);
+    }
+
+    @Benchmark
+    public LootrunPathInstance compileRainbow() {
+        return LootrunCompiler.compile(uncompiled, false, true, 20, PATH_COLOR);
+    }
+}
@@ -18,6 +18,7 @@ import com.wynntils.core.consumers.overlays.Overlay;
 import com.wynntils.core.persisted.config.Config;
 import com.wynntils.core.persisted.config.ConfigProfile;
 import com.wynntils.core.persisted.config.OverlayGroupHolder;
+import com.wynntils.core.search.SearchResults;
 import com.wynntils.screens.settings.ConfigProfileScreen;
 import com.wynntils.utils.mc.McUtils;
 import java.util.Arrays;
@@ -38,9 +39,17 @@ import net.minecraft.network.chat.MutableComponent;
 import org.apache.commons.lang3.StringUtils;
 
 public class ConfigCommand extends Command {
-    private static final SuggestionProvider<CommandSourceStack> FEATURE_SUGGESTION_PROVIDER =
-            (context, builder) -> SharedSuggestionProvider.suggest(
+    private static final SuggestionProvider<CommandSourceStack> FEATURE_SUGGESTION_PROVIDER = (context, builder) -> {
+        SearchResults searchResults = Managers.Search.search(builder.getRemaining());
+        if (searchResults.isEmpty()) {
+            return SharedSuggestionProvider.suggest(
                     Managers.Feature.getFeatures().stream().map(Feature::getShortName), builder);
+        }
+
+        // Also suggest features matching by their translated name, not only by a prefix of the short name
+        searchResults.getFeatures().forEach(feature -> builder.suggest(feature.getShortName()));
+        return builder.buildFuture();
+    };
 
     private static final SuggestionProvider<CommandSourceStack> OVERLAY_SUGGESTION_PROVIDER =
             (context, builder) -> SharedSuggestionProvider.suggest(
@@ -16,6 +16,7 @@ import com.wynntils.core.consumers.functions.GenericFunction;
 import com.wynntils.core.consumers.functions.arguments.Argument;
 import com.wynntils.core.consumers.functions.arguments.FunctionArguments;
 import com.wynntils.core.consumers.functions.arguments.ListArgument;
+import com.wynntils.core.search.SearchResults;
 import com.wynntils.core.text.StyledText;
 import java.util.Arrays;
 import java.util.Collection;
@@ -35,14 +36,25 @@ import net.minecraft.network.chat.HoverEvent;
 import net.minecraft.network.chat.MutableComponent;
 
 public class FunctionCommand extends Command {
-    private static final SuggestionProvider<CommandSourceStack> FUNCTION_SUGGESTION_PROVIDER =
-            (context, builder) -> SharedSuggestionProvider.suggest(
+    private static final SuggestionProvider<CommandSourceStack> FUNCTION_SUGGESTION_PROVIDER = (context, builder) -> {
+        SearchResults searchResults = Managers.Search.search(builder.getRemaining());
+        if (searchResults.isEmpty()) {
+            return SharedSuggestionProvider.suggest(
                     Stream.concat(
                             Managers.Function.getFunctions().stream().map(Function::getName),
                             Managers.Function.getFunctions().stream()
                                     .map(Function::getAliasList)
                                     .flatMap(Collection::stream)),
                     builder);
+        }
+
+        // Fuzzy matches would be dropped by SharedSuggestionProvider, so suggest the ranked matches directly
+        for (Function<?> function : searchResults.getFunctions()) {
+            builder.suggest(function.getName());
+            function.getAliasList().forEach(builder::suggest);
+        }
+        return builder.buildFuture();
+    };
 
     private static final SuggestionProvider<CommandSourceStack> CRASHED_FUNCTION_SUGGESTION_PROVIDER =
             (context, builder) -> SharedSuggestionProvider.suggest(
@@ -0,0 +1,86 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.commands;
+
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import com.wynntils.core.components.Models;
+import com.wynntils.core.consumers.commands.Command;
+import com.wynntils.models.containers.type.StoredItemLocation;
+import java.util.List;
+import net.minecraft.ChatFormatting;
+import net.minecraft.commands.CommandBuildContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.MutableComponent;
+
+public class StorageCommand extends Command {
+    private static final int MAX_RESULTS_SHOWN = 20;
+
+    @Override
+    public String getCommandName() {
+        return "storage";
+    }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> getCommandBuilder(
+            LiteralArgumentBuilder<CommandSourceStack> base, CommandBuildContext context) {
+        return base.then(Commands.literal("search")
+                        .then(Commands.argument("query", StringArgumentType.greedyString())
+                                .executes(this::searchStorage)))
+                .executes(this::syntaxError);
+    }
+
+    private int searchStorage(CommandContext<CommandSourceStack> context) {
+        String query = StringArgumentType.getString(context, "query");
+        List<StoredItemLocation> locations = Models.StorageIndex.findItems(query);
+
+        if (locations.isEmpty()) {
+            context.getSource()
+                    .sendFailure(Component.translatable("command.wynntils.storage.noResults", query)
+                            .withStyle(ChatFormatting.RED));
+            return 1;
+        }
+
+        MutableComponent response = Component.translatable("command.wynntils.storage.found", locations.size())
+                .withStyle(ChatFormatting.AQUA);
+
+        for (StoredItemLocation location : locations.stream().limit(MAX_RESULTS_SHOWN).toList()) {
+            response.append(Component.literal("\n - ").withStyle(ChatFormatting.GRAY))
+                    .append(Component.literal(location.item().name()).withStyle(ChatFormatting.WHITE));
+
+            if (location.item().count() > 1) {
+                response.append(Component.literal(" x" + location.item().count()).withStyle(ChatFormatting.WHITE));
+            }
+
+            response.append(Component.literal(" "))
+                    .append(Component.translatable(
+                                    "command.wynntils.storage.location",
+                                    location.storageType().getDisplayName(),
+                                    location.page(),
+                                    location.getRow(),
+                                    location.getColumn())
+                            .withStyle(ChatFormatting.GRAY));
+        }
+
+        if (locations.size() > MAX_RESULTS_SHOWN) {
+            response.append(Component.literal("\n "))
+                    .append(Component.translatable(
+                                    "command.wynntils.storage.more", locations.size() - MAX_RESULTS_SHOWN)
+                            .withStyle(ChatFormatting.GRAY));
+        }
+
+        context.getSource().sendSuccess(() -> response, false);
+
+        return 1;
+    }
+
+    private int syntaxError(CommandContext<CommandSourceStack> context) {
+        context.getSource().sendFailure(Component.literal("Missing argument").withStyle(ChatFormatting.RED));
+        return 0;
+    }
+}
@@ -4,16 +4,24 @@
  */
 package com.wynntils.commands;
 
+import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.context.CommandContext;
 import com.wynntils.core.WynntilsMod;
-import com.wynntils.core.components.Handlers;
 import com.wynntils.core.components.Managers;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.components.Services;
 import com.wynntils.core.consumers.commands.Command;
+import com.wynntils.core.consumers.overlays.Overlay;
+import com.wynntils.core.consumers.overlays.OverlayManager;
+import com.wynntils.core.consumers.overlays.RetainedRenderState;
+import com.wynntils.core.events.EventBusWrapper;
+import com.wynntils.core.metrics.CounterMetric;
+import com.wynntils.core.metrics.Metric;
+import com.wynntils.core.metrics.TimerMetric;
 import com.wynntils.core.net.ApiResponse;
 import com.wynntils.core.net.UrlId;
+import com.wynntils.handlers.item.ItemHandler;
 import com.wynntils.screens.crowdsourcing.WynntilsCrowdSourcingSettingsScreen;
 import com.wynntils.screens.downloads.DownloadScreen;
 import com.wynntils.screens.maps.GuildMapScreen;
@@ -26,10 +34,12 @@ import com.wynntils.utils.FileUtils;
 import com.wynntils.utils.colors.CommonColors;
 import com.wynntils.utils.mc.McUtils;
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -84,7 +94,13 @@ public class WynntilsCommand extends Command {
                         .then(Commands.literal("profile")
                                 .then(Commands.literal("reset").executes(this::profileReset))
                                 .then(Commands.literal("showAnnotations").executes(this::profileShowAnnotations))
+                                .then(Commands.literal("showListeners").executes(this::profileShowListeners))
                                 .then(Commands.literal("showOverlays").executes(this::profileShowOverlays)))
+                        .then(Commands.literal("metrics")
+                                .then(Commands.literal("dump").executes(this::metricsDump))
+                                .then(Commands.argument("prefix", StringArgumentType.word())
+                                        .executes(this::metricsShowPrefix))
+                                .executes(this::metricsShow))
                         .then(Commands.literal("encodeModelData")
                                 .executes(Services.CustomModelDataEncoder::encodeCustomModelData)))
                 .then(Commands.literal("discord").executes(this::discordLink))
@@ -108,8 +124,8 @@ public class WynntilsCommand extends Command {
     }
 
     private int profileReset(CommandContext<CommandSourceStack> context) {
-        Handlers.Item.resetProfiling();
-        Managers.Overlay.resetProfiling();
+        Managers.Metrics.resetMetrics();
+        Managers.Overlay.resetRetainedRenderStatistics();
         context.getSource()
                 .sendSuccess(
                         () -> Component.translatable("command.wynntils.debug.profile.cleared")
@@ -120,49 +136,107 @@ public class WynntilsCommand extends Command {
     }
 
     private int profileShowAnnotations(CommandContext<CommandSourceStack> context) {
-        Map<Class<?>, Integer> profilingTimes = Handlers.Item.getProfilingTimes();
-        Map<Class<?>, Integer> profilingCounts = Handlers.Item.getProfilingCounts();
+        showProfilingData(context, ItemHandler.ANNOTATION_METRIC_PREFIX);
 
-        showProfilingData(context, profilingTimes, profilingCounts);
+        return 1;
+    }
+
+    private int profileShowListeners(CommandContext<CommandSourceStack> context) {
+        if (!EventBusWrapper.isProfilingEnabled()) {
+            context.getSource()
+                    .sendFailure(Component.translatable(
+                                    "command.wynntils.debug.profile.listenersDisabled",
+                                    EventBusWrapper.PROFILE_PROPERTY)
+                            .withStyle(ChatFormatting.RED));
+            return 0;
+        }
+
+        showProfilingData(context, EventBusWrapper.LISTENER_METRIC_PREFIX);
+
+        List<CounterMetric> slowListeners = Managers.Metrics.getMetrics(EventBusWrapper.SLOW_LISTENER_METRIC_PREFIX)
+                .stream()
+                .filter(CounterMetric.class::isInstance)
+                .map(CounterMetric.class::cast)
+                .sorted(Comparator.comparingLong(CounterMetric::getCount).reversed())
+                .limit(5)
+                .toList();
+        if (slowListeners.isEmpty()) return 1;
+
+        MutableComponent response = Component.translatable("command.wynntils.debug.profile.slowListeners")
+                .withStyle(ChatFormatting.GOLD);
+        for (CounterMetric counter : slowListeners) {
+            response.append(Component.literal("\n" + counter.getSummary() + "  "
+                            + counter.getName().substring(EventBusWrapper.SLOW_LISTENER_METRIC_PREFIX.length()))
+                    .withStyle(ChatFormatting.AQUA));
+        }
+        context.getSource().sendSuccess(() -> response, false);
 
         return 1;
     }
 
     private int profileShowOverlays(CommandContext<CommandSourceStack> context) {
-        Map<Class<?>, Integer> profilingTimes = Managers.Overlay.getProfilingTimes();
-        Map<Class<?>, Integer> profilingCounts = Managers.Overlay.getProfilingCounts();
+        showProfilingData(context, OverlayManager.RENDER_METRIC_PREFIX);
+
+        Map<Overlay, RetainedRenderState<?>> renderStates = Managers.Overlay.getRetainedRenderStates();
+        int hits = renderStates.values().stream().mapToInt(RetainedRenderState::getHits).sum();
+        int misses = renderStates.values().stream().mapToInt(RetainedRenderState::getMisses).sum();
 
-        showProfilingData(context, profilingTimes, profilingCounts);
+        MutableComponent response = Component.translatable(
+                        "command.wynntils.debug.profile.cacheHitRate", getHitRate(hits, misses), hits, misses)
+                .withStyle(ChatFormatting.AQUA);
+
+        // List the overlays that missed most first, as those are the ones failing to retain their state
+        renderStates.entrySet().stream()
+                .filter(entry -> entry.getValue().getHits() + entry.getValue().getMisses() > 0)
+                .sorted((entry, other) ->
+                        Integer.compare(other.getValue().getMisses(), entry.getValue().getMisses()))
+                .forEach(entry -> {
+                    RetainedRenderState<?> renderState = entry.getValue();
+                    response.append(Component.literal("\n"))
+                            .append(Component.translatable(
+                                            "command.wynntils.debug.profile.overlayCacheHitRate",
+                                            entry.getKey().getJsonName(),
+                                            getHitRate(renderState.getHits(), renderState.getMisses()),
+                                            renderState.getHits(),
+                                            renderState.getMisses())
+                                    .withStyle(ChatFormatting.GRAY));
+                });
+
+        context.getSource().sendSuccess(() -> response, false);
 
         return 1;
     }
 
-    private void showProfilingData(
-            CommandContext<CommandSourceStack> context,
-            Map<Class<?>, Integer> profilingTimes,
-            Map<Class<?>, Integer> profilingCounts) {
+    private static String getHitRate(int hits, int misses) {
+        return String.format("%.1f", hits + misses == 0 ? 0 : hits * 100.0 / (hits + misses));
+    }
+
+    private void showProfilingData(CommandContext<CommandSourceStack> context, String metricPrefix) {
+        List<TimerMetric> timers = Managers.Metrics.getMetrics(metricPrefix).stream()
+                .filter(TimerMetric.class::isInstance)
+                .map(TimerMetric.class::cast)
+                .toList();
+
         StringBuilder resList = new StringBuilder();
-        profilingTimes.entrySet().stream()
-                .sorted(Map.Entry.<Class<?>, Integer>comparingByValue().reversed())
+        timers.stream()
+                .sorted(Comparator.comparingLong(TimerMetric::getTotalNanos).reversed())
                 .limit(10)
-                .forEach(entry -> {
-                    int time = entry.getValue();
-                    int count = profilingCounts.get(entry.getKey());
-                    double average = (double) time / count;
-                    resList.append("%7d ms, %7d c, avg: %7.2f ms/c  %s\n"
-                            .formatted(time, count, average, entry.getKey().getSimpleName()));
-                });
+                .forEach(timer -> resList.append(timer.getSummary())
+                        .append("  ")
+                        .append(timer.getName().substring(metricPrefix.length()))
+                        .append("\n"));
 
         context.getSource()
                 .sendSuccess(() -> Component.literal(resList.toString()).withStyle(ChatFormatting.AQUA), false);
 
-        int totalCount = profilingCounts.values().stream().reduce(0, Integer::sum);
-        int totalTime = profilingTimes.values().stream().reduce(0, Integer::sum);
-        double average = (double) totalTime / totalCount;
+        long totalCount = timers.stream().mapToLong(TimerMetric::getCount).sum();
+        double totalTime = timers.stream().mapToDouble(TimerMetric::getTotalMillis).sum();
+        String average = "%.3f".formatted(totalCount == 0 ? 0 : totalTime / totalCount);
 
         context.getSource()
                 .sendSuccess(
-                        () -> Component.translatable("command.wynntils.debug.profile.total", totalTime, totalCount)
+                        () -> Component.translatable(
+                                        "command.wynntils.debug.profile.total", "%.2f".formatted(totalTime), totalCount)
                                 .withStyle(ChatFormatting.AQUA),
                         false);
         context.getSource()
@@ -172,6 +246,53 @@ public class WynntilsCommand extends Command {
                         false);
     }
 
+    private int metricsShow(CommandContext<CommandSourceStack> context) {
+        return showMetrics(context, "");
+    }
+
+    private int metricsShowPrefix(CommandContext<CommandSourceStack> context) {
+        return showMetrics(context, StringArgumentType.getString(context, "prefix"));
+    }
+
+    private int showMetrics(CommandContext<CommandSourceStack> context, String prefix) {
+        List<Metric> metrics = Managers.Metrics.getMetrics(prefix);
+        if (metrics.isEmpty()) {
+            context.getSource()
+                    .sendFailure(Component.translatable("command.wynntils.debug.metrics.none")
+                            .withStyle(ChatFormatting.RED));
+            return 0;
+        }
+
+        MutableComponent response = Component.translatable("command.wynntils.debug.metrics.header", metrics.size())
+                .withStyle(ChatFormatting.GOLD);
+        for (Metric metric : metrics) {
+            response.append(Component.literal("\n" + metric.getName() + ": ").withStyle(ChatFormatting.WHITE))
+                    .append(Component.literal(metric.getSummary()).withStyle(ChatFormatting.AQUA));
+        }
+
+        context.getSource().sendSuccess(() -> response, false);
+
+        return 1;
+    }
+
+    private int metricsDump(CommandContext<CommandSourceStack> context) {
+        File dumpFile = Managers.Metrics.dumpMetrics();
+        if (dumpFile == null) {
+            context.getSource()
+                    .sendFailure(Component.translatable("command.wynntils.debug.metrics.dumpFailed")
+                            .withStyle(ChatFormatting.RED));
+            return 0;
+        }
+
+        context.getSource()
+                .sendSuccess(
+                        () -> Component.translatable("command.wynntils.debug.metrics.dumped", dumpFile.getPath())
+                                .withStyle(ChatFormatting.GREEN),
+                        false);
+
+        return 1;
+    }
+
     private int reauth(CommandContext<CommandSourceStack> context) {
         context.getSource()
                 .sendSuccess(
@@ -437,6 +558,9 @@ public class WynntilsCommand extends Command {
 
         McUtils.player().closeContainer();
 
+        // Make the next content book scans full scans
+        Models.Activity.clearContentBookSnapshots();
+
         // This should probably be changed to a function interface if more were to be added to it.
         Managers.TickScheduler.scheduleNextTick(() -> {
             Models.Character.scanCharacterInfo(() -> {
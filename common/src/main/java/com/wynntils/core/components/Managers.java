@@ -12,6 +12,7 @@ import com.wynntils.core.consumers.overlays.OverlayManager;
 import com.wynntils.core.crowdsource.CrowdSourcedDataManager;
 import com.wynntils.core.json.JsonManager;
 import com.wynntils.core.keybinds.KeyBindManager;
+import com.wynntils.core.metrics.MetricsManager;
 import com.wynntils.core.mod.ConnectionManager;
 import com.wynntils.core.mod.CrashReportManager;
 import com.wynntils.core.mod.TickSchedulerManager;
@@ -21,9 +22,11 @@ import com.wynntils.core.net.UrlManager;
 import com.wynntils.core.notifications.NotificationManager;
 import com.wynntils.core.persisted.PersistedManager;
 import com.wynntils.core.persisted.config.ConfigManager;
+import com.wynntils.core.persisted.eventlog.EventLogManager;
 import com.wynntils.core.persisted.storage.StorageManager;
 import com.wynntils.core.persisted.upfixers.UpfixerManager;
 import com.wynntils.core.properties.SystemPropertiesManager;
+import com.wynntils.core.search.SearchManager;
 import com.wynntils.core.text.fonts.FontManager;
 
 public final class Managers {
@@ -40,13 +43,16 @@ public final class Managers {
     public static final ConnectionManager Connection = new ConnectionManager();
     public static final CrashReportManager CrashReport = new CrashReportManager();
     public static final CrowdSourcedDataManager CrowdSourcedData = new CrowdSourcedDataManager();
+    public static final EventLogManager EventLog = new EventLogManager();
     public static final FeatureManager Feature = new FeatureManager();
     public static final FontManager Font = new FontManager();
     public static final FunctionManager Function = new FunctionManager();
     public static final JsonManager Json = new JsonManager();
     public static final KeyBindManager KeyBind = new KeyBindManager();
+    public static final MetricsManager Metrics = new MetricsManager();
     public static final NotificationManager Notification = new NotificationManager();
     public static final PersistedManager Persisted = new PersistedManager();
+    public static final SearchManager Search = new SearchManager();
     public static final StorageManager Storage = new StorageManager();
     public static final TickSchedulerManager TickScheduler = new TickSchedulerManager();
     public static final UpfixerManager Upfixer = new UpfixerManager();
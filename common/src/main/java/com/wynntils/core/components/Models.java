@@ -30,6 +30,7 @@ import com.wynntils.models.combat.CombatModel;
 import com.wynntils.models.containers.BankModel;
 import com.wynntils.models.containers.ContainerModel;
 import com.wynntils.models.containers.LootChestModel;
+import com.wynntils.models.containers.StorageIndexModel;
 import com.wynntils.models.cutscene.CutsceneModel;
 import com.wynntils.models.dialogue.DialogueModel;
 import com.wynntils.models.elements.ElementModel;
@@ -136,6 +137,7 @@ public final class Models {
     public static final SpellCasterModel SpellCaster = new SpellCasterModel();
     public static final StatModel Stat = new StatModel();
     public static final StatusEffectModel StatusEffect = new StatusEffectModel();
+    public static final StorageIndexModel StorageIndex = new StorageIndexModel();
     public static final StoreModel Store = new StoreModel();
     public static final StreamerModeModel StreamerMode = new StreamerModeModel();
     public static final TeleportScrollModel TeleportScroll = new TeleportScrollModel();
@@ -23,6 +23,7 @@ import com.wynntils.commands.OnlineMembersCommand;
 import com.wynntils.commands.PlayerCommand;
 import com.wynntils.commands.ServersCommand;
 import com.wynntils.commands.StatisticsCommand;
+import com.wynntils.commands.StorageCommand;
 import com.wynntils.commands.TerritoryCommand;
 import com.wynntils.commands.WynntilsCommand;
 import com.wynntils.core.WynntilsMod;
@@ -191,6 +192,7 @@ public final class ClientCommandManager extends Manager {
         registerCommand(new PlayerCommand());
         registerCommand(new ServersCommand());
         registerCommand(new StatisticsCommand());
+        registerCommand(new StorageCommand());
         registerCommand(new TerritoryCommand());
 
         // The WynntilsCommand must be registered last, since it
@@ -6,6 +6,7 @@ package com.wynntils.core.consumers.functions;
 
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Manager;
+import com.wynntils.core.components.Managers;
 import com.wynntils.core.consumers.functions.arguments.Argument;
 import com.wynntils.core.consumers.functions.arguments.FunctionArguments;
 import com.wynntils.core.consumers.functions.arguments.parser.ArgumentParser;
@@ -13,6 +14,7 @@ import com.wynntils.core.consumers.functions.expressions.Expression;
 import com.wynntils.core.consumers.functions.expressions.parser.ExpressionParser;
 import com.wynntils.core.consumers.functions.templates.Template;
 import com.wynntils.core.consumers.functions.templates.parser.TemplateParser;
+import com.wynntils.core.metrics.TimerMetric;
 import com.wynntils.core.mod.type.CrashType;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.core.text.type.StyleType;
@@ -72,8 +74,11 @@ public final class FunctionManager extends Manager {
     private static final Pattern HEX_COLOR_PATTERN = Pattern.compile("&(?<!\\\\)(#[0-9A-Fa-f]{8})");
     private static final Pattern FORMATTING_CODE_PATTERN = Pattern.compile("&(?<!\\\\)([0-9a-fA-Fk-oK-OrR])");
     private static final Pattern NBSP_PATTERN = Pattern.compile("\u00A0");
+    private static final String FUNCTION_METRIC_PREFIX = "function.evaluate.";
+
     private final List<Function<?>> functions = new ArrayList<>();
     private final Set<Function<?>> crashedFunctions = new HashSet<>();
+    private final Map<Function<?>, TimerMetric> functionTimers = new HashMap<>();
 
     // We do not clear this cache, as it is not expected to grow too large
     private final Map<String, Template> calculatedTemplateCache = new HashMap<>();
@@ -122,8 +127,12 @@ public final class FunctionManager extends Manager {
             return Optional.empty();
         }
 
+        TimerMetric timer = functionTimers.computeIfAbsent(
+                function, f -> Managers.Metrics.getTimer(FUNCTION_METRIC_PREFIX + f.getName()));
+        long startTime = timer.start();
         try {
             Object value = function.getValue(arguments);
+            timer.stop(startTime);
             return Optional.ofNullable(value);
         } catch (Throwable throwable) {
             crashFunction(function);
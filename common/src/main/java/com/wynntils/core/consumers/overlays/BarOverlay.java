@@ -15,6 +15,7 @@ import com.wynntils.utils.render.FontRenderer;
 import com.wynntils.utils.render.RenderUtils;
 import com.wynntils.utils.render.Texture;
 import com.wynntils.utils.render.type.HorizontalAlignment;
+import com.wynntils.utils.render.type.PreparedText;
 import com.wynntils.utils.render.type.TextShadow;
 import com.wynntils.utils.render.type.VerticalAlignment;
 import com.wynntils.utils.type.CappedValue;
@@ -37,6 +38,8 @@ public abstract class BarOverlay extends DynamicOverlay {
     @Persisted(i18nKey = "overlay.wynntils.barOverlay.heightModifier")
     private final Config<Float> heightModifier = new Config<>(1f);
 
+    private final RetainedRenderState<PreparedText> textRenderState = new RetainedRenderState<>();
+
     private Pair<StyledText, ErrorOr<CappedValue>> templateCache;
 
     private float currentProgress = 0f;
@@ -58,7 +61,7 @@ public abstract class BarOverlay extends DynamicOverlay {
         if (templateCache == null) {
             templateCache = calculateTemplate(template);
         }
-        render(guiGraphics, currentProgress, templateCache.key());
+        render(guiGraphics, currentProgress, templateCache.key(), true);
     }
 
     @Override
@@ -75,7 +78,7 @@ public abstract class BarOverlay extends DynamicOverlay {
         // Do not render bars that has no value
         if (valueOrError.getValue().equals(CappedValue.EMPTY)) return;
 
-        render(guiGraphics, (float) valueOrError.getValue().getProgress(), calculatedTemplate.key());
+        render(guiGraphics, (float) valueOrError.getValue().getProgress(), calculatedTemplate.key(), false);
     }
 
     @Override
@@ -107,11 +110,31 @@ public abstract class BarOverlay extends DynamicOverlay {
         }
     }
 
-    private void render(GuiGraphics guiGraphics, float renderedProgress, StyledText textValue) {
+    @Override
+    public RetainedRenderState<?> getRetainedRenderState() {
+        return textRenderState;
+    }
+
+    private void render(GuiGraphics guiGraphics, float renderedProgress, StyledText textValue, boolean retained) {
         float barHeight = getTextureHeight() * heightModifier.get();
         float renderY = getModifiedRenderY(barHeight + 10);
 
-        renderText(guiGraphics, renderY, textValue);
+        if (retained) {
+            // The bar itself animates every tick, but the text usually stays the same for a long time
+            PreparedText preparedText = textRenderState.get(
+                    new TextRenderKey(
+                            textValue,
+                            getRenderX(),
+                            renderY,
+                            getWidth(),
+                            getRenderColor(),
+                            getRenderHorizontalAlignment(),
+                            textShadow.get()),
+                    () -> prepareText(renderY, textValue));
+            FontRenderer.getInstance().renderPreparedText(guiGraphics, preparedText);
+        } else {
+            renderText(guiGraphics, renderY, textValue);
+        }
 
         float progress = (flip.get() ? -1 : 1) * renderedProgress;
         renderBar(guiGraphics, renderY + 10, barHeight, progress);
@@ -194,6 +217,22 @@ public abstract class BarOverlay extends DynamicOverlay {
                         textShadow.get());
     }
 
+    private PreparedText prepareText(float renderY, StyledText text) {
+        return FontRenderer.getInstance()
+                .prepareAlignedTextInBox(
+                        new StyledText[] {text},
+                        getRenderX(),
+                        getRenderX() + getWidth(),
+                        renderY,
+                        renderY,
+                        0,
+                        getRenderColor(),
+                        getRenderHorizontalAlignment(),
+                        VerticalAlignment.TOP,
+                        textShadow.get(),
+                        1f);
+    }
+
     private float getModifiedRenderY(float renderedHeight) {
         return switch (this.getRenderVerticalAlignment()) {
             case TOP -> this.getRenderY();
@@ -217,4 +256,13 @@ public abstract class BarOverlay extends DynamicOverlay {
     protected abstract BarOverlayTemplatePair getPreviewTemplate();
 
     public record BarOverlayTemplatePair(String textTemplate, String valueTemplate) {}
+
+    private record TextRenderKey(
+            StyledText text,
+            float x,
+            float y,
+            float width,
+            CustomColor color,
+            HorizontalAlignment horizontalAlignment,
+            TextShadow textShadow) {}
 }
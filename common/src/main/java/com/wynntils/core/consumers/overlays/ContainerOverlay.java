@@ -221,7 +221,7 @@ public abstract class ContainerOverlay<T extends Overlay> extends Overlay {
         }
 
         private void updateSize(Overlay overlay, OverlaySize containerSize, OverlaySize inherentSize) {
-            OverlaySize size = overlay.getSize();
+            OverlaySize size = overlay.getSize().copy();
 
             if (verticalMultiplier != 0) {
                 size.setWidth(containerSize.getWidth());
@@ -231,6 +231,9 @@ public abstract class ContainerOverlay<T extends Overlay> extends Overlay {
                 size.setWidth(inherentSize.getWidth());
                 size.setHeight(containerSize.getHeight());
             }
+
+            // Store a new size rather than modifying it in place, so the change is saved
+            overlay.size.store(size);
         }
 
         private OverlayPosition getChildPosition(
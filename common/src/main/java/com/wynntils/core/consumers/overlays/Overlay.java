@@ -154,6 +154,13 @@ public abstract class Overlay extends AbstractConfigurable implements Comparable
 
     protected void tick() {}
 
+    /**
+     * Overlays that support retained rendering return their render state here, so it can be profiled.
+     */
+    public RetainedRenderState<?> getRetainedRenderState() {
+        return null;
+    }
+
     protected void updateEnabledCache() {
         String template = enabledTemplate.get();
         if (template.isBlank()) {
@@ -359,10 +366,14 @@ public abstract class Overlay extends AbstractConfigurable implements Comparable
     }
 
     public void setHeight(float height) {
-        getSize().setHeight(height);
+        OverlaySize newSize = getSize().copy();
+        newSize.setHeight(height);
+        size.store(newSize);
     }
 
     public void setWidth(float width) {
-        getSize().setWidth(width);
+        OverlaySize newSize = getSize().copy();
+        newSize.setWidth(width);
+        size.store(newSize);
     }
 }
@@ -11,6 +11,7 @@ import com.wynntils.core.components.Managers;
 import com.wynntils.core.consumers.features.Feature;
 import com.wynntils.core.consumers.overlays.annotations.OverlayGroup;
 import com.wynntils.core.consumers.overlays.annotations.RegisterOverlay;
+import com.wynntils.core.metrics.TimerMetric;
 import com.wynntils.core.mod.CrashReportManager;
 import com.wynntils.core.mod.type.CrashType;
 import com.wynntils.core.persisted.config.Config;
@@ -30,9 +31,11 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -42,6 +45,8 @@ import net.neoforged.bus.api.SubscribeEvent;
 import org.apache.commons.lang3.reflect.FieldUtils;
 
 public final class OverlayManager extends Manager {
+    public static final String RENDER_METRIC_PREFIX = "overlay.render.";
+
     private final Map<Feature, List<Overlay>> overlayParentMap = new HashMap<>();
     private final Map<Overlay, OverlayInfoContainer> overlayInfoMap = new HashMap<>();
     private final Map<Feature, List<OverlayGroupHolder>> overlayGroupMap = new HashMap<>();
@@ -51,8 +56,7 @@ public final class OverlayManager extends Manager {
     private boolean renderOrdersInitialized = false;
 
     private final List<SectionCoordinates> sections = new ArrayList<>(9);
-    private final Map<Class<?>, Integer> profilingTimes = new HashMap<>();
-    private final Map<Class<?>, Integer> profilingCounts = new HashMap<>();
+    private final Map<Class<?>, TimerMetric> renderTimers = new HashMap<>();
 
     public OverlayManager(CrashReportManager crashReportManager) {
         super(List.of(crashReportManager));
@@ -393,9 +397,9 @@ public final class OverlayManager extends Manager {
 
                     overlay.renderPreview(event.getGuiGraphics(), event.getDeltaTracker(), event.getWindow());
                 } else if (shouldRender && overlay.isRendered()) {
-                    long startTime = System.currentTimeMillis();
+                    long startTime = System.nanoTime();
                     overlay.renderOrErrorMessage(event.getGuiGraphics(), event.getDeltaTracker(), event.getWindow());
-                    logProfilingData(startTime, overlay);
+                    recordRenderTime(startTime, overlay);
                 }
             } catch (Throwable t) {
                 RenderUtils.disableScissor(event.getGuiGraphics());
@@ -423,27 +427,33 @@ public final class OverlayManager extends Manager {
 
     // region Profiling
 
-    private void logProfilingData(long startTime, Overlay overlay) {
-        long endTime = System.currentTimeMillis();
-        int timeSpent = (int) (endTime - startTime);
-        int allTime = profilingTimes.getOrDefault(overlay.getClass(), 0);
-        profilingTimes.put(overlay.getClass(), allTime + timeSpent);
-
-        int allCount = profilingCounts.getOrDefault(overlay.getClass(), 0);
-        profilingCounts.put(overlay.getClass(), allCount + 1);
-    }
-
-    public Map<Class<?>, Integer> getProfilingTimes() {
-        return profilingTimes;
-    }
+    private void recordRenderTime(long startTime, Overlay overlay) {
+        renderTimers
+                .computeIfAbsent(overlay.getClass(), clazz -> Managers.Metrics.getTimer(
+                        RENDER_METRIC_PREFIX + clazz.getSimpleName()))
+                .stop(startTime);
+    }
+
+    /**
+     * Returns the retained render state of every overlay that has one, so their hit rates can be compared.
+     */
+    public Map<Overlay, RetainedRenderState<?>> getRetainedRenderStates() {
+        Map<Overlay, RetainedRenderState<?>> renderStates = new LinkedHashMap<>();
+        for (Overlay overlay : getOverlays()) {
+            RetainedRenderState<?> renderState = overlay.getRetainedRenderState();
+            if (renderState != null) {
+                renderStates.put(overlay, renderState);
+            }
+        }
 
-    public Map<Class<?>, Integer> getProfilingCounts() {
-        return profilingCounts;
+        return renderStates;
     }
 
-    public void resetProfiling() {
-        profilingTimes.clear();
-        profilingCounts.clear();
+    public void resetRetainedRenderStatistics() {
+        getOverlays().stream()
+                .map(Overlay::getRetainedRenderState)
+                .filter(Objects::nonNull)
+                .forEach(RetainedRenderState::resetStatistics);
     }
 
     // endregion
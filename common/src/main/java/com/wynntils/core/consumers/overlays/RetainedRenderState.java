@@ -0,0 +1,50 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.core.consumers.overlays;
+
+import java.util.function.Supplier;
+
+/**
+ * Holds render state of an overlay in retained mode. The state is only rebuilt when its key changes, so overlays
+ * should use a key that captures the content version, position, scale and all other inputs of the state.
+ * Hits and misses are tracked for profiling.
+ */
+public final class RetainedRenderState<T> {
+    private Object key;
+    private T state;
+
+    private int hits = 0;
+    private int misses = 0;
+
+    public T get(Object newKey, Supplier<T> stateFactory) {
+        if (state != null && newKey.equals(key)) {
+            hits++;
+            return state;
+        }
+
+        misses++;
+        key = newKey;
+        state = stateFactory.get();
+        return state;
+    }
+
+    public void invalidate() {
+        key = null;
+        state = null;
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    public int getMisses() {
+        return misses;
+    }
+
+    public void resetStatistics() {
+        hits = 0;
+        misses = 0;
+    }
+}
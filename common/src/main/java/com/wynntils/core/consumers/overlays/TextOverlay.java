@@ -13,8 +13,10 @@ import com.wynntils.utils.colors.CommonColors;
 import com.wynntils.utils.colors.CustomColor;
 import com.wynntils.utils.render.FontRenderer;
 import com.wynntils.utils.render.type.HorizontalAlignment;
+import com.wynntils.utils.render.type.PreparedText;
 import com.wynntils.utils.render.type.TextShadow;
 import com.wynntils.utils.render.type.VerticalAlignment;
+import java.util.Arrays;
 import net.minecraft.client.DeltaTracker;
 import net.minecraft.client.gui.GuiGraphics;
 
@@ -37,7 +39,10 @@ public abstract class TextOverlay extends DynamicOverlay {
     @Persisted(i18nKey = "overlay.wynntils.textOverlay.backgroundBorderWidth")
     protected final Config<Float> backgroundBorderWidth = new Config<>(1.0f);
 
+    private final RetainedRenderState<PreparedText> renderState = new RetainedRenderState<>();
+
     private StyledText[] cachedLines = new StyledText[0];
+    private int contentVersion = 0;
 
     protected TextOverlay(OverlayPosition position, float width, float height) {
         super(position, width, height, 1);
@@ -70,7 +75,10 @@ public abstract class TextOverlay extends DynamicOverlay {
 
     @Override
     public void render(GuiGraphics guiGraphics, DeltaTracker deltaTracker, Window window) {
-        renderTemplate(guiGraphics, cachedLines, getTextScale());
+        float textScale = getTextScale();
+        PreparedText preparedText = renderState.get(
+                createRenderKey(contentVersion, textScale), () -> prepareTemplate(cachedLines, textScale));
+        FontRenderer.getInstance().renderPreparedText(guiGraphics, preparedText);
     }
 
     @Override
@@ -78,12 +86,20 @@ public abstract class TextOverlay extends DynamicOverlay {
         renderTemplate(guiGraphics, calculateTemplateValue(getPreviewTemplate()), getTextScale());
     }
 
+    @Override
+    public RetainedRenderState<?> getRetainedRenderState() {
+        return renderState;
+    }
+
     protected void renderTemplate(GuiGraphics guiGraphics, StyledText[] lines, float textScale) {
+        FontRenderer.getInstance().renderPreparedText(guiGraphics, prepareTemplate(lines, textScale));
+    }
+
+    private PreparedText prepareTemplate(StyledText[] lines, float textScale) {
         float renderX = this.getRenderX();
         float renderY = this.getRenderY();
-        FontRenderer.getInstance()
-                .renderAlignedHighlightedTextInBox(
-                        guiGraphics,
+        return FontRenderer.getInstance()
+                .prepareAlignedHighlightedTextInBox(
                         lines,
                         renderX,
                         renderX + this.getWidth(),
@@ -99,10 +115,31 @@ public abstract class TextOverlay extends DynamicOverlay {
                         textScale);
     }
 
+    private RenderKey createRenderKey(int version, float textScale) {
+        return new RenderKey(
+                version,
+                this.getRenderX(),
+                this.getRenderY(),
+                this.getWidth(),
+                this.getHeight(),
+                textScale,
+                fitText.get(),
+                this.backgroundBorderWidth.get(),
+                this.getRenderColor(),
+                this.backgroundColor.get(),
+                this.getRenderHorizontalAlignment(),
+                this.getRenderVerticalAlignment(),
+                this.textShadow.get());
+    }
+
     @Override
     public void tick() {
         if (!isRendered()) return;
-        cachedLines = calculateTemplateValue(getTemplate());
+        StyledText[] newLines = calculateTemplateValue(getTemplate());
+        if (Arrays.equals(newLines, cachedLines)) return;
+
+        cachedLines = newLines;
+        contentVersion++;
     }
 
     @Override
@@ -125,4 +162,19 @@ public abstract class TextOverlay extends DynamicOverlay {
     protected abstract String getTemplate();
 
     protected abstract String getPreviewTemplate();
+
+    private record RenderKey(
+            int contentVersion,
+            float x,
+            float y,
+            float width,
+            float height,
+            float textScale,
+            boolean fitText,
+            float borderWidth,
+            CustomColor textColor,
+            CustomColor backgroundColor,
+            HorizontalAlignment horizontalAlignment,
+            VerticalAlignment verticalAlignment,
+            TextShadow textShadow) {}
 }
@@ -0,0 +1,233 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.core.events;
+
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.core.components.Managers;
+import com.wynntils.core.metrics.CounterMetric;
+import com.wynntils.core.metrics.TimerMetric;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import net.neoforged.bus.api.Event;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.bus.api.SubscribeEvent;
+
+/**
+ * Wraps every {@link SubscribeEvent} method registered on the event bus in a timed listener, recording a timer metric
+ * per listener, and counting how often each event type is posted. Listeners spending more than the tick budget in a
+ * single client tick are counted as slow, and logged the first time it happens.
+ */
+final class EventBusProfiler {
+    private static final long TICK_BUDGET_NANOS =
+            TimeUnit.MICROSECONDS.toNanos(Long.getLong(EventBusWrapper.TICK_BUDGET_PROPERTY, 2000));
+
+    private final IEventBus eventBus;
+    private final Map<Object, List<ProfiledListener<?>>> profiledTargets =
+            Collections.synchronizedMap(new IdentityHashMap<>());
+    private final List<ProfiledListener<?>> listeners = new CopyOnWriteArrayList<>();
+    private final Map<Class<?>, LongAdder> postCounts = new ConcurrentHashMap<>();
+    private final Map<Class<?>, CounterMetric> postCounters = new ConcurrentHashMap<>();
+
+    EventBusProfiler(IEventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    /**
+     * Registers all instance listeners of the target as profiled listeners. Returns false if the target has to be
+     * registered on the bus directly instead.
+     */
+    boolean register(Object target) {
+        if (target instanceof Class<?>) return false;
+        if (profiledTargets.containsKey(target)) return true;
+
+        List<ProfiledListener<?>> targetListeners = new ArrayList<>();
+        Set<Class<?>> supertypes = getSupertypes(target.getClass());
+        for (Method method : target.getClass().getMethods()) {
+            SubscribeEvent annotation = findSubscribeEvent(supertypes, method);
+            if (annotation == null) continue;
+
+            // Let the bus handle (and report) anything it would not accept itself
+            if (Modifier.isStatic(method.getModifiers())
+                    || method.getParameterCount() != 1
+                    || !Event.class.isAssignableFrom(method.getParameterTypes()[0])) {
+                return false;
+            }
+
+            targetListeners.add(createListener(target, method, annotation));
+        }
+
+        for (ProfiledListener<?> listener : targetListeners) {
+            listener.addTo(eventBus);
+        }
+        listeners.addAll(targetListeners);
+        profiledTargets.put(target, targetListeners);
+
+        return true;
+    }
+
+    /**
+     * Unregisters the profiled listeners of the target. Returns false if the target was not registered through the
+     * profiler.
+     */
+    boolean unregister(Object target) {
+        List<ProfiledListener<?>> targetListeners = profiledTargets.remove(target);
+        if (targetListeners == null) return false;
+
+        targetListeners.forEach(listener -> eventBus.unregister(listener));
+        listeners.removeAll(targetListeners);
+
+        return true;
+    }
+
+    void onPost(Event event) {
+        postCounts.computeIfAbsent(event.getClass(), eventClass -> new LongAdder()).increment();
+    }
+
+    void onTickEnd() {
+        // Posts are counted locally, since events can be posted before the metrics registry exists
+        postCounts.forEach((eventClass, count) -> postCounters
+                .computeIfAbsent(eventClass, c -> Managers.Metrics.getCounter(
+                        EventBusWrapper.POSTED_METRIC_PREFIX + getEventName(eventClass)))
+                .add(count.sumThenReset()));
+
+        for (ProfiledListener<?> listener : listeners) {
+            long tickNanos = listener.tickNanos.getAndSet(0);
+            if (tickNanos <= TICK_BUDGET_NANOS) continue;
+
+            if (listener.slowCounter == null) {
+                listener.slowCounter =
+                        Managers.Metrics.getCounter(EventBusWrapper.SLOW_LISTENER_METRIC_PREFIX + listener.name);
+                WynntilsMod.warn("Event listener " + listener.name + " spent "
+                        + TimeUnit.NANOSECONDS.toMicros(tickNanos) + " µs in a single tick, over the budget of "
+                        + TimeUnit.NANOSECONDS.toMicros(TICK_BUDGET_NANOS) + " µs");
+            }
+            listener.slowCounter.increment();
+        }
+    }
+
+    private static ProfiledListener<?> createListener(Object target, Method method, SubscribeEvent annotation) {
+        @SuppressWarnings("unchecked")
+        Class<? extends Event> eventClass = (Class<? extends Event>) method.getParameterTypes()[0];
+        String name = target.getClass().getSimpleName() + "#" + method.getName() + "(" + getEventName(eventClass)
+                + ")";
+
+        MethodHandle handle;
+        try {
+            method.setAccessible(true);
+            handle = MethodHandles.lookup()
+                    .unreflect(method)
+                    .bindTo(target)
+                    .asType(MethodType.methodType(void.class, Event.class));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalArgumentException("Cannot profile event listener " + name, e);
+        }
+
+        return new ProfiledListener<>(name, eventClass, annotation, handle);
+    }
+
+    /**
+     * Finds the {@link SubscribeEvent} annotation of the method the same way the bus does, which also accepts it on
+     * the declaration of the method in any supertype, so overriding listeners are profiled as well.
+     */
+    private static SubscribeEvent findSubscribeEvent(Set<Class<?>> supertypes, Method method) {
+        for (Class<?> supertype : supertypes) {
+            try {
+                Method declaredMethod = supertype.getDeclaredMethod(method.getName(), method.getParameterTypes());
+                SubscribeEvent annotation = declaredMethod.getAnnotation(SubscribeEvent.class);
+                if (annotation != null) return annotation;
+            } catch (NoSuchMethodException e) {
+                // Not declared in this supertype
+            }
+        }
+
+        return null;
+    }
+
+    private static Set<Class<?>> getSupertypes(Class<?> targetClass) {
+        Set<Class<?>> supertypes = new LinkedHashSet<>();
+        Deque<Class<?>> toVisit = new ArrayDeque<>();
+        toVisit.add(targetClass);
+
+        while (!toVisit.isEmpty()) {
+            Class<?> type = toVisit.removeFirst();
+            if (!supertypes.add(type)) continue;
+
+            if (type.getSuperclass() != null) {
+                toVisit.add(type.getSuperclass());
+            }
+            toVisit.addAll(Arrays.asList(type.getInterfaces()));
+        }
+
+        return supertypes;
+    }
+
+    private static String getEventName(Class<?> eventClass) {
+        String packageName = eventClass.getPackageName();
+        return eventClass.getName().substring(packageName.isEmpty() ? 0 : packageName.length() + 1);
+    }
+
+    private static final class ProfiledListener<T extends Event> implements Consumer<T> {
+        private final String name;
+        private final Class<T> eventClass;
+        private final SubscribeEvent annotation;
+        private final MethodHandle handle;
+        private final AtomicLong tickNanos = new AtomicLong();
+
+        private TimerMetric timer;
+        private CounterMetric slowCounter;
+
+        private ProfiledListener(
+                String name, Class<T> eventClass, SubscribeEvent annotation, MethodHandle handle) {
+            this.name = name;
+            this.eventClass = eventClass;
+            this.annotation = annotation;
+            this.handle = handle;
+        }
+
+        private void addTo(IEventBus eventBus) {
+            eventBus.addListener(annotation.priority(), annotation.receiveCanceled(), eventClass, this);
+        }
+
+        @Override
+        public void accept(T event) {
+            // Listeners are only registered after the managers are created, so the registry is available here
+            if (timer == null) {
+                timer = Managers.Metrics.getTimer(EventBusWrapper.LISTENER_METRIC_PREFIX + name);
+            }
+
+            long start = System.nanoTime();
+            try {
+                handle.invokeExact((Event) event);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            } finally {
+                long duration = System.nanoTime() - start;
+                timer.record(duration);
+                tickNanos.addAndGet(duration);
+            }
+        }
+    }
+}
@@ -5,18 +5,42 @@
 package com.wynntils.core.events;
 
 import com.wynntils.core.WynntilsMod;
+import com.wynntils.mc.event.TickAlwaysEvent;
 import java.util.Arrays;
 import java.util.Locale;
 import net.neoforged.bus.BusBuilderImpl;
 import net.neoforged.bus.EventBus;
 import net.neoforged.bus.api.BusBuilder;
 import net.neoforged.bus.api.Event;
+import net.neoforged.bus.api.EventPriority;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.bus.api.SubscribeEvent;
 
 public class EventBusWrapper extends EventBus {
+    // The bus is created before any manager, so these are read as plain system properties
+    public static final String PROFILE_PROPERTY = "wynntils.eventbus.profile";
+    static final String TICK_BUDGET_PROPERTY = "wynntils.eventbus.tickBudgetMicros";
+
+    public static final String LISTENER_METRIC_PREFIX = "event.listener.";
+    public static final String SLOW_LISTENER_METRIC_PREFIX = "event.slow.";
+    public static final String POSTED_METRIC_PREFIX = "event.posted.";
+
+    private final EventBusProfiler profiler;
+
     private EventBusWrapper(BusBuilderImpl busBuilder) {
         super(busBuilder);
+
+        // With profiling enabled, every listener is wrapped to measure the time spent in it
+        if (isProfilingEnabled()) {
+            profiler = new EventBusProfiler(this);
+            addListener(EventPriority.LOWEST, true, TickAlwaysEvent.class, event -> profiler.onTickEnd());
+        } else {
+            profiler = null;
+        }
+    }
+
+    public static boolean isProfilingEnabled() {
+        return Boolean.getBoolean(PROFILE_PROPERTY);
     }
 
     public static IEventBus createEventBus() {
@@ -40,9 +64,27 @@ public class EventBusWrapper extends EventBus {
         // (because they are of a certain class)
         if (!anyEvents) return;
 
+        if (profiler != null && profiler.register(target)) return;
+
         super.register(target);
     }
 
+    @Override
+    public void unregister(Object object) {
+        if (profiler != null && profiler.unregister(object)) return;
+
+        super.unregister(object);
+    }
+
+    @Override
+    public <T extends Event> T post(T event) {
+        if (profiler != null) {
+            profiler.onPost(event);
+        }
+
+        return super.post(event);
+    }
+
     private static final class DevelopmentEnvironment extends EventBusWrapper {
         private DevelopmentEnvironment(BusBuilderImpl busBuilder) {
             super(busBuilder);
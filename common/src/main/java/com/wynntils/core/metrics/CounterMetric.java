@@ -0,0 +1,52 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.core.metrics;
+
+import com.google.gson.JsonObject;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class CounterMetric implements Metric {
+    private final String name;
+    private final LongAdder count = new LongAdder();
+
+    CounterMetric(String name) {
+        this.name = name;
+    }
+
+    public void increment() {
+        count.increment();
+    }
+
+    public void add(long amount) {
+        count.add(amount);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getSummary() {
+        return "%7d c".formatted(getCount());
+    }
+
+    @Override
+    public JsonObject toJson() {
+        JsonObject json = new JsonObject();
+        json.addProperty("type", "counter");
+        json.addProperty("count", getCount());
+        return json;
+    }
+
+    @Override
+    public void reset() {
+        count.reset();
+    }
+}
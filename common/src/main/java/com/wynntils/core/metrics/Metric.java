@@ -0,0 +1,20 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.core.metrics;
+
+import com.google.gson.JsonObject;
+
+public interface Metric {
+    String getName();
+
+    /**
+     * A short, human-readable summary of the metric, used by the metrics command.
+     */
+    String getSummary();
+
+    JsonObject toJson();
+
+    void reset();
+}
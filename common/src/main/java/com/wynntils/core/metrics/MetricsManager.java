@@ -0,0 +1,127 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.core.metrics;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.JsonObject;
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.core.components.Manager;
+import com.wynntils.core.json.JsonManager;
+import com.wynntils.core.properties.Property;
+import com.wynntils.mc.event.TickAlwaysEvent;
+import com.wynntils.utils.FileUtils;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import net.neoforged.bus.api.SubscribeEvent;
+
+/**
+ * A registry of named performance metrics. Metrics are created on first use, and should be looked up once and kept,
+ * so recording on hot paths does not need a map lookup. Names are dot-separated, starting with the area they measure,
+ * like "overlay.render.TextOverlay".
+ * <p>
+ * The metrics can be shown with /wynntils debug metrics, and dumped as JSON to the metrics directory. Setting the
+ * JVM argument wynntils.metrics.dump.interval to a number of minutes also dumps them periodically.
+ */
+public final class MetricsManager extends Manager {
+    private static final File METRICS_DIR = WynntilsMod.getModStorageDir("metrics");
+    private static final String DUMP_FILE_NAME = "metrics.json";
+
+    private final Property<Integer> dumpInterval = createProperty(Integer.class, "dump.interval", 0);
+
+    private final Map<String, Metric> metrics = new ConcurrentHashMap<>();
+    private final List<RateGauge> rateGauges = new CopyOnWriteArrayList<>();
+
+    private ScheduledExecutorService dumpExecutor;
+
+    public MetricsManager() {
+        super(List.of());
+    }
+
+    public TimerMetric getTimer(String name) {
+        return getMetric(name, TimerMetric.class, TimerMetric::new);
+    }
+
+    public CounterMetric getCounter(String name) {
+        return getMetric(name, CounterMetric.class, CounterMetric::new);
+    }
+
+    public RateGauge getRateGauge(String name) {
+        return getMetric(name, RateGauge.class, gaugeName -> {
+            RateGauge gauge = new RateGauge(gaugeName);
+            rateGauges.add(gauge);
+            return gauge;
+        });
+    }
+
+    /**
+     * Returns all metrics whose name starts with the given prefix, sorted by name.
+     */
+    public List<Metric> getMetrics(String prefix) {
+        return metrics.values().stream()
+                .filter(metric -> metric.getName().startsWith(prefix))
+                .sorted(Comparator.comparing(Metric::getName))
+                .toList();
+    }
+
+    public void resetMetrics() {
+        metrics.values().forEach(Metric::reset);
+    }
+
+    /**
+     * Writes all metrics to the dump file, returning the file, or null if it could not be written.
+     */
+    public File dumpMetrics() {
+        JsonObject metricsJson = new JsonObject();
+        getMetrics("").forEach(metric -> metricsJson.add(metric.getName(), metric.toJson()));
+
+        JsonObject dumpJson = new JsonObject();
+        dumpJson.addProperty("timestamp", System.currentTimeMillis());
+        dumpJson.add("metrics", metricsJson);
+
+        FileUtils.mkdir(METRICS_DIR);
+        File dumpFile = new File(METRICS_DIR, DUMP_FILE_NAME);
+        try {
+            Files.writeString(dumpFile.toPath(), JsonManager.GSON.toJson(dumpJson), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            WynntilsMod.error("Failed to dump metrics to " + dumpFile, e);
+            return null;
+        }
+
+        return dumpFile;
+    }
+
+    @SubscribeEvent
+    public void onTick(TickAlwaysEvent event) {
+        rateGauges.forEach(RateGauge::tick);
+
+        if (dumpExecutor == null && dumpInterval.get() > 0) {
+            dumpExecutor = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder().setNameFormat("wynntils-metrics-dump-%d").setDaemon(true).build());
+            dumpExecutor.scheduleAtFixedRate(
+                    this::dumpMetrics, dumpInterval.get(), dumpInterval.get(), TimeUnit.MINUTES);
+        }
+    }
+
+    private <T extends Metric> T getMetric(String name, Class<T> metricClass, Function<String, T> factory) {
+        Metric metric = metrics.computeIfAbsent(name, factory);
+        if (!metricClass.isInstance(metric)) {
+            throw new IllegalStateException("Metric " + name + " is already registered as "
+                    + metric.getClass().getSimpleName());
+        }
+
+        return metricClass.cast(metric);
+    }
+}
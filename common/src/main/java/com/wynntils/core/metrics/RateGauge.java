@@ -0,0 +1,81 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.core.metrics;
+
+import com.google.gson.JsonObject;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts events per client tick. The rate is averaged over the last second of ticks, and the busiest tick is kept.
+ */
+public final class RateGauge implements Metric {
+    private static final int WINDOW_TICKS = 20;
+
+    private final String name;
+    private final AtomicLong currentTickCount = new AtomicLong();
+    private final long[] window = new long[WINDOW_TICKS];
+    private int windowIndex;
+    private long peakPerTick;
+
+    RateGauge(String name) {
+        this.name = name;
+    }
+
+    public void mark() {
+        currentTickCount.incrementAndGet();
+    }
+
+    public void mark(long amount) {
+        currentTickCount.addAndGet(amount);
+    }
+
+    public synchronized double getRatePerTick() {
+        long sum = 0;
+        for (long tickCount : window) {
+            sum += tickCount;
+        }
+
+        return (double) sum / WINDOW_TICKS;
+    }
+
+    public synchronized long getPeakPerTick() {
+        return peakPerTick;
+    }
+
+    synchronized void tick() {
+        long tickCount = currentTickCount.getAndSet(0);
+        window[windowIndex] = tickCount;
+        windowIndex = (windowIndex + 1) % WINDOW_TICKS;
+        peakPerTick = Math.max(peakPerTick, tickCount);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getSummary() {
+        return "%7.2f /tick, peak: %7d /tick".formatted(getRatePerTick(), getPeakPerTick());
+    }
+
+    @Override
+    public JsonObject toJson() {
+        JsonObject json = new JsonObject();
+        json.addProperty("type", "rate");
+        json.addProperty("perTick", getRatePerTick());
+        json.addProperty("peakPerTick", getPeakPerTick());
+        return json;
+    }
+
+    @Override
+    public synchronized void reset() {
+        currentTickCount.set(0);
+        for (int i = 0; i < WINDOW_TICKS; i++) {
+            window[i] = 0;
+        }
+        peakPerTick = 0;
+    }
+}
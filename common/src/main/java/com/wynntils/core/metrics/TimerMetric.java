@@ -0,0 +1,102 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.core.metrics;
+
+import com.google.gson.JsonObject;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures the duration of an operation in nanoseconds, keeping the count, total, maximum and a latency histogram.
+ * <p>
+ * Usage: {@code long start = timer.start(); ...; timer.stop(start);}
+ */
+public final class TimerMetric implements Metric {
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final String name;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    TimerMetric(String name) {
+        this.name = name;
+    }
+
+    public long start() {
+        return System.nanoTime();
+    }
+
+    public void stop(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public void record(long nanos) {
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+        histogram.record(nanos);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public double getTotalMillis() {
+        return getTotalNanos() / NANOS_PER_MILLI;
+    }
+
+    public double getAverageMillis() {
+        long currentCount = getCount();
+        return currentCount == 0 ? 0 : getTotalMillis() / currentCount;
+    }
+
+    public double getPercentileMillis(double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+    public double getMaxMillis() {
+        return maxNanos.get() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getSummary() {
+        return "%9.2f ms, %7d c, avg: %7.3f ms, p99: %7.3f ms, max: %7.3f ms"
+                .formatted(getTotalMillis(), getCount(), getAverageMillis(), getPercentileMillis(99), getMaxMillis());
+    }
+
+    @Override
+    public JsonObject toJson() {
+        JsonObject json = new JsonObject();
+        json.addProperty("type", "timer");
+        json.addProperty("count", getCount());
+        json.addProperty("totalMs", getTotalMillis());
+        json.addProperty("avgMs", getAverageMillis());
+        json.addProperty("p50Ms", getPercentileMillis(50));
+        json.addProperty("p90Ms", getPercentileMillis(90));
+        json.addProperty("p99Ms", getPercentileMillis(99));
+        json.addProperty("maxMs", getMaxMillis());
+        return json;
+    }
+
+    @Override
+    public void reset() {
+        count.reset();
+        totalNanos.reset();
+        maxNanos.set(0);
+        histogram.reset();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.net;
@@ -8,6 +8,8 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.wynntils.core.WynntilsMod;
+import com.wynntils.core.components.Managers;
+import com.wynntils.core.metrics.TimerMetric;
 import com.wynntils.core.net.event.NetResultProcessedEvent;
 import java.io.IOException;
 import java.io.InputStream;
@@ -23,6 +25,8 @@ import java.util.function.Consumer;
 public abstract class NetResult {
     private static final Consumer<Throwable> DEFAULT_ERROR_HANDLER =
             (exception) -> WynntilsMod.error("Error while processing network request; ignored");
+    private static final String REQUEST_METRIC_PREFIX = "net.request.";
+    private static final String FAILURE_METRIC_PREFIX = "net.failure.";
 
     protected final HttpRequest request;
     private final String desc;
@@ -86,10 +90,17 @@ public abstract class NetResult {
     }
 
     private void doHandle(Consumer<InputStream> onCompletion, Consumer<Throwable> onError) {
+        // Measures both the request and the handling of the response
+        TimerMetric timer = Managers.Metrics.getTimer(REQUEST_METRIC_PREFIX + desc);
+        long startTime = timer.start();
+
         // The wrappingHandler will make sure we close the input stream
         CompletableFuture<Void> future = getInputStreamFuture()
                 .thenAccept(wrappingHandler(onCompletion, onError))
+                .whenComplete((ignored, t) -> timer.stop(startTime))
                 .exceptionally(t -> {
+                    Managers.Metrics.getCounter(FAILURE_METRIC_PREFIX + desc).increment();
+
                     if (t instanceof CompletionException ce && ce.getCause() instanceof HttpTimeoutException hte) {
                         // Don't spam the log with stack traces for timeouts
                         WynntilsMod.warn("Failure in net manager [doHandle], processing " + desc
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.persisted.config;
@@ -33,6 +33,7 @@ public class Config<T> extends PersistedValue<T> {
 
     @Override
     public void touched() {
+        Managers.Config.configChanged(this);
         Managers.Config.saveConfig();
     }
 
@@ -42,6 +43,12 @@ public class Config<T> extends PersistedValue<T> {
         // For now, do not call touch() on configs
     }
 
+    @Override
+    protected void setWithoutTouch(T value) {
+        super.setWithoutTouch(value);
+        Managers.Config.configChanged(this);
+    }
+
     // FIXME: Old ways of setting the value. These should be unified, but since
     // they have slightly different semantics, let's do it carefully step by step.
 
@@ -5,6 +5,7 @@
 package com.wynntils.core.persisted.config;
 
 import com.google.common.reflect.TypeToken;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -24,6 +25,7 @@ import com.wynntils.core.persisted.PersistedValue;
 import com.wynntils.core.persisted.storage.Storage;
 import com.wynntils.core.persisted.upfixers.UpfixerType;
 import com.wynntils.handlers.actionbar.event.ActionBarUpdatedEvent;
+import com.wynntils.mc.event.TickAlwaysEvent;
 import com.wynntils.models.character.actionbar.segments.CharacterCreationSegment;
 import com.wynntils.models.worlds.event.WorldStateEvent;
 import com.wynntils.screens.settings.ConfigProfileScreen;
@@ -42,6 +44,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 import net.minecraft.client.gui.components.toasts.SystemToast;
 import net.minecraft.network.chat.Component;
@@ -57,6 +63,10 @@ public final class ConfigManager extends Manager {
     private static final String OVERLAY_GROUPS_JSON_KEY = "overlayGroups";
     private static final Set<Config<?>> CONFIGS = new TreeSet<>();
 
+    // Saves are delayed until no save has been requested for this long, but never by more than the max delay
+    private static final long SAVE_DEBOUNCE_MS = 500;
+    private static final long SAVE_MAX_DELAY_MS = 5000;
+
     @Persisted
     private final Storage<ConfigProfile> selectedProfile = new Storage<>(ConfigProfile.DEFAULT);
 
@@ -71,6 +81,16 @@ public final class ConfigManager extends Manager {
     private JsonObject configObject;
     private boolean loadingConfigOptions = false;
 
+    // The config file content as of the last save. Only the configs changed since then are serialized again.
+    private final ExecutorService saveExecutor = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setNameFormat("wynntils-config-save-%d").setDaemon(true).build());
+    private final Set<Config<?>> changedConfigs = new HashSet<>();
+    private JsonObject savedConfigJson;
+    private boolean fullSaveNeeded = true;
+    private long firstSaveRequest = -1;
+    private long lastSaveRequest = -1;
+    private Future<?> pendingSave;
+
     private boolean shownMigrationToast = false;
     private MigrationStatus migrationStatus = MigrationStatus.NOT_MIGRATED;
 
@@ -78,6 +98,8 @@ public final class ConfigManager extends Manager {
         super(List.of());
 
         tryMigrateUserConfig();
+
+        addShutdownHook();
     }
 
     public void init() {
@@ -101,6 +123,7 @@ public final class ConfigManager extends Manager {
 
         // Save config file after loading all configurables' options
         Managers.Config.saveConfig();
+        Managers.Config.flushConfig();
 
         // Create default config file containing all configurables' options
         Managers.Config.saveDefaultConfig();
@@ -168,8 +191,16 @@ public final class ConfigManager extends Manager {
     }
 
     public void reloadConfiguration(boolean initOverlayGroups) {
+        // Make sure pending changes are in the file before reading it back
+        flushConfig();
+
         configObject = Managers.Json.loadPreciousJson(GLOBAL_CONFIG);
         loadConfigOptions(true, initOverlayGroups);
+
+        // Reloading can add or remove dynamic overlays, so the next save has to start over
+        synchronized (this) {
+            fullSaveNeeded = true;
+        }
     }
 
     // Info: The purpose of initOverlayGroups is to use the config system in a way that is really "hacky".
@@ -243,6 +274,21 @@ public final class ConfigManager extends Manager {
         return loadingConfigOptions;
     }
 
+    @SubscribeEvent
+    public void onTick(TickAlwaysEvent event) {
+        long now = System.currentTimeMillis();
+
+        synchronized (this) {
+            if (lastSaveRequest == -1) return;
+            if (now - lastSaveRequest < SAVE_DEBOUNCE_MS && now - firstSaveRequest < SAVE_MAX_DELAY_MS) return;
+
+            JsonObject snapshot = createSaveSnapshot();
+            if (snapshot == null) return;
+
+            pendingSave = saveExecutor.submit(() -> Managers.Json.savePreciousJson(GLOBAL_CONFIG, snapshot));
+        }
+    }
+
     @SubscribeEvent
     public void onActionBarUpdate(ActionBarUpdatedEvent event) {
         event.runIfPresent(CharacterCreationSegment.class, this::checkForNewPlayer);
@@ -289,23 +335,71 @@ public final class ConfigManager extends Manager {
                 .toList();
     }
 
+    /**
+     * Requests the config file to be saved. Saves are coalesced, and written on a background thread shortly after
+     * the last request. Only configs that were changed through {@link Config#setValue} or {@link Config#touched()}
+     * are serialized again, so configs that are modified in place need to be touched.
+     */
     public synchronized void saveConfig() {
         // Requesting to save before we have read the old config? Just skip it
         if (configObject == null) return;
 
-        // create json object, with entry for each option of each container
-        JsonObject configJson = new JsonObject();
-        for (Config<?> config : getConfigList()) {
-            if (!config.valueChanged()) continue; // only save options that have been set by the user
-            Object value = config.get();
+        long now = System.currentTimeMillis();
+        if (firstSaveRequest == -1) {
+            firstSaveRequest = now;
+        }
+        lastSaveRequest = now;
+    }
 
-            JsonElement configElement = Managers.Json.GSON.toJsonTree(value);
-            configJson.add(config.getJsonName(), configElement);
+    /**
+     * Writes any requested save immediately, and waits for all saves to be written to the file.
+     */
+    public synchronized void flushConfig() {
+        waitForPendingSave();
+
+        if (lastSaveRequest == -1) return;
+
+        JsonObject snapshot = createSaveSnapshot();
+        if (snapshot == null) return;
+
+        Managers.Json.savePreciousJson(GLOBAL_CONFIG, snapshot);
+    }
+
+    synchronized void configChanged(Config<?> config) {
+        // Overlays created only for previews are never registered, and their configs are never saved
+        if (Managers.Persisted.getMetadata(config) == null) return;
+
+        changedConfigs.add(config);
+    }
+
+    private JsonObject createSaveSnapshot() {
+        firstSaveRequest = -1;
+        lastSaveRequest = -1;
+
+        if (configObject == null) return null;
+
+        if (savedConfigJson == null || fullSaveNeeded) {
+            // create json object, with entry for each option of each container
+            savedConfigJson = new JsonObject();
+            for (Config<?> config : getConfigList()) {
+                if (!config.valueChanged()) continue; // only save options that have been set by the user
+                savedConfigJson.add(config.getJsonName(), Managers.Json.GSON.toJsonTree(config.get()));
+            }
+
+            fullSaveNeeded = false;
+        } else {
+            for (Config<?> config : changedConfigs) {
+                if (config.valueChanged()) {
+                    savedConfigJson.add(config.getJsonName(), Managers.Json.GSON.toJsonTree(config.get()));
+                } else {
+                    savedConfigJson.remove(config.getJsonName());
+                }
+            }
         }
+        changedConfigs.clear();
 
         // Also save upfixer data
-        String upfixerJsonMemberName = Managers.Upfixer.UPFIXER_JSON_MEMBER_NAME;
-        configJson.add(upfixerJsonMemberName, configObject.get(upfixerJsonMemberName));
+        Managers.Upfixer.copyUpfixerData(configObject, savedConfigJson);
 
         // Save overlay groups
         JsonObject overlayGroups = new JsonObject();
@@ -319,9 +413,40 @@ public final class ConfigManager extends Manager {
             overlayGroups.add(holder.getConfigKey(), ids);
         }
 
-        configJson.add(OVERLAY_GROUPS_JSON_KEY, overlayGroups);
+        savedConfigJson.add(OVERLAY_GROUPS_JSON_KEY, overlayGroups);
+
+        // The values are never modified after being added, only replaced, so a shallow copy is an immutable snapshot
+        JsonObject snapshot = new JsonObject();
+        savedConfigJson.entrySet().forEach(entry -> snapshot.add(entry.getKey(), entry.getValue()));
+        return snapshot;
+    }
+
+    private synchronized void waitForPendingSave() {
+        if (pendingSave == null) return;
 
-        Managers.Json.savePreciousJson(GLOBAL_CONFIG, configJson);
+        try {
+            pendingSave.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            WynntilsMod.error("Failed to save config", e.getCause());
+        }
+
+        pendingSave = null;
+    }
+
+    private void addShutdownHook() {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            synchronized (this) {
+                // Never save before the configs have been loaded and saved once, or we would overwrite the file
+                if (savedConfigJson == null) return;
+
+                // Do a full save, in case some config was modified in place without being touched
+                fullSaveNeeded = true;
+                saveConfig();
+                flushConfig();
+            }
+        }));
     }
 
     public File getGlobalConfigFile() {
@@ -339,7 +464,7 @@ public final class ConfigManager extends Manager {
         }
 
         WynntilsMod.info("Creating default config file with " + configJson.size() + " config values.");
-        Managers.Json.savePreciousJson(DEFAULT_CONFIG, configJson);
+        saveExecutor.submit(() -> Managers.Json.savePreciousJson(DEFAULT_CONFIG, configJson));
     }
 
     public ConfigProfile getSelectedProfile() {
@@ -0,0 +1,471 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.core.persisted.eventlog;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.core.components.Managers;
+import com.wynntils.utils.FileUtils;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * An append-only log of timestamped events, for history that only ever grows, like finished raids.
+ * <p>
+ * Unlike a {@link com.wynntils.core.persisted.storage.Storage}, the events are not kept in memory or rewritten on
+ * every save. They are stored one JSON object per line in numbered segment files, and new events are appended to the
+ * last segment. When the log is loaded, every event is passed once to the summary updater, which lets the owner keep
+ * the aggregates it needs (counts, best times) in memory. Full events can be read back with {@link #stream}, which
+ * only reads the segments overlapping the requested time range.
+ * <p>
+ * All disk access happens on the event log writer thread. The summary updater is called on the main thread, for
+ * appended events right away and for loaded events once they have been read, so it must not depend on the order of
+ * the events.
+ * <p>
+ * Segments with unreadable lines (for instance from a crash while writing), or that were left partially filled, are
+ * compacted when they are found, on load or after a failed write or an import.
+ */
+public final class EventLog<T> {
+    private static final int SEGMENT_SIZE = 500;
+    private static final String SEGMENT_SUFFIX = ".ndjson";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String COMPACTING_DIR_SUFFIX = ".compacting";
+    private static final String OLD_DIR_SUFFIX = ".old";
+    private static final String IMPORT_MARKER_MEMBER_NAME = "wynntils.eventlog.imported";
+
+    private final String name;
+    private final Class<T> eventType;
+    private final ToLongFunction<T> timestampGetter;
+    private final Consumer<T> summaryUpdater;
+
+    // Changed only on the writer thread, and read by streams on other threads, so guarded by itself
+    private final List<Segment> segments = new ArrayList<>();
+    // Only used on the writer thread
+    private final Set<String> importIds = new HashSet<>();
+
+    private boolean loadRequested;
+
+    public EventLog(String name, Class<T> eventType, ToLongFunction<T> timestampGetter, Consumer<T> summaryUpdater) {
+        this.name = name;
+        this.eventType = eventType;
+        this.timestampGetter = timestampGetter;
+        this.summaryUpdater = summaryUpdater;
+    }
+
+    /**
+     * Starts reading the log from disk, passing every event to the summary updater once it has been read. Does
+     * nothing if the log was already requested to load.
+     */
+    public void load() {
+        if (loadRequested) return;
+        loadRequested = true;
+
+        Managers.EventLog.execute(this::readLog);
+    }
+
+    public void append(T event) {
+        load();
+
+        summaryUpdater.accept(event);
+
+        // The tree is serialized instead of the event, as the shared Gson instance pretty prints
+        String line = Managers.Json.GSON.toJsonTree(event, eventType).toString();
+        long timestamp = timestampGetter.applyAsLong(event);
+        Managers.EventLog.execute(() -> writeEvent(line, timestamp));
+    }
+
+    /**
+     * Adds events that were saved elsewhere by an older version to the log, unless events with the same import id
+     * were added before. The events and a marker with the import id are written to a new segment at once, so an import
+     * interrupted by a crash is either complete or repeated in full on the next start, never duplicated.
+     * <p>
+     * The callback is run on the main thread once the events are in the log, or were found to be already imported,
+     * so the old copy can be removed. It is not run if the import failed.
+     */
+    public void importOnce(String importId, List<T> events, Runnable onImported) {
+        load();
+
+        List<T> importedEvents = List.copyOf(events);
+        Managers.EventLog.execute(() -> importEvents(importId, importedEvents, onImported));
+    }
+
+    /**
+     * Streams the events with a timestamp in the given range, in the order they were appended. The stream reads from
+     * disk, so it should be closed after use, and may not include events that have not been written yet.
+     */
+    public Stream<T> stream(long fromTimestamp, long toTimestamp) {
+        load();
+
+        List<File> segmentFiles;
+        synchronized (segments) {
+            segmentFiles = segments.stream()
+                    .filter(segment -> segment.eventCount > 0
+                            && segment.maxTimestamp >= fromTimestamp
+                            && segment.minTimestamp <= toTimestamp)
+                    .map(segment -> segment.file)
+                    .toList();
+        }
+
+        return segmentFiles.stream().flatMap(this::readEvents).filter(event -> {
+            long timestamp = timestampGetter.applyAsLong(event);
+            return timestamp >= fromTimestamp && timestamp <= toTimestamp;
+        });
+    }
+
+    public Stream<T> stream() {
+        return stream(Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    private void readLog() {
+        recoverCompaction();
+
+        List<T> events = new ArrayList<>();
+        boolean needsCompaction = false;
+
+        List<File> segmentFiles = getSegmentFiles();
+        for (int i = 0; i < segmentFiles.size(); i++) {
+            Segment segment = new Segment(segmentFiles.get(i));
+            if (!readSegment(segment, events)) {
+                needsCompaction = true;
+            }
+
+            // Only the last segment is allowed to be partially filled
+            if (i < segmentFiles.size() - 1 && segment.eventCount < SEGMENT_SIZE) {
+                needsCompaction = true;
+            }
+
+            synchronized (segments) {
+                segments.add(segment);
+            }
+        }
+
+        if (needsCompaction) {
+            compact();
+        }
+
+        updateSummary(events);
+    }
+
+    private void writeEvent(String line, long timestamp) {
+        Segment segment;
+        synchronized (segments) {
+            if (segments.isEmpty() || segments.getLast().eventCount >= SEGMENT_SIZE) {
+                segments.add(new Segment(getSegmentFile(segments.size())));
+            }
+
+            segment = segments.getLast();
+            segment.addEvent(timestamp);
+        }
+
+        if (!appendLine(segment.file, line)) {
+            // The write may have left a partial line behind
+            compact();
+        }
+    }
+
+    private void importEvents(String importId, List<T> events, Runnable onImported) {
+        if (!importIds.contains(importId) && !events.isEmpty()) {
+            Segment segment;
+            synchronized (segments) {
+                segment = new Segment(getSegmentFile(segments.size()));
+            }
+
+            List<String> lines = new ArrayList<>();
+            for (T event : events) {
+                lines.add(Managers.Json.GSON.toJsonTree(event, eventType).toString());
+                segment.addEvent(timestampGetter.applyAsLong(event));
+            }
+            JsonObject marker = new JsonObject();
+            marker.addProperty(IMPORT_MARKER_MEMBER_NAME, importId);
+            lines.add(marker.toString());
+
+            File tempFile = getTempFile(segment.file);
+            try {
+                FileUtils.mkdir(segment.file.getParentFile());
+                Files.write(tempFile.toPath(), lines, StandardCharsets.UTF_8);
+                Files.move(
+                        tempFile.toPath(),
+                        segment.file.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                WynntilsMod.error("Failed to import " + importId + " into event log " + name, e);
+                FileUtils.deleteFile(tempFile);
+                return;
+            }
+
+            synchronized (segments) {
+                segments.add(segment);
+            }
+            importIds.add(importId);
+
+            // The segment before the imported one is usually partially filled
+            compact();
+            updateSummary(events);
+        }
+
+        Managers.TickScheduler.scheduleNextTick(onImported);
+    }
+
+    private void updateSummary(List<T> events) {
+        if (events.isEmpty()) return;
+
+        Managers.TickScheduler.scheduleNextTick(() -> events.forEach(summaryUpdater));
+    }
+
+    private boolean readSegment(Segment segment, List<T> events) {
+        boolean valid = true;
+
+        try (BufferedReader reader = Files.newBufferedReader(segment.file.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+
+                JsonObject json = parseLine(line);
+                if (json == null) {
+                    valid = false;
+                    continue;
+                }
+
+                if (json.has(IMPORT_MARKER_MEMBER_NAME)) {
+                    importIds.add(json.get(IMPORT_MARKER_MEMBER_NAME).getAsString());
+                    continue;
+                }
+
+                T event = parseEvent(json);
+                if (event == null) {
+                    valid = false;
+                    continue;
+                }
+
+                segment.addEvent(timestampGetter.applyAsLong(event));
+                events.add(event);
+            }
+        } catch (IOException e) {
+            WynntilsMod.error("Failed to read event log segment " + segment.file, e);
+            return false;
+        }
+
+        return valid;
+    }
+
+    private Stream<T> readEvents(File segmentFile) {
+        try {
+            return Files.lines(segmentFile.toPath(), StandardCharsets.UTF_8)
+                    .filter(line -> !line.isBlank())
+                    .map(this::parseLine)
+                    .filter(json -> json != null && !json.has(IMPORT_MARKER_MEMBER_NAME))
+                    .map(this::parseEvent)
+                    .filter(Objects::nonNull);
+        } catch (IOException e) {
+            WynntilsMod.error("Failed to read event log segment " + segmentFile, e);
+            return Stream.empty();
+        }
+    }
+
+    private JsonObject parseLine(String line) {
+        try {
+            JsonElement json = JsonParser.parseString(line);
+            if (json.isJsonObject()) return json.getAsJsonObject();
+        } catch (JsonParseException e) {
+            WynntilsMod.warn("Skipping unreadable line in event log " + name + ": " + e.getMessage());
+            return null;
+        }
+
+        WynntilsMod.warn("Skipping unreadable line in event log " + name + ": not an object");
+        return null;
+    }
+
+    private T parseEvent(JsonObject json) {
+        try {
+            return Managers.Json.GSON.fromJson(json, eventType);
+        } catch (JsonParseException e) {
+            WynntilsMod.warn("Skipping unreadable event in event log " + name + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean appendLine(File segmentFile, String line) {
+        FileUtils.mkdir(segmentFile.getParentFile());
+
+        try {
+            Files.writeString(
+                    segmentFile.toPath(),
+                    line + "\n",
+                    StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+            return true;
+        } catch (IOException e) {
+            WynntilsMod.error("Failed to append to event log segment " + segmentFile, e);
+            return false;
+        }
+    }
+
+    private void compact() {
+        WynntilsMod.info("Compacting event log " + name);
+
+        List<Segment> oldSegments;
+        synchronized (segments) {
+            oldSegments = List.copyOf(segments);
+        }
+
+        // Write the valid events into full segments in a separate directory, which then replaces the log directory.
+        // An interrupted compaction leaves either the old or the new directory in place, never a mix of both, so it
+        // can neither lose nor duplicate events. Import markers are kept with the events they were imported with.
+        File logDir = Managers.EventLog.getEventLogDir(name);
+        File compactingDir = Managers.EventLog.getEventLogDir(name + COMPACTING_DIR_SUFFIX);
+        File oldDir = Managers.EventLog.getEventLogDir(name + OLD_DIR_SUFFIX);
+        FileUtils.deleteFolder(compactingDir);
+        FileUtils.mkdir(compactingDir);
+
+        List<Segment> compacted = new ArrayList<>();
+        BufferedWriter writer = null;
+        try {
+            for (Segment oldSegment : oldSegments) {
+                try (Stream<String> lines = Files.lines(oldSegment.file.toPath(), StandardCharsets.UTF_8)) {
+                    for (String line : (Iterable<String>) lines::iterator) {
+                        if (line.isBlank()) continue;
+
+                        JsonObject json = parseLine(line);
+                        if (json == null) continue;
+
+                        boolean isMarker = json.has(IMPORT_MARKER_MEMBER_NAME);
+                        T event = isMarker ? null : parseEvent(json);
+                        if (!isMarker && event == null) continue;
+
+                        if (compacted.isEmpty() || (!isMarker && compacted.getLast().eventCount >= SEGMENT_SIZE)) {
+                            if (writer != null) writer.close();
+
+                            Segment segment = new Segment(getSegmentFile(compacted.size()));
+                            compacted.add(segment);
+                            writer = Files.newBufferedWriter(
+                                    new File(compactingDir, segment.file.getName()).toPath(), StandardCharsets.UTF_8);
+                        }
+
+                        writer.write(line);
+                        writer.newLine();
+                        if (!isMarker) {
+                            compacted.getLast().addEvent(timestampGetter.applyAsLong(event));
+                        }
+                    }
+                }
+            }
+
+            if (writer != null) writer.close();
+        } catch (IOException | UncheckedIOException e) {
+            WynntilsMod.error("Failed to compact event log " + name + ", keeping the old segments", e);
+            FileUtils.deleteFolder(compactingDir);
+            return;
+        }
+
+        try {
+            if (logDir.exists()) {
+                Files.move(logDir.toPath(), oldDir.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            }
+            Files.move(compactingDir.toPath(), logDir.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            WynntilsMod.error("Failed to replace segments of event log " + name, e);
+            recoverCompaction();
+            return;
+        }
+
+        FileUtils.deleteFolder(oldDir);
+
+        synchronized (segments) {
+            segments.clear();
+            segments.addAll(compacted);
+        }
+    }
+
+    /**
+     * Finishes or discards a compaction that was interrupted before it replaced the log directory.
+     */
+    private void recoverCompaction() {
+        File logDir = Managers.EventLog.getEventLogDir(name);
+        File compactingDir = Managers.EventLog.getEventLogDir(name + COMPACTING_DIR_SUFFIX);
+        File oldDir = Managers.EventLog.getEventLogDir(name + OLD_DIR_SUFFIX);
+
+        // The compacting directory is only moved into place once it is complete, after the old one was moved away
+        if (!logDir.exists() && compactingDir.exists()) {
+            WynntilsMod.info("Finishing interrupted compaction of event log " + name);
+            try {
+                Files.move(compactingDir.toPath(), logDir.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                WynntilsMod.error("Failed to finish compaction of event log " + name, e);
+            }
+        }
+
+        if (!logDir.exists() && oldDir.exists()) {
+            WynntilsMod.info("Restoring event log " + name + " from before an interrupted compaction");
+            try {
+                Files.move(oldDir.toPath(), logDir.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                WynntilsMod.error("Failed to restore event log " + name, e);
+            }
+        }
+
+        // Keep both directories around until one of them could be put in place
+        if (!logDir.exists()) return;
+
+        FileUtils.deleteFolder(compactingDir);
+        FileUtils.deleteFolder(oldDir);
+    }
+
+    private List<File> getSegmentFiles() {
+        File[] files = Managers.EventLog.getEventLogDir(name)
+                .listFiles((dir, fileName) -> fileName.endsWith(SEGMENT_SUFFIX));
+        if (files == null) return List.of();
+
+        return Arrays.stream(files).sorted(Comparator.comparing(File::getName)).toList();
+    }
+
+    private File getSegmentFile(int index) {
+        return new File(
+                Managers.EventLog.getEventLogDir(name), String.format(Locale.ROOT, "%06d", index) + SEGMENT_SUFFIX);
+    }
+
+    private static File getTempFile(File segmentFile) {
+        return new File(segmentFile.getPath() + TEMP_SUFFIX);
+    }
+
+    private static final class Segment {
+        private final File file;
+        private int eventCount;
+        private long minTimestamp = Long.MAX_VALUE;
+        private long maxTimestamp = Long.MIN_VALUE;
+
+        private Segment(File file) {
+            this.file = file;
+        }
+
+        private void addEvent(long timestamp) {
+            eventCount++;
+            minTimestamp = Math.min(minTimestamp, timestamp);
+            maxTimestamp = Math.max(maxTimestamp, timestamp);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.core.persisted.eventlog;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.mojang.util.UndashedUuid;
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.core.components.Manager;
+import com.wynntils.utils.mc.McUtils;
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owns the directory and the writer thread of all {@link EventLog}s. Loads, appends and compactions run in order on a
+ * single background thread, so loading a log or logging an event never blocks the caller on disk access.
+ */
+public final class EventLogManager extends Manager {
+    private static final File EVENT_LOG_DIR = WynntilsMod.getModStorageDir("eventlogs");
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setNameFormat("wynntils-event-log-%d").setDaemon(true).build());
+    private final File userEventLogDir;
+
+    public EventLogManager() {
+        super(List.of());
+
+        userEventLogDir = new File(EVENT_LOG_DIR, UndashedUuid.toString(McUtils.getUserProfileUUID()));
+
+        addShutdownHook();
+    }
+
+    File getEventLogDir(String name) {
+        return new File(userEventLogDir, name);
+    }
+
+    void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    private void addShutdownHook() {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            // Let pending appends finish before the game exits
+            executor.shutdown();
+            try {
+                executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+    }
+}
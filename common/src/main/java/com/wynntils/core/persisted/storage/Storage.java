@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.persisted.storage;
@@ -14,6 +14,6 @@ public class Storage<T> extends PersistedValue<T> {
 
     @Override
     public void touched() {
-        Managers.Storage.persist();
+        Managers.Storage.persist(this);
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.persisted.storage;
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -32,6 +33,8 @@ import org.apache.commons.lang3.reflect.FieldUtils;
 
 public final class StorageManager extends Manager {
     private static final long SAVE_INTERVAL = 10_000;
+    // Storages changed in place without being touched are only picked up by a full save, so do one regularly
+    private static final long FULL_SAVE_INTERVAL = 60_000;
 
     private static final File STORAGE_DIR = WynntilsMod.getModStorageDir("storage");
     private static final String FILE_SUFFIX = ".data.json";
@@ -41,10 +44,14 @@ public final class StorageManager extends Manager {
     private final Map<String, Storage<?>> storages = new TreeMap<>();
     private final Map<Storage<?>, Type> storageTypes = new HashMap<>();
     private final Map<Storage<?>, Storageable> storageOwner = new HashMap<>();
+    // The last written JSON of each storage, so periodic saves only serialize the storages touched since then
+    private final Map<Storage<?>, JsonElement> serializedStorages = new ConcurrentHashMap<>();
+    private final Set<Storage<?>> touchedStorages = ConcurrentHashMap.newKeySet();
 
     private JsonObject storageObject;
 
     private long lastPersisted;
+    private long lastFullSave;
     private boolean scheduledPersist;
 
     private boolean storageInitialized = false;
@@ -101,16 +108,21 @@ public final class StorageManager extends Manager {
     }
 
     private void addShutdownHook() {
-        Runtime.getRuntime().addShutdownHook(new Thread(this::writeToJson));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> writeToJson(true)));
     }
 
     @SubscribeEvent
     public void onWynncraftDisconnect(WynncraftConnectionEvent.Disconnected event) {
-        // Always save when disconnecting
-        writeToJson();
+        // Always save when disconnecting, including storages that were changed without being touched
+        writeToJson(true);
     }
 
-    void persist() {
+    void persist(Storage<?> storage) {
+        touchedStorages.add(storage);
+        persist();
+    }
+
+    private void persist() {
         // We cannot persist before the storage is initialized, or we will overwrite our storage
         if (!storageInitialized || scheduledPersist) return;
 
@@ -121,7 +133,7 @@ public final class StorageManager extends Manager {
                 () -> {
                     scheduledPersist = false;
                     lastPersisted = System.currentTimeMillis();
-                    writeToJson();
+                    writeToJson(lastPersisted - lastFullSave >= FULL_SAVE_INTERVAL);
                 },
                 delay,
                 TimeUnit.MILLISECONDS);
@@ -143,6 +155,7 @@ public final class StorageManager extends Manager {
 
     private void readFromJson() {
         storageObject = Managers.Json.loadPreciousJson(userStorageFile);
+        serializedStorages.clear();
         storages.forEach((jsonName, storage) -> {
             if (!storageObject.has(jsonName)) {
                 // Even though the storage is not present in the file,
@@ -165,16 +178,28 @@ public final class StorageManager extends Manager {
         });
     }
 
-    private synchronized void writeToJson() {
+    private synchronized void writeToJson(boolean serializeAll) {
+        if (serializeAll) {
+            lastFullSave = System.currentTimeMillis();
+        }
+
         JsonObject storageJson = new JsonObject();
 
         // Save upfixers
-        String upfixerJsonMemberName = Managers.Upfixer.UPFIXER_JSON_MEMBER_NAME;
-        storageJson.add(upfixerJsonMemberName, storageObject.get(upfixerJsonMemberName));
+        Managers.Upfixer.copyUpfixerData(storageObject, storageJson);
 
         storages.forEach((jsonName, storage) -> {
+            // Clear the touched mark first, so a touch while serializing is saved the next time
+            boolean touched = touchedStorages.remove(storage);
+            JsonElement jsonElem = serializedStorages.get(storage);
+            if (jsonElem != null && !touched && !serializeAll) {
+                storageJson.add(jsonName, jsonElem);
+                return;
+            }
+
             try {
-                JsonElement jsonElem = Managers.Json.GSON.toJsonTree(storage.get(), storageTypes.get(storage));
+                jsonElem = Managers.Json.GSON.toJsonTree(storage.get(), storageTypes.get(storage));
+                serializedStorages.put(storage, jsonElem);
                 storageJson.add(jsonName, jsonElem);
             } catch (Throwable t) {
                 WynntilsMod.error("Failed to save storage " + jsonName, t);
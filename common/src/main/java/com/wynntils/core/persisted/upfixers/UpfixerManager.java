@@ -54,12 +54,14 @@ import com.wynntils.core.persisted.upfixers.storage.LoadoutMigrationUpfixer;
 import com.wynntils.core.persisted.upfixers.storage.RemoveSetGearTierUpfixer;
 import com.wynntils.core.persisted.upfixers.storage.UpdateChangelogToModelUpfixer;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 
 public class UpfixerManager extends Manager {
     public static final String UPFIXER_JSON_MEMBER_NAME = "wynntils.upfixers";
+    public static final String UPFIXER_LAST_APPLIED_JSON_MEMBER_NAME = "wynntils.upfixers.lastApplied";
 
     private final List<Upfixer> configUpfixers = new ArrayList<>();
     private final List<Upfixer> storageUpfixers = new ArrayList<>();
@@ -68,6 +70,7 @@ public class UpfixerManager extends Manager {
         super(List.of());
 
         // Register config upfixers here, in order of run priority
+        // New upfixers must always be added last, as files record the last upfixer they are up to date with
         registerConfigUpfixer(new CustomPoiVisibilityUpfixer());
         registerConfigUpfixer(new CustomCommandKeybindSlashStartUpfixer());
         registerConfigUpfixer(new GameBarOverlayMoveUpfixer());
@@ -107,6 +110,7 @@ public class UpfixerManager extends Manager {
         registerConfigUpfixer(new SkillPointLoadoutsToBuildLoadoutsUpfixer());
 
         // Register storage upfixers here, in order of run priority
+        // New upfixers must always be added last, as files record the last upfixer they are up to date with
         registerStorageUpfixer(new BankToAccountBankUpfixer());
         registerStorageUpfixer(new UpdateChangelogToModelUpfixer());
         registerStorageUpfixer(new BankPageNameToBankPagePropertyUpfixer());
@@ -124,22 +128,36 @@ public class UpfixerManager extends Manager {
     }
 
     /**
-     * Runs all registered upfixers on the given persisted object.
+     * Runs all registered upfixers on the given persisted object, that have not been applied to it yet.
+     * <p>
+     * The persisted object records the name of the last upfixer up to which all registered upfixers were applied to
+     * it. Only the upfixers after that one are checked against the names of the applied upfixers, and a file that is
+     * up to date with the last registered upfixer needs no further checks. As the name is recorded rather than a
+     * position, removing an old upfixer does not make files skip the ones after it. If the recorded upfixer itself
+     * was removed, all upfixers are checked by name.
      *
      * @param persistedObject  The persisted object to run upfixers on.
      * @param persistedValues All registered persisted values.
      */
     public boolean runUpfixers(
             JsonObject persistedObject, Set<PersistedValue<?>> persistedValues, UpfixerType upfixerType) {
-        List<Upfixer> missingUpfixers = getMissingUpfixers(persistedObject, upfixerType);
+        List<Upfixer> typeUpfixers = upfixerType == UpfixerType.CONFIG ? configUpfixers : storageUpfixers;
+
+        int firstUnchecked = getFirstUncheckedIndex(persistedObject, typeUpfixers);
+        if (firstUnchecked >= typeUpfixers.size()) return false;
+
+        Set<String> appliedUpfixers = getAppliedUpfixers(persistedObject, upfixerType);
 
         boolean anyChange = false;
 
-        for (Upfixer upfixer : missingUpfixers) {
+        for (Upfixer upfixer : typeUpfixers.subList(firstUnchecked, typeUpfixers.size())) {
+            if (appliedUpfixers.contains(upfixer.getUpfixerName())) continue;
+
             try {
                 if (upfixer.apply(persistedObject, persistedValues)) {
                     anyChange = true;
                     addUpfixerToPersistedFile(persistedObject, upfixer);
+                    appliedUpfixers.add(upfixer.getUpfixerName());
                     WynntilsMod.info("Applied upfixer \"" + upfixer.getUpfixerName() + "\" to "
                             + upfixerType.name().toLowerCase(Locale.ROOT) + " file.");
                 }
@@ -151,9 +169,54 @@ public class UpfixerManager extends Manager {
             }
         }
 
+        // Upfixers that failed are tried again next time, so only record the upfixers before them
+        int newFirstUnchecked = firstUnchecked;
+        while (newFirstUnchecked < typeUpfixers.size()
+                && appliedUpfixers.contains(typeUpfixers.get(newFirstUnchecked).getUpfixerName())) {
+            newFirstUnchecked++;
+        }
+
+        if (newFirstUnchecked != firstUnchecked) {
+            persistedObject.addProperty(
+                    UPFIXER_LAST_APPLIED_JSON_MEMBER_NAME,
+                    typeUpfixers.get(newFirstUnchecked - 1).getUpfixerName());
+            anyChange = true;
+        }
+
         return anyChange;
     }
 
+    /**
+     * Copies the upfixer data of a loaded persisted object to the object that is about to be written.
+     */
+    public void copyUpfixerData(JsonObject persistedObject, JsonObject savedObject) {
+        savedObject.add(UPFIXER_JSON_MEMBER_NAME, persistedObject.get(UPFIXER_JSON_MEMBER_NAME));
+
+        JsonElement lastApplied = persistedObject.get(UPFIXER_LAST_APPLIED_JSON_MEMBER_NAME);
+        if (lastApplied != null) {
+            savedObject.add(UPFIXER_LAST_APPLIED_JSON_MEMBER_NAME, lastApplied);
+        }
+    }
+
+    private int getFirstUncheckedIndex(JsonObject persistedObject, List<Upfixer> typeUpfixers) {
+        JsonElement lastAppliedJson = persistedObject.get(UPFIXER_LAST_APPLIED_JSON_MEMBER_NAME);
+        if (lastAppliedJson == null || lastAppliedJson.isJsonNull()) return 0;
+
+        if (!lastAppliedJson.isJsonPrimitive() || !lastAppliedJson.getAsJsonPrimitive().isString()) {
+            WynntilsMod.warn("Invalid last applied upfixer JSON member in persisted file! Expected string, got "
+                    + lastAppliedJson);
+            return 0;
+        }
+
+        String lastApplied = lastAppliedJson.getAsString();
+        for (int i = 0; i < typeUpfixers.size(); i++) {
+            if (typeUpfixers.get(i).getUpfixerName().equals(lastApplied)) return i + 1;
+        }
+
+        // The upfixer was removed since, so check all of them by name
+        return 0;
+    }
+
     private void addUpfixerToPersistedFile(JsonObject configObject, Upfixer upfixer) {
         JsonElement upfixers = configObject.get(UPFIXER_JSON_MEMBER_NAME);
 
@@ -172,27 +235,22 @@ public class UpfixerManager extends Manager {
         upfixers.getAsJsonArray().add(upfixer.getUpfixerName());
     }
 
-    private List<Upfixer> getMissingUpfixers(JsonObject persistedObject, UpfixerType type) {
-        final List<Upfixer> typeUpfixers = type == UpfixerType.CONFIG ? configUpfixers : storageUpfixers;
-
-        if (!persistedObject.has(UPFIXER_JSON_MEMBER_NAME)) return typeUpfixers;
+    private Set<String> getAppliedUpfixers(JsonObject persistedObject, UpfixerType type) {
+        Set<String> appliedUpfixers = new HashSet<>();
 
         JsonElement upfixersJson = persistedObject.get(UPFIXER_JSON_MEMBER_NAME);
-        if (upfixersJson == null || upfixersJson.isJsonNull()) return typeUpfixers;
+        if (upfixersJson == null || upfixersJson.isJsonNull()) return appliedUpfixers;
 
         if (!upfixersJson.isJsonArray()) {
             WynntilsMod.warn("Invalid upfixer JSON member in " + type.name().toLowerCase(Locale.ROOT)
                     + " file! Expected array, got " + upfixersJson.getClass().getSimpleName());
-            return typeUpfixers;
+            return appliedUpfixers;
         }
 
-        List<String> appliedUpfixers = new ArrayList<>();
         for (JsonElement upfixer : upfixersJson.getAsJsonArray()) {
             appliedUpfixers.add(upfixer.getAsString());
         }
 
-        return typeUpfixers.stream()
-                .filter(upfixer -> !appliedUpfixers.contains(upfixer.getUpfixerName()))
-                .toList();
+        return appliedUpfixers;
     }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.core.search;
+
+import java.util.List;
+
+/**
+ * The normalized texts of a single searchable object.
+ */
+final class SearchEntry {
+    static final int NAME_EXACT = 100;
+    static final int NAME_PREFIX = 80;
+    static final int NAME_WORD_PREFIX = 60;
+    static final int NAME_CONTAINS = 40;
+    static final int KEYWORD_PREFIX = 30;
+    static final int KEYWORD_CONTAINS = 25;
+    static final int NAME_FUZZY = 20;
+    static final int DESCRIPTION = 10;
+
+    private final List<String> names;
+    private final List<List<String>> nameTokens;
+    private final List<String> keywords;
+    private final List<String> descriptionTokens;
+
+    SearchEntry(List<String> names, List<String> keywords, String description) {
+        this.names = names.stream().map(SearchManager::normalize).toList();
+        this.nameTokens = this.names.stream().map(SearchManager::tokenize).toList();
+        this.keywords = keywords.stream().map(SearchManager::normalize).toList();
+        this.descriptionTokens = SearchManager.tokenize(SearchManager.normalize(description));
+    }
+
+    /**
+     * Scores the entry against a normalized query, returning 0 if it does not match at all.
+     */
+    int score(String query, List<String> queryTokens, boolean allowFuzzy) {
+        int best = 0;
+
+        for (int i = 0; i < names.size(); i++) {
+            best = Math.max(best, scoreName(names.get(i), nameTokens.get(i), query, allowFuzzy));
+        }
+        if (best >= NAME_CONTAINS) return best;
+
+        for (String keyword : keywords) {
+            if (keyword.startsWith(query)) {
+                best = Math.max(best, KEYWORD_PREFIX);
+            } else if (keyword.contains(query)) {
+                best = Math.max(best, KEYWORD_CONTAINS);
+            }
+        }
+        if (best > 0) return best;
+
+        return descriptionMatches(queryTokens) ? DESCRIPTION : 0;
+    }
+
+    static int scoreName(String name, List<String> tokens, String query, boolean allowFuzzy) {
+        if (name.equals(query)) return NAME_EXACT;
+        if (name.startsWith(query)) return NAME_PREFIX;
+
+        for (String token : tokens) {
+            if (token.startsWith(query)) return NAME_WORD_PREFIX;
+        }
+
+        if (name.contains(query)) return NAME_CONTAINS;
+        if (allowFuzzy && isSubsequence(name, query)) return NAME_FUZZY;
+
+        return 0;
+    }
+
+    private boolean descriptionMatches(List<String> queryTokens) {
+        if (queryTokens.isEmpty() || descriptionTokens.isEmpty()) return false;
+
+        // Every word of the query has to start a word of the description
+        for (String queryToken : queryTokens) {
+            boolean found = false;
+            for (String token : descriptionTokens) {
+                if (token.startsWith(queryToken)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) return false;
+        }
+
+        return true;
+    }
+
+    private static boolean isSubsequence(String text, String query) {
+        int fromIndex = 0;
+        for (int i = 0; i < query.length(); i++) {
+            int index = text.indexOf(query.charAt(i), fromIndex);
+            if (index == -1) return false;
+            fromIndex = index + 1;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.core.search;
+
+import com.wynntils.core.consumers.features.Feature;
+import com.wynntils.core.consumers.functions.Function;
+import com.wynntils.core.consumers.overlays.Overlay;
+import com.wynntils.core.persisted.config.Config;
+import java.util.Map;
+import net.minecraft.locale.Language;
+
+record SearchIndex(
+        Language language,
+        int featureCount,
+        int overlayCount,
+        Map<Feature, SearchEntry> features,
+        Map<Overlay, SearchEntry> overlays,
+        Map<Config<?>, SearchEntry> configs,
+        Map<Function<?>, SearchEntry> functions) {
+    boolean isValidFor(Language currentLanguage, int currentFeatureCount, int currentOverlayCount) {
+        return language == currentLanguage
+                && featureCount == currentFeatureCount
+                && overlayCount == currentOverlayCount;
+    }
+}
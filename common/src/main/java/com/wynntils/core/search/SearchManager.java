@@ -0,0 +1,137 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.core.search;
+
+import com.wynntils.core.components.Manager;
+import com.wynntils.core.components.Managers;
+import com.wynntils.core.consumers.features.Feature;
+import com.wynntils.core.consumers.functions.Function;
+import com.wynntils.core.consumers.overlays.Overlay;
+import com.wynntils.core.persisted.config.Config;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+import net.minecraft.locale.Language;
+
+/**
+ * A shared search index over the names of features, overlays and functions, and the names and descriptions of
+ * configs. The index holds the translated, normalized texts, so searching does not need to translate anything.
+ * It is built lazily, and rebuilt when the language is reloaded or the set of features and overlays changes.
+ * <p>
+ * Names are matched ranked from exact over prefix and word prefix matches down to contained and fuzzy (subsequence)
+ * matches. Descriptions and internal names, like config field names and feature short names, are only matched by
+ * prefix or substring, as fuzzy matching long texts would match almost anything.
+ */
+public final class SearchManager extends Manager {
+    private static final Pattern DIACRITICS_PATTERN = Pattern.compile("\\p{M}+");
+    private static final Pattern TOKEN_SEPARATOR_PATTERN = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SearchIndex index;
+    private String lastQuery;
+    private SearchResults lastResults;
+
+    public SearchManager() {
+        super(List.of());
+    }
+
+    /**
+     * Returns the results for the query. Repeated searches for the same query reuse the previous results.
+     */
+    public synchronized SearchResults search(String query) {
+        SearchIndex currentIndex = getIndex();
+
+        // Screens ask for the results of the same query many times while building their lists
+        if (lastResults != null && lastResults.getIndex() == currentIndex && query.equals(lastQuery)) {
+            return lastResults;
+        }
+
+        String normalizedQuery = normalize(query.trim());
+        if (lastResults == null
+                || lastResults.getIndex() != currentIndex
+                || !lastResults.getNormalizedQuery().equals(normalizedQuery)) {
+            lastResults = new SearchResults(currentIndex, normalizedQuery);
+        }
+
+        lastQuery = query;
+        return lastResults;
+    }
+
+    /**
+     * Drops the index, so it is rebuilt on the next search. Only needed when translated texts change without a
+     * language reload.
+     */
+    public synchronized void invalidate() {
+        index = null;
+        lastQuery = null;
+        lastResults = null;
+    }
+
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS_PATTERN.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    static List<String> tokenize(String normalizedText) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR_PATTERN.split(normalizedText)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private SearchIndex getIndex() {
+        Language language = Language.getInstance();
+        int featureCount = Managers.Feature.getFeatures().size();
+        int overlayCount = Managers.Overlay.getOverlays().size();
+
+        if (index == null || !index.isValidFor(language, featureCount, overlayCount)) {
+            index = buildIndex(language, featureCount, overlayCount);
+            lastResults = null;
+        }
+
+        return index;
+    }
+
+    private static SearchIndex buildIndex(Language language, int featureCount, int overlayCount) {
+        Map<Feature, SearchEntry> features = new LinkedHashMap<>();
+        Map<Overlay, SearchEntry> overlays = new LinkedHashMap<>();
+        Map<Config<?>, SearchEntry> configs = new LinkedHashMap<>();
+        Map<Function<?>, SearchEntry> functions = new LinkedHashMap<>();
+
+        for (Feature feature : Managers.Feature.getFeatures()) {
+            features.put(feature, createEntry(feature.getTranslatedName(), feature.getShortName()));
+            feature.getConfigOptions().forEach(config -> configs.put(config, createConfigEntry(config)));
+        }
+
+        for (Overlay overlay : Managers.Overlay.getOverlays()) {
+            overlays.put(overlay, createEntry(overlay.getTranslatedName(), overlay.getShortName()));
+            overlay.getConfigOptions().forEach(config -> configs.put(config, createConfigEntry(config)));
+        }
+
+        for (Function<?> function : Managers.Function.getFunctions()) {
+            List<String> names = new ArrayList<>();
+            names.add(function.getName());
+            names.addAll(function.getAliasList());
+            functions.put(function, new SearchEntry(names, List.of(), function.getDescription()));
+        }
+
+        return new SearchIndex(language, featureCount, overlayCount, features, overlays, configs, functions);
+    }
+
+    private static SearchEntry createEntry(String translatedName, String shortName) {
+        return new SearchEntry(List.of(translatedName), List.of(shortName), "");
+    }
+
+    private static SearchEntry createConfigEntry(Config<?> config) {
+        return new SearchEntry(
+                List.of(config.getDisplayName()), List.of(config.getFieldName()), config.getDescription());
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.core.search;
+
+import com.wynntils.core.consumers.features.Feature;
+import com.wynntils.core.consumers.functions.Function;
+import com.wynntils.core.consumers.overlays.CustomNameProperty;
+import com.wynntils.core.consumers.overlays.Overlay;
+import com.wynntils.core.persisted.config.Config;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The matches of a single query. An empty query matches nothing.
+ */
+public final class SearchResults {
+    private final SearchIndex index;
+    private final String normalizedQuery;
+
+    private final Map<Feature, Integer> featureScores = new LinkedHashMap<>();
+    private final Map<Overlay, Integer> overlayScores = new LinkedHashMap<>();
+    private final Map<Config<?>, Integer> configScores = new LinkedHashMap<>();
+    private final Map<Function<?>, Integer> functionScores = new LinkedHashMap<>();
+
+    SearchResults(SearchIndex index, String normalizedQuery) {
+        this.index = index;
+        this.normalizedQuery = normalizedQuery;
+
+        if (normalizedQuery.isEmpty()) return;
+
+        List<String> queryTokens = SearchManager.tokenize(normalizedQuery);
+        scoreAll(index.features(), featureScores, queryTokens, true);
+        scoreAll(index.overlays(), overlayScores, queryTokens, true);
+        // Configs are too many to match fuzzily, that would match nearly all of them
+        scoreAll(index.configs(), configScores, queryTokens, false);
+        scoreAll(index.functions(), functionScores, queryTokens, true);
+    }
+
+    public boolean isEmpty() {
+        return normalizedQuery.isEmpty();
+    }
+
+    public boolean matches(Feature feature) {
+        return featureScores.containsKey(feature);
+    }
+
+    public boolean matches(Overlay overlay) {
+        return getScore(overlay) > 0;
+    }
+
+    public boolean matches(Config<?> config) {
+        return configScores.containsKey(config);
+    }
+
+    public int getScore(Overlay overlay) {
+        int score = overlayScores.getOrDefault(overlay, 0);
+
+        // Custom names of info boxes and custom bars can change at any time, so they are not indexed
+        if (!isEmpty() && overlay instanceof CustomNameProperty customNameProperty) {
+            String customName = SearchManager.normalize(customNameProperty.getCustomName().get());
+            score = Math.max(
+                    score,
+                    SearchEntry.scoreName(customName, SearchManager.tokenize(customName), normalizedQuery, true));
+        }
+
+        return score;
+    }
+
+    /**
+     * Returns the matching features, best matches first.
+     */
+    public List<Feature> getFeatures() {
+        return featureScores.keySet().stream()
+                .sorted(Comparator.comparing((Feature feature) -> featureScores.get(feature))
+                        .reversed()
+                        .thenComparing(Comparator.naturalOrder()))
+                .toList();
+    }
+
+    /**
+     * Returns the matching overlays, best matches first.
+     */
+    public List<Overlay> getOverlays() {
+        return index.overlays().keySet().stream()
+                .filter(this::matches)
+                .sorted(Comparator.<Overlay>comparingInt(this::getScore)
+                        .reversed()
+                        .thenComparing(Comparator.naturalOrder()))
+                .toList();
+    }
+
+    /**
+     * Returns the matching functions, best matches first.
+     */
+    public List<Function<?>> getFunctions() {
+        return functionScores.keySet().stream()
+                .sorted(Comparator.comparing((Function<?> function) -> functionScores.get(function))
+                        .reversed()
+                        .thenComparing(Function::getName))
+                .toList();
+    }
+
+    SearchIndex getIndex() {
+        return index;
+    }
+
+    String getNormalizedQuery() {
+        return normalizedQuery;
+    }
+
+    private <T> void scoreAll(
+            Map<T, SearchEntry> entries, Map<T, Integer> scores, List<String> queryTokens, boolean allowFuzzy) {
+        entries.forEach((target, entry) -> {
+            int score = entry.score(normalizedQuery, queryTokens, allowFuzzy);
+            if (score > 0) {
+                scores.put(target, score);
+            }
+        });
+    }
+}
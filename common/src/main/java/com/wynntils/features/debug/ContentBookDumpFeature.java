@@ -120,21 +120,28 @@ public class ContentBookDumpFeature extends Feature {
     private void dumpContentBook() {
         currentDump = new ArrayList<>();
 
-        Models.Activity.scanContentBook(ActivityType.RECOMMENDED, (activityInfos, progress) -> {
-            currentDump.addAll(activityInfos.stream()
-                    .map(DumpableActivityInfo::fromActivityInfo)
-                    .toList());
-
-            Models.Activity.scanContentBook(ActivityType.TERRITORIAL_DISCOVERY, (activityInfos2, progress2) -> {
-                currentDump.addAll(activityInfos2.stream()
-                        .map(DumpableActivityInfo::fromActivityInfo)
-                        .toList());
-
-                filterEntriesNeedingManualTracking();
-
-                trackManually();
-            });
-        });
+        // Always do full scans, the dump should reflect the current content book
+        Models.Activity.scanContentBook(
+                ActivityType.RECOMMENDED,
+                (activityInfos, progress) -> {
+                    currentDump.addAll(activityInfos.stream()
+                            .map(DumpableActivityInfo::fromActivityInfo)
+                            .toList());
+
+                    Models.Activity.scanContentBook(
+                            ActivityType.TERRITORIAL_DISCOVERY,
+                            (activityInfos2, progress2) -> {
+                                currentDump.addAll(activityInfos2.stream()
+                                        .map(DumpableActivityInfo::fromActivityInfo)
+                                        .toList());
+
+                                filterEntriesNeedingManualTracking();
+
+                                trackManually();
+                            },
+                            true);
+                },
+                true);
     }
 
     private void filterEntriesNeedingManualTracking() {
@@ -41,6 +41,7 @@ import com.wynntils.models.containers.containers.personal.MiscBucketContainer;
 import com.wynntils.models.containers.containers.personal.PersonalBlockBankContainer;
 import com.wynntils.models.containers.containers.personal.PersonalStorageContainer;
 import com.wynntils.models.containers.type.SearchableContainerProperty;
+import com.wynntils.models.containers.type.StoredItemLocation;
 import com.wynntils.models.items.WynnItem;
 import com.wynntils.models.items.WynnItemData;
 import com.wynntils.screens.base.TextboxScreen;
@@ -54,13 +55,17 @@ import com.wynntils.utils.mc.KeyboardUtils;
 import com.wynntils.utils.mc.McUtils;
 import com.wynntils.utils.render.RenderUtils;
 import com.wynntils.utils.wynn.ContainerUtils;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
+import net.minecraft.ChatFormatting;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.client.gui.screens.inventory.AbstractContainerScreen;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.world.Container;
 import net.minecraft.world.inventory.ChestMenu;
 import net.minecraft.world.item.ItemStack;
@@ -115,6 +120,9 @@ public class ContainerSearchFeature extends Feature {
     @Persisted
     private final Config<CustomColor> highlightColor = new Config<>(CommonColors.MAGENTA);
 
+    @Persisted
+    private final Config<Boolean> useStorageIndex = new Config<>(false);
+
     private final Map<Class<? extends SearchableContainerProperty>, Supplier<Boolean>> searchableContainerMap =
             Map.ofEntries(
                     Map.entry(AccountBankContainer.class, filterInBank::get),
@@ -139,6 +147,7 @@ public class ContainerSearchFeature extends Feature {
     // some items are updated and some are not. We will assume that after SEARCH_DELAY_MS milliseconds, the inventory
     // is fully updated.
     private static final int GUILD_BANK_SEARCH_DELAY = 500;
+    private static final int MAX_INDEXED_ITEMS_SHOWN = 10;
     private long guildBankLastSearch = 0;
 
     private SearchWidget lastSearchWidget;
@@ -297,6 +306,13 @@ public class ContainerSearchFeature extends Feature {
                 }
             }
 
+            // Items seen on other pages before can be located without paging through the storage
+            if (currentContainer instanceof PersonalStorageContainer personalStorageContainer
+                    && useStorageIndex.get()
+                    && showIndexedItems(personalStorageContainer)) {
+                return;
+            }
+
             // "Find next" should not immediately stop due to matches on the current page.
             matchedItems = false;
             autoSearching = true;
@@ -316,6 +332,37 @@ public class ContainerSearchFeature extends Feature {
         }
     }
 
+    private boolean showIndexedItems(PersonalStorageContainer container) {
+        List<StoredItemLocation> indexedItems = container.supportsAdvancedSearch() && lastSearchQuery != null
+                ? Models.StorageIndex.findItems(lastSearchQuery)
+                : Models.StorageIndex.findItems(lastSearchWidget.getTextBoxInput());
+        List<StoredItemLocation> locations = indexedItems.stream()
+                .filter(location -> location.storageType() == container.getPersonalStorageType())
+                .filter(location -> location.page() != Models.Bank.getCurrentPage())
+                .toList();
+        if (locations.isEmpty()) return false;
+
+        MutableComponent message = Component.translatable(
+                        "feature.wynntils.containerSearch.indexedItems", locations.size())
+                .withStyle(ChatFormatting.GREEN);
+        locations.stream()
+                .limit(MAX_INDEXED_ITEMS_SHOWN)
+                .forEach(location -> message.append(Component.literal("\n- ")
+                        .withStyle(ChatFormatting.GRAY)
+                        .append(Component.literal(location.item().name()).withStyle(ChatFormatting.WHITE))
+                        .append(Component.literal(" "))
+                        .append(Component.translatable(
+                                        "feature.wynntils.containerSearch.itemLocation",
+                                        location.storageType().getDisplayName(),
+                                        location.page(),
+                                        location.getRow(),
+                                        location.getColumn())
+                                .withStyle(ChatFormatting.GRAY))));
+        McUtils.sendWynntilsPrefixMessage(message);
+
+        return true;
+    }
+
     private void tryAutoSearch(AbstractContainerScreen<?> abstractContainerScreen) {
         if (!autoSearching) return;
         if (awaitingAutoSearchUpdate) return;
@@ -22,10 +22,14 @@ import com.wynntils.utils.colors.WynncraftShaderColor;
 import com.wynntils.utils.mc.McUtils;
 import com.wynntils.utils.mc.type.Location;
 import com.wynntils.utils.render.CustomBeaconRenderer;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import net.minecraft.client.renderer.blockentity.BeaconRenderer;
 import net.minecraft.core.Position;
 import net.neoforged.bus.api.SubscribeEvent;
+import org.joml.FrustumIntersection;
+import org.joml.Matrix4f;
 
 @ConfigCategory(Category.MAP)
 public class BeaconBeamFeature extends Feature {
@@ -33,6 +37,15 @@ public class BeaconBeamFeature extends Feature {
     private final Config<CustomColor> waypointBeamColor = new Config<>(CommonColors.RED);
 
     private static final int RAINBOW_CHANGE_RATE = 10;
+    // Larger than the beam glow, so beams at the edge of the screen are not culled
+    private static final float BEAM_CULLING_RADIUS = 1f;
+    private static final Comparator<VisibleBeam> BEAM_DISTANCE_COMPARATOR =
+            Comparator.comparingDouble(VisibleBeam::distance).reversed();
+
+    private final Matrix4f frustumMatrix = new Matrix4f();
+    private final FrustumIntersection frustum = new FrustumIntersection();
+    private final List<VisibleBeam> visibleBeams = new ArrayList<>();
+
     private CustomColor currentRainbowColor = CommonColors.RED;
 
     public BeaconBeamFeature() {
@@ -66,13 +79,20 @@ public class BeaconBeamFeature extends Feature {
 
     @SubscribeEvent
     public void onRenderLevelLast(RenderTileLevelLastEvent event) {
-        List<MarkerInfo> markers = Models.Marker.getAllMarkers().toList();
+        List<MarkerInfo> markers = Models.Marker.getMarkers();
         if (markers.isEmpty()) return;
 
-        PoseStack poseStack = event.getPoseStack();
+        // Everything but the marker positions is the same for all beams in this frame
+        Position camera = event.getCameraRenderState().pos;
+        int maxDistance = McUtils.options().renderDistance().get() * 16;
+        float partial = event.getDeltaTracker().getGameTimeDeltaPartialTick(false);
+        long gameTime = McUtils.mc().level.getGameTime();
+        float animationTime = (gameTime % 40) + partial;
+
+        frustum.set(frustumMatrix.set(event.getCullingProjectionMatrix()).mul(event.getFrustumMatrix()), false);
 
+        visibleBeams.clear();
         for (MarkerInfo marker : markers) {
-            Position camera = event.getCameraRenderState().pos;
             Location location = marker.location();
 
             double dx = location.x - camera.x();
@@ -80,7 +100,6 @@ public class BeaconBeamFeature extends Feature {
             double dz = location.z - camera.z();
 
             double distance = MathUtils.magnitude(dx, dz);
-            int maxDistance = McUtils.options().renderDistance().get() * 16;
 
             if (distance > maxDistance) {
                 double scale = maxDistance / distance;
@@ -89,17 +108,38 @@ public class BeaconBeamFeature extends Feature {
                 dz *= scale;
             }
 
+            // The beam goes up from the marker, so only its column needs to be in view
+            if (!frustum.testAab(
+                    (float) dx - BEAM_CULLING_RADIUS,
+                    (float) dy,
+                    (float) dz - BEAM_CULLING_RADIUS,
+                    (float) dx + BEAM_CULLING_RADIUS,
+                    (float) dy + BeaconRenderer.MAX_RENDER_Y,
+                    (float) dz + BEAM_CULLING_RADIUS)) {
+                continue;
+            }
+
+            visibleBeams.add(new VisibleBeam(marker, dx, dy, dz, distance));
+        }
+
+        // Submit the translucent beams back to front, so the closer ones blend over the ones behind them
+        visibleBeams.sort(BEAM_DISTANCE_COMPARATOR);
+
+        PoseStack poseStack = event.getPoseStack();
+
+        for (VisibleBeam beam : visibleBeams) {
             float alpha = 1f;
 
-            if (distance <= 7) {
-                alpha = MathUtils.clamp(MathUtils.map((float) distance, 2f, 7f, 0f, 1f), 0f, 1f);
+            if (beam.distance() <= 7) {
+                alpha = MathUtils.clamp(MathUtils.map((float) beam.distance(), 2f, 7f, 0f, 1f), 0f, 1f);
             }
 
             poseStack.pushPose();
-            poseStack.translate(dx, dy, dz);
+            poseStack.translate(beam.dx(), beam.dy(), beam.dz());
 
-            CustomColor color =
-                    marker.beaconColor() == CustomColor.NONE ? waypointBeamColor.get() : marker.beaconColor();
+            CustomColor color = beam.marker().beaconColor() == CustomColor.NONE
+                    ? waypointBeamColor.get()
+                    : beam.marker().beaconColor();
 
             int colorInt;
             if (color == WynncraftShaderColor.RAINBOW.color) {
@@ -108,10 +148,6 @@ public class BeaconBeamFeature extends Feature {
                 colorInt = color.withAlpha(alpha).asInt();
             }
 
-            float partial = event.getDeltaTracker().getGameTimeDeltaPartialTick(false);
-            long gameTime = McUtils.mc().level.getGameTime();
-            float animationTime = (gameTime % 40) + partial;
-
             CustomBeaconRenderer.submitBeaconBeam(
                     poseStack,
                     event.getSubmitNodeStorage(),
@@ -126,5 +162,9 @@ public class BeaconBeamFeature extends Feature {
 
             poseStack.popPose();
         }
+
+        visibleBeams.clear();
     }
+
+    private record VisibleBeam(MarkerInfo marker, double dx, double dy, double dz, double distance) {}
 }
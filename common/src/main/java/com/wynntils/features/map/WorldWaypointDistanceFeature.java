@@ -30,6 +30,7 @@ import com.wynntils.utils.render.type.TextShadow;
 import com.wynntils.utils.render.type.VerticalAlignment;
 import com.wynntils.utils.type.RenderElementType;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import net.minecraft.client.Camera;
 import net.minecraft.client.gui.GuiGraphics;
@@ -39,9 +40,6 @@ import net.minecraft.world.phys.Vec3;
 import net.neoforged.bus.api.SubscribeEvent;
 import org.joml.Matrix3x2f;
 import org.joml.Matrix4f;
-import org.joml.Quaternionf;
-import org.joml.Vector3d;
-import org.joml.Vector3f;
 import org.joml.Vector4f;
 
 @ConfigCategory(Category.MAP)
@@ -85,7 +83,12 @@ public class WorldWaypointDistanceFeature extends Feature {
     @Persisted
     private final Config<Boolean> showAdditionalTextAbove = new Config<>(false);
 
+    private static final Comparator<RenderedMarkerInfo> RENDER_ORDER_COMPARATOR =
+            Comparator.comparingDouble(RenderedMarkerInfo::distance).reversed();
+
     private final List<RenderedMarkerInfo> renderedMarkers = new ArrayList<>();
+    private final Matrix4f cameraProjection = new Matrix4f();
+    private final Vector4f clipCoords = new Vector4f();
 
     public WorldWaypointDistanceFeature() {
         super(ProfileDefault.ENABLED);
@@ -95,25 +98,26 @@ public class WorldWaypointDistanceFeature extends Feature {
     public void onRenderLevelPost(RenderLevelEvent.Post event) {
         this.renderedMarkers.clear();
 
-        List<MarkerInfo> markers = Models.Marker.getAllMarkers().toList();
+        List<MarkerInfo> markers = Models.Marker.getMarkers();
         if (markers.isEmpty()) return;
 
         Position playerPosition =
                 McUtils.player() == null ? null : McUtils.player().position();
 
+        // The camera projection is the same for all markers in this frame
+        Camera camera = event.getCamera();
+        Position cameraPos = camera.position();
+        cameraProjection
+                .set(event.getProjectionMatrix())
+                .rotateX((float) Math.toRadians(camera.xRot()))
+                .rotateY((float) Math.toRadians(camera.yRot() + 180f));
+
+        int maxDistance = McUtils.options().renderDistance().get() * 16;
+        int maxTextDistance = maxWaypointTextDistance.get();
+        Window window = McUtils.window();
+
         for (MarkerInfo marker : markers) {
             Location location = marker.location();
-            Matrix4f projection = new Matrix4f(event.getProjectionMatrix());
-            Camera camera = event.getCamera();
-            Position cameraPos = camera.position();
-
-            // apply camera rotation
-            Vector3f xp = new Vector3f(1, 0, 0);
-            Vector3f yp = new Vector3f(0, 1, 0);
-            Quaternionf xRotation = new Quaternionf().rotationAxis((float) Math.toRadians(camera.xRot()), xp);
-            Quaternionf yRotation = new Quaternionf().rotationAxis((float) Math.toRadians(camera.yRot() + 180f), yp);
-            projection.mul(new Matrix4f().rotation(xRotation));
-            projection.mul(new Matrix4f().rotation(yRotation));
 
             // offset to put text to the center of the block
             float dx = (float) (location.x + 0.5 - cameraPos.x());
@@ -127,10 +131,13 @@ public class WorldWaypointDistanceFeature extends Feature {
             double squaredDistance = dx * dx + dy * dy + dz * dz;
 
             double distance = Math.sqrt(squaredDistance);
+
+            // Markers that are too far away are not rendered at all, so there is no need to project them
+            if (maxTextDistance != 0 && maxTextDistance < distance) continue;
+
             double playerDistance = playerPosition == null
                     ? Double.POSITIVE_INFINITY
                     : Math.sqrt(getSquaredPlayerDistance(location, playerPosition));
-            int maxDistance = McUtils.options().renderDistance().get() * 16;
 
             String distanceText = Math.round((float) distance) + "m";
 
@@ -147,9 +154,12 @@ public class WorldWaypointDistanceFeature extends Feature {
                     playerDistance,
                     distanceText,
                     marker,
-                    worldToScreen(new Vector3f(dx, dy, dz), projection),
+                    worldToScreen(dx, dy, dz, window),
                     marker.additionalText()));
         }
+
+        // Render the closest markers last, so they are drawn over the ones further away
+        this.renderedMarkers.sort(RENDER_ORDER_COMPARATOR);
     }
 
     @SubscribeEvent
@@ -200,8 +210,6 @@ public class WorldWaypointDistanceFeature extends Feature {
         if (event.getType() != RenderElementType.HOTBAR) return;
 
         for (RenderedMarkerInfo renderedMarker : renderedMarkers) {
-            if (maxWaypointTextDistance.get() != 0 && maxWaypointTextDistance.get() < renderedMarker.distance) continue;
-
             float renderOpacity = getRenderOpacity(renderedMarker);
             float backgroundRenderOpacity = MathUtils.clamp(backgroundOpacity.get(), 0f, 1f) * renderOpacity;
 
@@ -373,20 +381,18 @@ public class WorldWaypointDistanceFeature extends Feature {
         return color == CustomColor.NONE ? color : color.withAlpha(opacity);
     }
 
-    private Vec3 worldToScreen(Vector3f delta, Matrix4f projection) {
-        Vector4f clipCoords = new Vector4f(delta.x(), delta.y(), delta.z(), 1.0f);
-        projection.transform(clipCoords);
+    private Vec3 worldToScreen(float dx, float dy, float dz, Window window) {
+        cameraProjection.transform(clipCoords.set(dx, dy, dz, 1.0f));
 
         // stands for Normalized Device Coordinates
-        Vector3d ndc = new Vector3d(
-                clipCoords.x() / clipCoords.w(), clipCoords.y() / clipCoords.w(), clipCoords.z() / clipCoords.w());
-
-        Window window = McUtils.window();
+        double ndcX = clipCoords.x() / clipCoords.w();
+        double ndcY = clipCoords.y() / clipCoords.w();
+        double ndcZ = clipCoords.z() / clipCoords.w();
 
         return new Vec3(
-                (float) ((ndc.x + 1.0f) / 2.0f) * window.getGuiScaledWidth(),
-                (float) ((1.0f - ndc.y) / 2.0f) * window.getGuiScaledHeight(),
-                (float) ndc.z);
+                (float) ((ndcX + 1.0f) / 2.0f) * window.getGuiScaledWidth(),
+                (float) ((1.0f - ndcY) / 2.0f) * window.getGuiScaledHeight(),
+                (float) ndcZ);
     }
 
     // draw a line from screen center to the target's screenspace coordinate
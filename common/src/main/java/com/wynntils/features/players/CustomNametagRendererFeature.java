@@ -39,7 +39,10 @@ import com.wynntils.utils.wynn.ColorScaleUtils;
 import com.wynntils.utils.wynn.RaycastUtils;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.WeakHashMap;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.gui.screens.ChatScreen;
 import net.minecraft.client.player.AbstractClientPlayer;
@@ -48,6 +51,7 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.FontDescription;
 import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.network.chat.Style;
+import net.minecraft.network.chat.TextColor;
 import net.minecraft.resources.Identifier;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.player.Player;
@@ -62,6 +66,8 @@ public class CustomNametagRendererFeature extends Feature {
     private static final int BADGE_SCROLL_SPEED = 40;
     private static final Identifier WYNNTILS_NAMETAG_LOGO_FONT = Identifier.fromNamespaceAndPath("wynntils", "nametag");
     private static final String WYNNTILS_NAMETAG_LOGO = "\uE100";
+    private static final Component LOCAL_PLAYER_LOGO = createLogo(ChatFormatting.WHITE);
+    private static final Component OTHER_PLAYER_LOGO = createLogo(ChatFormatting.GRAY);
 
     @Persisted
     private final Config<Boolean> hideAllNametags = new Config<>(false);
@@ -93,8 +99,14 @@ public class CustomNametagRendererFeature extends Feature {
     @Persisted
     private final Config<Float> customNametagScale = new Config<>(0.5f);
 
+    // Formatted gear lines of the players that were hovered, dropped with their Hades user
+    private final Map<HadesUser, GearNametags> gearNametagCache = new WeakHashMap<>();
+    // Only used on the render thread, reused for every player
+    private final List<CustomNametag> playerNametags = new ArrayList<>();
+
     private float nextNametagScale = 1f;
     private Player hitPlayerCache = null;
+    private int configGeneration = 0;
 
     public CustomNametagRendererFeature() {
         super(new ProfileDefault.Builder()
@@ -121,23 +133,28 @@ public class CustomNametagRendererFeature extends Feature {
             return;
         }
 
-        List<CustomNametag> nametags = new ArrayList<>();
+        playerNametags.clear();
 
         if (showGearOnHover.get()) {
-            addGearNametags(event, nametags);
+            addGearNametags(event, playerNametags);
         }
 
-        addAccountTypeNametag(event, nametags);
+        addAccountTypeNametag(event, playerNametags);
 
         // need to handle the rendering ourselves
-        if (!nametags.isEmpty()) {
+        if (!playerNametags.isEmpty()) {
             event.setCanceled(true);
-            drawNametags(event, nametags);
+            drawNametags(event, playerNametags);
         } else {
             drawBadges(event, 0);
         }
     }
 
+    @Override
+    protected void onConfigUpdate(Config<?> config) {
+        configGeneration++;
+    }
+
     @SubscribeEvent
     public void onEntityNameTagRender(EntityNameTagRenderEvent event) {
         if (hideAllNametags.get()) {
@@ -187,26 +204,47 @@ public class CustomNametagRendererFeature extends Feature {
         Optional<HadesUser> hadesUserOpt = Services.Hades.getHadesUser(hitPlayerCache.getUUID());
         if (hadesUserOpt.isEmpty()) return;
 
-        MutableComponent handComp = getItemComponent(hadesUserOpt.get().getHeldItem(), showGearPercentage.get());
+        HadesUser hadesUser = hadesUserOpt.get();
+        ItemStatInfoFeature isif = Managers.Feature.getFeatureInstance(ItemStatInfoFeature.class);
+
+        GearNametags gearNametags = gearNametagCache.get(hadesUser);
+        if (gearNametags == null || !gearNametags.isValidFor(hadesUser, configGeneration, isif)) {
+            gearNametags = new GearNametags(
+                    hadesUser.getGearVersion(),
+                    configGeneration,
+                    isif.getColorMap(),
+                    isif.decimalPlaces.get(),
+                    createGearNametags(hadesUser));
+            gearNametagCache.put(hadesUser, gearNametags);
+        }
+
+        nametags.addAll(gearNametags.nametags());
+    }
+
+    private List<CustomNametag> createGearNametags(HadesUser hadesUser) {
+        List<CustomNametag> gearNametags = new ArrayList<>();
+
+        MutableComponent handComp = getItemComponent(hadesUser.getHeldItem(), showGearPercentage.get());
         if (handComp != null) {
-            nametags.add(new CustomNametag(handComp, customNametagScale.get()));
+            gearNametags.add(new CustomNametag(handComp, customNametagScale.get()));
         }
 
-        for (InventoryAccessory accessory : hadesUserOpt.get().getAccessories().descendingKeySet()) {
+        for (InventoryAccessory accessory : hadesUser.getAccessories().descendingKeySet()) {
             MutableComponent accessoryComp =
-                    getItemComponent(hadesUserOpt.get().getAccessories().get(accessory), showGearPercentage.get());
+                    getItemComponent(hadesUser.getAccessories().get(accessory), showGearPercentage.get());
             if (accessoryComp != null) {
-                nametags.add(new CustomNametag(accessoryComp, customNametagScale.get()));
+                gearNametags.add(new CustomNametag(accessoryComp, customNametagScale.get()));
             }
         }
 
-        for (InventoryArmor armor : hadesUserOpt.get().getArmor().descendingKeySet()) {
-            MutableComponent armorComp =
-                    getItemComponent(hadesUserOpt.get().getArmor().get(armor), showGearPercentage.get());
+        for (InventoryArmor armor : hadesUser.getArmor().descendingKeySet()) {
+            MutableComponent armorComp = getItemComponent(hadesUser.getArmor().get(armor), showGearPercentage.get());
             if (armorComp != null) {
-                nametags.add(new CustomNametag(armorComp, customNametagScale.get()));
+                gearNametags.add(new CustomNametag(armorComp, customNametagScale.get()));
             }
         }
+
+        return List.copyOf(gearNametags);
     }
 
     private static MutableComponent getItemComponent(WynnItem wynnItem, boolean showGearPercentage) {
@@ -270,17 +308,9 @@ public class CustomNametagRendererFeature extends Feature {
         }
 
         // Add an appropriate Wynntils marker
-        ChatFormatting logoColor;
-        if (Models.Player.isLocalPlayer(player)) {
-            logoColor = ChatFormatting.WHITE;
-        } else {
-            logoColor = ChatFormatting.GRAY;
-        }
+        Component logo = Models.Player.isLocalPlayer(player) ? LOCAL_PLAYER_LOGO : OTHER_PLAYER_LOGO;
         Component prefixedName = Component.empty()
-                .append(Component.literal(WYNNTILS_NAMETAG_LOGO)
-                        .withStyle(Style.EMPTY
-                                .withFont(new FontDescription.Resource(WYNNTILS_NAMETAG_LOGO_FONT))
-                                .withColor(logoColor)))
+                .append(logo)
                 .append(" ")
                 .append(event.getEntityRenderState().nameTag);
         nametags.add(new CustomNametag(prefixedName, 1f));
@@ -357,5 +387,26 @@ public class CustomNametagRendererFeature extends Feature {
         }
     }
 
+    private static Component createLogo(ChatFormatting logoColor) {
+        return Component.literal(WYNNTILS_NAMETAG_LOGO)
+                .withStyle(Style.EMPTY
+                        .withFont(new FontDescription.Resource(WYNNTILS_NAMETAG_LOGO_FONT))
+                        .withColor(logoColor));
+    }
+
     private record CustomNametag(Component nametagComponent, float nametagScale) {}
+
+    private record GearNametags(
+            int gearVersion,
+            int configGeneration,
+            NavigableMap<Float, TextColor> colorMap,
+            int decimalPlaces,
+            List<CustomNametag> nametags) {
+        private boolean isValidFor(HadesUser hadesUser, int currentConfigGeneration, ItemStatInfoFeature isif) {
+            return gearVersion == hadesUser.getGearVersion()
+                    && configGeneration == currentConfigGeneration
+                    && colorMap == isif.getColorMap()
+                    && decimalPlaces == isif.decimalPlaces.get();
+        }
+    }
 }
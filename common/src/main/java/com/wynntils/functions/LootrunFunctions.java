@@ -14,7 +14,6 @@ import com.wynntils.models.lootrun.type.TaskLocation;
 import com.wynntils.utils.EnumUtils;
 import com.wynntils.utils.mc.type.Location;
 import com.wynntils.utils.type.CappedValue;
-import java.util.Comparator;
 import java.util.List;
 
 public class LootrunFunctions {
@@ -57,32 +56,21 @@ public class LootrunFunctions {
     public static class HighestDryStreakFunction extends Function<Integer> {
         @Override
         public Integer getValue(FunctionArguments arguments) {
-            return Models.LootChest.getMythicFinds().stream()
-                    .max(Comparator.comparing(MythicFind::dryCount))
-                    .map(MythicFind::dryCount)
-                    .orElse(0);
+            return Models.LootChest.getHighestMythicDryCount();
         }
     }
 
     public static class LastDryStreakFunction extends Function<Integer> {
         @Override
         public Integer getValue(FunctionArguments arguments) {
-            List<MythicFind> mythicFinds = Models.LootChest.getMythicFinds();
-
-            if (mythicFinds.isEmpty()) return 0;
-
-            return mythicFinds.getLast().dryCount();
+            return Models.LootChest.getLastMythicFind().map(MythicFind::dryCount).orElse(0);
         }
     }
 
     public static class LastMythicFunction extends Function<String> {
         @Override
         public String getValue(FunctionArguments arguments) {
-            List<MythicFind> mythicFinds = Models.LootChest.getMythicFinds();
-
-            if (mythicFinds.isEmpty()) return "";
-
-            return mythicFinds.getLast().itemName();
+            return Models.LootChest.getLastMythicFind().map(MythicFind::itemName).orElse("");
         }
     }
 
@@ -309,10 +309,7 @@ public class RaidFunctions {
         @Override
         public Integer getValue(FunctionArguments arguments) {
             int sinceDays = arguments.getArgument("sinceDays").getIntegerValue();
-            return Math.toIntExact(Models.Raid.historicRaids.get().stream()
-                    .filter(historicRaidInfo -> historicRaidInfo.endedTimestamp()
-                            >= System.currentTimeMillis() - TimeUnit.DAYS.toMillis(sinceDays))
-                    .count());
+            return Models.Raid.getRaidRunsSince(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(sinceDays));
         }
 
         @Override
@@ -327,12 +324,8 @@ public class RaidFunctions {
         public Integer getValue(FunctionArguments arguments) {
             String raidName = arguments.getArgument("raidName").getStringValue();
             int sinceDays = arguments.getArgument("sinceDays").getIntegerValue();
-            return Math.toIntExact(Models.Raid.historicRaids.get().stream()
-                    .filter(historicRaidInfo -> (historicRaidInfo.name().equalsIgnoreCase(raidName)
-                                    || historicRaidInfo.abbreviation().equalsIgnoreCase(raidName))
-                            && historicRaidInfo.endedTimestamp()
-                                    >= System.currentTimeMillis() - TimeUnit.DAYS.toMillis(sinceDays))
-                    .count());
+            return Models.Raid.getRaidRunsSince(
+                    raidName, System.currentTimeMillis() - TimeUnit.DAYS.toMillis(sinceDays));
         }
 
         @Override
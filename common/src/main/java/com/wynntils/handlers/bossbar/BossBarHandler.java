@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2025.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.handlers.bossbar;
@@ -9,12 +9,11 @@ import com.wynntils.core.components.Handler;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.bossbar.event.BossBarAddedEvent;
 import com.wynntils.mc.event.BossHealthUpdateEvent;
-import com.wynntils.utils.type.Pair;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Consumer;
 import java.util.regex.Matcher;
@@ -26,11 +25,24 @@ import net.minecraft.world.BossEvent;
 import net.neoforged.bus.api.SubscribeEvent;
 
 public final class BossBarHandler extends Handler {
+    private static final int MATCH_CACHE_SIZE = 64;
+
     private final Map<UUID, TrackedBar> presentBars = new HashMap<>();
-    private final List<TrackedBar> knownBars = new ArrayList<>();
+    // The patterns of all known bars, in the order they are tried
+    private final List<BarPattern> barPatterns = new ArrayList<>();
+    // Names are resent unchanged many times a second, so the last matches are kept per bar,
+    // and a repeated name reuses the matcher instead of matching the patterns again
+    private final Map<BarName, BarMatch> matchCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<BarName, BarMatch> eldest) {
+            return size() > MATCH_CACHE_SIZE;
+        }
+    };
 
     public void registerBar(TrackedBar trackedBar) {
-        knownBars.add(trackedBar);
+        for (Pattern pattern : trackedBar.patterns) {
+            barPatterns.add(new BarPattern(trackedBar, pattern));
+        }
     }
 
     // FixPacketBugsFeature gets in the way if receiveCanceled is not set
@@ -58,11 +70,11 @@ public final class BossBarHandler extends Handler {
                 boolean darkenScreen,
                 boolean playMusic,
                 boolean createWorldFog) {
-            Optional<Pair<TrackedBar, Matcher>> trackedBarOpt = matchBar(name);
-            if (trackedBarOpt.isEmpty()) return;
+            BarMatch barMatch = matchBar(id, name, null);
+            if (barMatch == null) return;
 
-            TrackedBar trackedBar = trackedBarOpt.get().a();
-            Matcher matcher = trackedBarOpt.get().b();
+            TrackedBar trackedBar = barMatch.trackedBar();
+            Matcher matcher = barMatch.matcher();
 
             LerpingBossEvent bossEvent =
                     new LerpingBossEvent(id, name, progress, color, overlay, darkenScreen, playMusic, createWorldFog);
@@ -97,13 +109,30 @@ public final class BossBarHandler extends Handler {
             }
         }
 
-        private Optional<Pair<TrackedBar, Matcher>> matchBar(Component name) {
-            return knownBars.stream()
-                    .flatMap(trackedBar -> trackedBar.patterns.stream().map(pattern -> new Pair<>(trackedBar, pattern)))
-                    .map(pair ->
-                            new Pair<>(pair.a(), StyledText.fromComponent(name).getMatcher(pair.b())))
-                    .filter(pair -> pair.b().matches())
-                    .findFirst();
+        /**
+         * Matches the name against the patterns of the given bar, or of all known bars if it is null, in one pass over
+         * the patterns with a single conversion of the name. Returns null if no pattern matches.
+         */
+        private BarMatch matchBar(UUID id, Component name, TrackedBar trackedBar) {
+            BarName barName = new BarName(id, name);
+            BarMatch cachedMatch = matchCache.get(barName);
+            if (cachedMatch != null && (trackedBar == null || cachedMatch.trackedBar() == trackedBar)) {
+                return cachedMatch;
+            }
+
+            StyledText nameText = StyledText.fromComponent(name);
+            for (BarPattern barPattern : barPatterns) {
+                if (trackedBar != null && barPattern.trackedBar() != trackedBar) continue;
+
+                Matcher matcher = nameText.getMatcher(barPattern.pattern());
+                if (matcher.matches()) {
+                    BarMatch barMatch = new BarMatch(barPattern.trackedBar(), matcher);
+                    matchCache.put(barName, barMatch);
+                    return barMatch;
+                }
+            }
+
+            return null;
         }
 
         @Override
@@ -112,6 +141,8 @@ public final class BossBarHandler extends Handler {
                 trackedBar.reset();
                 presentBars.remove(id);
             });
+
+            matchCache.keySet().removeIf(barName -> barName.id().equals(id));
         }
 
         @Override
@@ -126,23 +157,20 @@ public final class BossBarHandler extends Handler {
         public void updateName(UUID id, Component name) {
             // Some bars like the skip cutscene bar start out as an empty component and set the name later
             if (!presentBars.containsKey(id)) {
-                Optional<Pair<TrackedBar, Matcher>> trackedBarOpt = matchBar(name);
-                trackedBarOpt.ifPresent(trackedBarMatcherPair -> presentBars.put(id, trackedBarMatcherPair.a()));
+                BarMatch barMatch = matchBar(id, name, null);
+                if (barMatch != null) {
+                    presentBars.put(id, barMatch.trackedBar());
+                }
             }
 
             handleBarUpdate(id, trackedBar -> {
-                StyledText nameText = StyledText.fromComponent(name);
-
-                for (Pattern pattern : trackedBar.patterns) {
-                    Matcher matcher = nameText.getMatcher(pattern);
-                    if (matcher.matches()) {
-                        trackedBar.onUpdateName(matcher);
-                        return;
-                    }
+                BarMatch barMatch = matchBar(id, name, trackedBar);
+                if (barMatch == null) {
+                    WynntilsMod.error("Failed to match already matched boss bar");
+                    return;
                 }
 
-                WynntilsMod.error("Failed to match already matched boss bar");
-                return;
+                trackedBar.onUpdateName(barMatch.matcher());
             });
         }
 
@@ -157,4 +185,11 @@ public final class BossBarHandler extends Handler {
             handleBarUpdate(id, trackedBar -> {});
         }
     }
+
+    private record BarPattern(TrackedBar trackedBar, Pattern pattern) {}
+
+    private record BarName(UUID id, Component name) {}
+
+    // The matcher has already matched, so its groups can be read again for a repeated name
+    private record BarMatch(TrackedBar trackedBar, Matcher matcher) {}
 }
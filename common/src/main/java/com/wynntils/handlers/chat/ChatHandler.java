@@ -7,7 +7,10 @@ package com.wynntils.handlers.chat;
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Handler;
 import com.wynntils.core.components.Handlers;
+import com.wynntils.core.components.Managers;
 import com.wynntils.core.components.Models;
+import com.wynntils.core.metrics.RateGauge;
+import com.wynntils.core.metrics.TimerMetric;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.core.text.type.StyleType;
 import com.wynntils.handlers.chat.event.ChatMessageEvent;
@@ -40,12 +43,17 @@ import net.neoforged.bus.api.SubscribeEvent;
 public final class ChatHandler extends Handler {
     private static final int TICKS_PER_EXECUTE = 20;
 
+    private final TimerMetric handleTimer = Managers.Metrics.getTimer("chat.handle");
+    private final RateGauge messageRate = Managers.Metrics.getRateGauge("chat.messages");
     private final LinkedHashSet<QueuedMessage> chatQueue = new LinkedHashSet<>();
     private int chatQueueTicks = 0;
 
     @SubscribeEvent(priority = EventPriority.HIGHEST)
     public void onSystemChatReceived(SystemMessageEvent.ChatReceivedEvent event) {
+        long startTime = handleTimer.start();
         handleIncomingChatMessage(event);
+        handleTimer.stop(startTime);
+        messageRate.mark();
     }
 
     private void handleIncomingChatMessage(SystemMessageEvent.ChatReceivedEvent event) {
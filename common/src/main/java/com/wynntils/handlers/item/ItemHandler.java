@@ -6,6 +6,8 @@ package com.wynntils.handlers.item;
 
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Handler;
+import com.wynntils.core.components.Managers;
+import com.wynntils.core.metrics.TimerMetric;
 import com.wynntils.core.mod.type.CrashType;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.core.text.type.StyleType;
@@ -44,9 +46,10 @@ public final class ItemHandler extends Handler {
 
     private static final Pattern TOOLTIP_PAGE_PATTERN = Pattern.compile("(§#ffea80ff)?\uE000");
 
+    public static final String ANNOTATION_METRIC_PREFIX = "item.annotate.";
+
     private final List<ItemAnnotator> annotators = new ArrayList<>();
-    private final Map<Class<?>, Integer> profilingTimes = new HashMap<>();
-    private final Map<Class<?>, Integer> profilingCounts = new HashMap<>();
+    private final Map<Class<?>, TimerMetric> annotationTimers = new HashMap<>();
     // Keep this as a field just of performance reasons to skip a new allocation in annotate()
     private final List<ItemAnnotator> crashedAnnotators = new ArrayList<>();
     private final List<Pattern> simplifiablePatterns = new ArrayList<>();
@@ -258,7 +261,7 @@ public final class ItemHandler extends Handler {
     }
 
     private ItemAnnotation calculateAnnotation(ItemStack itemStack, StyledText name) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         StyledText simplified = simplifyName(name);
 
@@ -300,7 +303,7 @@ public final class ItemHandler extends Handler {
         }
 
         // Measure performance
-        logProfilingData(startTime, annotation);
+        recordAnnotationTime(startTime, annotation);
 
         return annotation;
     }
@@ -345,27 +348,11 @@ public final class ItemHandler extends Handler {
         updateItem(itemStack, annotation, name);
     }
 
-    private void logProfilingData(long startTime, ItemAnnotation annotation) {
-        long endTime = System.currentTimeMillis();
-        int timeSpent = (int) (endTime - startTime);
-        int allTime = profilingTimes.getOrDefault(annotation.getClass(), 0);
-        profilingTimes.put(annotation.getClass(), allTime + timeSpent);
-
-        int allCount = profilingCounts.getOrDefault(annotation.getClass(), 0);
-        profilingCounts.put(annotation.getClass(), allCount + 1);
-    }
-
-    public Map<Class<?>, Integer> getProfilingTimes() {
-        return profilingTimes;
-    }
-
-    public Map<Class<?>, Integer> getProfilingCounts() {
-        return profilingCounts;
-    }
-
-    public void resetProfiling() {
-        profilingTimes.clear();
-        profilingCounts.clear();
+    private void recordAnnotationTime(long startTime, ItemAnnotation annotation) {
+        annotationTimers
+                .computeIfAbsent(annotation.getClass(), clazz -> Managers.Metrics.getTimer(
+                        ANNOTATION_METRIC_PREFIX + clazz.getSimpleName()))
+                .stop(startTime);
     }
 
     public List<ItemAnnotator> getAnnotators() {
@@ -1,11 +1,14 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.handlers.labels;
 
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Handler;
+import com.wynntils.core.components.Managers;
+import com.wynntils.core.metrics.RateGauge;
+import com.wynntils.core.metrics.TimerMetric;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.labels.event.EntityLabelEvent;
 import com.wynntils.handlers.labels.event.LabelIdentifiedEvent;
@@ -15,34 +18,63 @@ import com.wynntils.handlers.labels.type.LabelInfo;
 import com.wynntils.handlers.labels.type.LabelParser;
 import com.wynntils.mc.event.RemoveEntitiesEvent;
 import com.wynntils.mc.event.SetEntityDataEvent;
+import com.wynntils.mc.event.TickEvent;
 import com.wynntils.models.worlds.event.WorldStateEvent;
 import com.wynntils.utils.mc.McUtils;
 import com.wynntils.utils.mc.type.Location;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongMaps;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import net.minecraft.core.SectionPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.syncher.EntityDataSerializer;
 import net.minecraft.network.syncher.SynchedEntityData;
 import net.minecraft.world.entity.Display;
 import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.phys.Vec3;
 import net.neoforged.bus.api.EventPriority;
 import net.neoforged.bus.api.SubscribeEvent;
 
 public final class LabelHandler extends Handler {
     private final List<LabelParser> parsers = new ArrayList<>();
+    private final TimerMetric handleTimer = Managers.Metrics.getTimer("label.handle");
+    private final RateGauge updateRate = Managers.Metrics.getRateGauge("label.updates");
 
-    private final Map<Integer, LabelInfo> liveLabels = new HashMap<>();
+    // All labels that have been identified, until their entity is removed
+    private final Int2ObjectMap<LabelInfo> liveLabels = new Int2ObjectOpenHashMap<>();
+
+    // Labels whose current text is identified, bucketed by type and indexed by the chunk their entity is in
+    private final Map<Class<? extends LabelInfo>, Int2ObjectMap<LabelInfo>> labelsByType = new HashMap<>();
+    private final Long2ObjectMap<IntSet> labelsByChunk = new Long2ObjectOpenHashMap<>();
+    private final Int2LongMap labelChunks = new Int2LongOpenHashMap();
 
     @SubscribeEvent(priority = EventPriority.HIGHEST)
     public void onEntitySetData(SetEntityDataEvent event) {
+        long startTime = handleTimer.start();
+
         // Handle the events regarding the Wynncraft 2.1 TextDisplays
         handleTextDisplayEvents(event);
 
         // Handle the events regarding the entity labels, which are old (usually armor stands)
         handleEntityLabelEvents(event);
+
+        handleTimer.stop(startTime);
+        updateRate.mark();
     }
 
     private void handleTextDisplayEvents(SetEntityDataEvent event) {
@@ -63,6 +95,9 @@ public final class LabelHandler extends Handler {
                 LabelInfo labelInfo = tryIdentifyLabel(newText, entity);
                 if (labelInfo != null) {
                     liveLabels.put(entity.getId(), labelInfo);
+                    indexLabel(entity.getId(), labelInfo);
+                } else {
+                    unindexLabel(entity.getId());
                 }
 
                 TextDisplayChangedEvent.Text textChangedEvent =
@@ -118,18 +153,48 @@ public final class LabelHandler extends Handler {
 
     @SubscribeEvent(priority = EventPriority.HIGHEST)
     public void onEntitiesRemoved(RemoveEntitiesEvent event) {
-        List<LabelInfo> removedLabels = liveLabels.values().stream()
-                .filter(label -> event.getEntityIds().contains(label.getEntity().getId()))
-                .toList();
+        if (liveLabels.isEmpty()) return;
+
+        List<LabelInfo> removedLabels = new ArrayList<>();
+        for (int entityId : event.getEntityIds()) {
+            LabelInfo removedLabel = liveLabels.remove(entityId);
+            if (removedLabel == null) continue;
+
+            unindexLabel(entityId);
+            removedLabels.add(removedLabel);
+        }
+
+        if (removedLabels.isEmpty()) return;
 
-        removedLabels.forEach(label -> liveLabels.remove(label.getEntity().getId()));
         WynntilsMod.postEvent(new LabelsRemovedEvent(removedLabels));
     }
 
+    @SubscribeEvent
+    public void onTick(TickEvent event) {
+        if (labelChunks.isEmpty()) return;
+
+        // Labels follow the entity they are attached to, so move them to the chunk their entity is now in
+        for (Int2LongMap.Entry entry : Int2LongMaps.fastIterable(labelChunks)) {
+            LabelInfo labelInfo = liveLabels.get(entry.getIntKey());
+            if (labelInfo == null) continue;
+
+            long oldChunkKey = entry.getLongValue();
+            long newChunkKey = getChunkKey(labelInfo.getEntity().position());
+            if (oldChunkKey == newChunkKey) continue;
+
+            removeFromChunk(entry.getIntKey(), oldChunkKey);
+            labelsByChunk.computeIfAbsent(newChunkKey, k -> new IntOpenHashSet()).add(entry.getIntKey());
+            entry.setValue(newChunkKey);
+        }
+    }
+
     @SubscribeEvent
     public void onWorldStateChange(WorldStateEvent event) {
         List<LabelInfo> oldLabels = new ArrayList<>(liveLabels.values());
         liveLabels.clear();
+        labelsByType.clear();
+        labelsByChunk.clear();
+        labelChunks.clear();
         WynntilsMod.postEvent(new LabelsRemovedEvent(oldLabels));
     }
 
@@ -137,8 +202,98 @@ public final class LabelHandler extends Handler {
         parsers.add(labelParser);
     }
 
+    /**
+     * Returns all labels of the given type whose current text is identified as that type.
+     */
+    public <T extends LabelInfo> Collection<T> getLabels(Class<T> labelType) {
+        Int2ObjectMap<LabelInfo> labels = labelsByType.get(labelType);
+        if (labels == null) return List.of();
+
+        return (Collection<T>) Collections.unmodifiableCollection(labels.values());
+    }
+
+    /**
+     * Returns all labels of the given type whose entity is currently within the given horizontal radius.
+     * Labels are moved to the chunk of their entity every tick, so chunks are searched with a margin of one chunk
+     * to cover movement since then, and the actual entity position is used for the final check.
+     */
+    public <T extends LabelInfo> List<T> getLabelsInRadius(Class<T> labelType, Vec3 center, double radius) {
+        Int2ObjectMap<LabelInfo> labels = labelsByType.get(labelType);
+        if (labels == null || labels.isEmpty()) return List.of();
+
+        int minChunkX = SectionPos.blockToSectionCoord(center.x - radius) - 1;
+        int maxChunkX = SectionPos.blockToSectionCoord(center.x + radius) + 1;
+        int minChunkZ = SectionPos.blockToSectionCoord(center.z - radius) - 1;
+        int maxChunkZ = SectionPos.blockToSectionCoord(center.z + radius) + 1;
+        double radiusSq = radius * radius;
+
+        List<T> result = new ArrayList<>();
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                IntSet chunkLabels = labelsByChunk.get(ChunkPos.asLong(chunkX, chunkZ));
+                if (chunkLabels == null) continue;
+
+                IntIterator iterator = chunkLabels.iterator();
+                while (iterator.hasNext()) {
+                    LabelInfo label = labels.get(iterator.nextInt());
+                    if (label == null) continue;
+
+                    Vec3 position = label.getEntity().position();
+                    double dX = position.x - center.x;
+                    double dZ = position.z - center.z;
+                    if (dX * dX + dZ * dZ > radiusSq) continue;
+
+                    result.add((T) label);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private void indexLabel(int entityId, LabelInfo labelInfo) {
+        unindexLabel(entityId);
+
+        labelsByType
+                .computeIfAbsent(labelInfo.getClass(), k -> new Int2ObjectOpenHashMap<>())
+                .put(entityId, labelInfo);
+
+        long chunkKey = getChunkKey(labelInfo.getEntity().position());
+        labelsByChunk.computeIfAbsent(chunkKey, k -> new IntOpenHashSet()).add(entityId);
+        labelChunks.put(entityId, chunkKey);
+    }
+
+    private void unindexLabel(int entityId) {
+        if (!labelChunks.containsKey(entityId)) return;
+
+        removeFromChunk(entityId, labelChunks.remove(entityId));
+
+        for (Int2ObjectMap<LabelInfo> labels : labelsByType.values()) {
+            if (labels.remove(entityId) != null) return;
+        }
+    }
+
+    private void removeFromChunk(int entityId, long chunkKey) {
+        IntSet chunkLabels = labelsByChunk.get(chunkKey);
+        if (chunkLabels == null) return;
+
+        chunkLabels.remove(entityId);
+        if (chunkLabels.isEmpty()) {
+            labelsByChunk.remove(chunkKey);
+        }
+    }
+
+    private static long getChunkKey(Vec3 position) {
+        return ChunkPos.asLong(SectionPos.blockToSectionCoord(position.x), SectionPos.blockToSectionCoord(position.z));
+    }
+
     private LabelInfo tryIdentifyLabel(StyledText name, Entity entity) {
+        // Most parsers can reject a label by looking at the raw string, so only build it once
+        String rawName = name.getString();
+
         for (LabelParser parser : parsers) {
+            if (!parser.isCandidate(rawName)) continue;
+
             LabelInfo info = parser.getInfo(name, Location.containing(entity.position()), entity);
 
             if (info == null) continue;
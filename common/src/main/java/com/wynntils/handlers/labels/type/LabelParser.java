@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.handlers.labels.type;
@@ -15,4 +15,13 @@ public interface LabelParser<T extends LabelInfo> {
      * @return The label info, or null if the label is not valid for this parser.
      */
     T getInfo(StyledText label, Location location, Entity entity);
+
+    /**
+     * A cheap pre-check on the formatted label string, used to skip parsers that can't possibly match.
+     * This must return true for every label that {@link #getInfo} could accept.
+     * @return False if the label can be skipped by this parser.
+     */
+    default boolean isCandidate(String label) {
+        return true;
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.handlers.particle;
@@ -14,46 +14,56 @@ import com.wynntils.handlers.particle.type.UnverifiedParticle;
 import com.wynntils.mc.event.ParticleAddedEvent;
 import java.util.ArrayList;
 import java.util.EnumMap;
-import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import net.minecraft.core.Position;
-import net.minecraft.world.phys.Vec3;
+import net.minecraft.core.particles.ParticleOptions;
 import net.neoforged.bus.api.SubscribeEvent;
 
 public final class ParticleHandler extends Handler {
     private final Map<ParticleType, ParticleVerifier> particleVerifiers = new EnumMap<>(ParticleType.class);
 
-    private final Set<UnverifiedParticle> unverifiedParticles = new HashSet<>();
+    // Particle effects are singletons, so we can look up the types they are compatible with by identity
+    private final Map<ParticleOptions, List<ParticleType>> particleTypesByEffect = new IdentityHashMap<>();
+
+    private final List<UnverifiedParticle> unverifiedParticles = new ArrayList<>();
 
     @SubscribeEvent
     public void onParticleAdded(ParticleAddedEvent event) {
-        Position particlePosition = new Vec3(event.getX(), event.getY(), event.getZ());
+        // Most particles are not compatible with any verifier, so bail out as early as possible
+        List<ParticleType> compatibleTypes = particleTypesByEffect.get(event.getParticle());
+        if (compatibleTypes == null) return;
+
+        double x = event.getX();
+        double y = event.getY();
+        double z = event.getZ();
 
         // We depend on the fact that particle groups are sent in order:
         // If we have A and B particle animation, then we will receive all A particles, then all B particles
         if (unverifiedParticles.isEmpty()) {
-            for (ParticleType particleType : particleVerifiers.keySet()) {
-                // Check if the this type is compatible with the particle effect type
-                if (!particleType.getCompatibleParticleEffect().equals(event.getParticle())) continue;
+            for (ParticleType particleType : compatibleTypes) {
+                ParticleVerifier verifier = particleVerifiers.get(particleType);
+                if (!verifier.isEnabled()) continue;
 
-                UnverifiedParticle unverifiedParticleOfType = new UnverifiedParticle(particleType, event.getParticle());
+                UnverifiedParticle unverifiedParticleOfType = new UnverifiedParticle(particleType, verifier);
 
                 // Check if the particle passes the verifier
-                if (unverifiedParticleOfType.addNewParticle(particlePosition, event.getParticle())) {
+                if (unverifiedParticleOfType.addNewParticle(x, y, z)) {
                     unverifiedParticles.add(unverifiedParticleOfType);
                 }
             }
         } else {
-            List<UnverifiedParticle> invalidParticles = new ArrayList<>();
+            Iterator<UnverifiedParticle> iterator = unverifiedParticles.iterator();
+
+            while (iterator.hasNext()) {
+                UnverifiedParticle unverifiedParticle = iterator.next();
 
-            for (UnverifiedParticle unverifiedParticle : unverifiedParticles) {
                 // Check if the this type is compatible with the particle effect type
-                if (!unverifiedParticle.getParticleEffect().equals(event.getParticle())) continue;
+                if (unverifiedParticle.getParticleType().getCompatibleParticleEffect() != event.getParticle()) continue;
 
                 // Check if the particle passes the verifier
-                if (unverifiedParticle.addNewParticle(particlePosition, event.getParticle())) {
+                if (unverifiedParticle.addNewParticle(x, y, z)) {
                     ParticleVerifier.VerificationResult verificationResult = unverifiedParticle.verifyCompleteness();
 
                     switch (verificationResult) {
@@ -69,22 +79,26 @@ public final class ParticleHandler extends Handler {
                             // Do nothing, we will wait for more particles
                         }
                         case INVALID -> {
-                            invalidParticles.add(unverifiedParticle);
+                            iterator.remove();
                         }
                     }
                 } else {
                     // This must mean that either this particle is invalid or this particle type is not what we are
                     // looking for
-                    invalidParticles.add(unverifiedParticle);
+                    iterator.remove();
                 }
             }
-
-            invalidParticles.forEach(unverifiedParticles::remove);
         }
     }
 
     public void registerParticleVerifier(ParticleType particleType, ParticleVerifier particleVerifier) {
         particleVerifiers.put(particleType, particleVerifier);
+
+        List<ParticleType> compatibleTypes = particleTypesByEffect.computeIfAbsent(
+                particleType.getCompatibleParticleEffect(), k -> new ArrayList<>());
+        if (!compatibleTypes.contains(particleType)) {
+            compatibleTypes.add(particleType);
+        }
     }
 
     public ParticleVerifier getParticleVerifier(ParticleType particleType) {
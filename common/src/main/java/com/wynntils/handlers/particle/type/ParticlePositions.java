@@ -0,0 +1,53 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.handlers.particle.type;
+
+import java.util.Arrays;
+
+/**
+ * A growable buffer of particle coordinates, stored in primitive arrays to avoid allocating a position per particle.
+ */
+public final class ParticlePositions {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private double[] xs = new double[INITIAL_CAPACITY];
+    private double[] ys = new double[INITIAL_CAPACITY];
+    private double[] zs = new double[INITIAL_CAPACITY];
+    private int size = 0;
+
+    public void add(double x, double y, double z) {
+        if (size == xs.length) {
+            int newCapacity = xs.length * 2;
+            xs = Arrays.copyOf(xs, newCapacity);
+            ys = Arrays.copyOf(ys, newCapacity);
+            zs = Arrays.copyOf(zs, newCapacity);
+        }
+
+        xs[size] = x;
+        ys[size] = y;
+        zs[size] = z;
+        size++;
+    }
+
+    public double x(int index) {
+        return xs[index];
+    }
+
+    public double y(int index) {
+        return ys[index];
+    }
+
+    public double z(int index) {
+        return zs[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -1,18 +1,23 @@
 /*
- * Copyright © Wynntils 2023.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.handlers.particle.type;
 
-import java.util.List;
-import net.minecraft.core.Position;
-
 public interface ParticleVerifier {
-    boolean verifyNewPosition(List<Position> positions, Position addedPosition);
+    boolean verifyNewPosition(ParticlePositions positions, double x, double y, double z);
+
+    VerificationResult verifyCompleteness(ParticlePositions positions);
 
-    VerificationResult verifyCompleteness(List<Position> positions);
+    Particle getParticle(ParticlePositions positions);
 
-    Particle getParticle(List<Position> positions);
+    /**
+     * Returns whether this verifier should currently receive particles at all.
+     * Particles are not buffered for verifiers that are disabled, so this should be as cheap as possible.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
 
     enum VerificationResult {
         VERIFIED,
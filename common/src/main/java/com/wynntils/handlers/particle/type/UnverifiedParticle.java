@@ -1,30 +1,22 @@
 /*
- * Copyright © Wynntils 2023.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.handlers.particle.type;
 
-import com.wynntils.core.components.Handlers;
-import java.util.ArrayList;
-import java.util.List;
-import net.minecraft.core.Position;
-import net.minecraft.core.particles.ParticleOptions;
-
 public class UnverifiedParticle {
     private final ParticleType particleType;
-    private final ParticleOptions particleEffect;
-    private final List<Position> particles = new ArrayList<>();
+    private final ParticleVerifier verifier;
+    private final ParticlePositions particles = new ParticlePositions();
 
-    public UnverifiedParticle(ParticleType particleType, ParticleOptions particleOptions) {
+    public UnverifiedParticle(ParticleType particleType, ParticleVerifier verifier) {
         this.particleType = particleType;
-        this.particleEffect = particleOptions;
+        this.verifier = verifier;
     }
 
-    public boolean addNewParticle(Position newPosition, ParticleOptions newParticleOption) {
-        if (newParticleOption != particleEffect) return false;
-
-        if (Handlers.Particle.getParticleVerifier(particleType).verifyNewPosition(particles, newPosition)) {
-            particles.add(newPosition);
+    public boolean addNewParticle(double x, double y, double z) {
+        if (verifier.verifyNewPosition(particles, x, y, z)) {
+            particles.add(x, y, z);
             return true;
         }
 
@@ -32,14 +24,14 @@ public class UnverifiedParticle {
     }
 
     public ParticleVerifier.VerificationResult verifyCompleteness() {
-        return Handlers.Particle.getParticleVerifier(particleType).verifyCompleteness(particles);
+        return verifier.verifyCompleteness(particles);
     }
 
-    public ParticleOptions getParticleEffect() {
-        return particleEffect;
+    public ParticleType getParticleType() {
+        return particleType;
     }
 
     public Particle getParticle() {
-        return Handlers.Particle.getParticleVerifier(particleType).getParticle(particles);
+        return verifier.getParticle(particles);
     }
 }
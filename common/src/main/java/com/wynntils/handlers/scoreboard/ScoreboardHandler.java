@@ -4,7 +4,6 @@
  */
 package com.wynntils.handlers.scoreboard;
 
-import com.google.common.collect.ImmutableList;
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Handler;
 import com.wynntils.core.text.StyledText;
@@ -22,9 +21,14 @@ import com.wynntils.models.worlds.type.WorldState;
 import com.wynntils.utils.mc.McUtils;
 import com.wynntils.utils.type.Pair;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Pattern;
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.Component;
@@ -32,6 +36,8 @@ import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.network.chat.numbers.BlankFormat;
 import net.minecraft.world.scores.DisplaySlot;
 import net.minecraft.world.scores.Objective;
+import net.minecraft.world.scores.PlayerScores;
+import net.minecraft.world.scores.Score;
 import net.minecraft.world.scores.ScoreHolder;
 import net.minecraft.world.scores.Scoreboard;
 import net.minecraft.world.scores.criteria.ObjectiveCriteria;
@@ -50,6 +56,14 @@ public final class ScoreboardHandler extends Handler {
 
     private String currentScoreboardName = "";
     private List<Pair<ScoreboardPart, ScoreboardSegment>> scoreboardSegments = new ArrayList<>();
+    private Map<ScoreboardPart, IndexedSegment> segmentsByPart = new IdentityHashMap<>();
+
+    // The lines of the last update. Line texts and header parts are reused while the lines are still present,
+    // so unchanged lines are neither parsed nor matched against the part headers again.
+    private List<ScoreboardLine> previousLines = List.of();
+    private Map<String, StyledText> parsedLines = new HashMap<>();
+    private Map<StyledText, ScoreboardPart> headerParts = new IdentityHashMap<>();
+    private Map<StyledText, ScoreboardPart> previousHeaderParts = new IdentityHashMap<>();
 
     private final List<ScoreboardPart> scoreboardParts = new ArrayList<>();
 
@@ -118,8 +132,14 @@ public final class ScoreboardHandler extends Handler {
         scoreboardSegments.forEach(pair -> pair.key().reset());
 
         scoreboardSegments = new ArrayList<>();
+        segmentsByPart = new IdentityHashMap<>();
         currentScoreboardName = "";
 
+        previousLines = List.of();
+        parsedLines = new HashMap<>();
+        headerParts = new IdentityHashMap<>();
+        previousHeaderParts = new IdentityHashMap<>();
+
         scoreboardOutdated = false;
         lastScoreboardUpdateTick = -1;
     }
@@ -130,20 +150,47 @@ public final class ScoreboardHandler extends Handler {
     }
 
     private void handleUpdate() {
-        // 1. Get a reconstructed scoreboard from the current scoreboard state
+        // 1. Get a reconstructed scoreboard from the current scoreboard state, and find the lines that changed
         List<ScoreboardLine> reconstructedScoreboard = getCurrentScoreboardState(currentScoreboardName);
+        BitSet changedLines = getChangedLines(previousLines, reconstructedScoreboard);
+        previousLines = reconstructedScoreboard;
+
+        // Nothing to do if no line changed, and our scoreboard is still there
+        if (changedLines.isEmpty() && McUtils.player().level().getScoreboard().getObjective(SCOREBOARD_KEY) != null) {
+            return;
+        }
+
+        previousHeaderParts = headerParts;
+        headerParts = new IdentityHashMap<>();
 
         // 2. Verify that the scoreboard is in a semi-valid state
         // (in a state where we can make sense of it, even if the actual data is still being updated)
         List<ScoreboardPart> validParts = getValidScoreboardParts(reconstructedScoreboard);
 
         // 3. Calculate the scoreboard segments, do segment updates
-        calculateScoreboardSegments(reconstructedScoreboard, validParts);
+        calculateScoreboardSegments(reconstructedScoreboard, validParts, changedLines);
 
         // 4. Create our own scoreboard to hide specific segments
         createScoreboardFromSegments();
     }
 
+    private static BitSet getChangedLines(List<ScoreboardLine> oldLines, List<ScoreboardLine> newLines) {
+        // Lines are compared by position, as Wynncraft updates the scoreboard in place.
+        // Scores are compared too, as they decide whether the scoreboard is valid.
+        // Lines only present in the longer scoreboard count as changed.
+        int commonSize = Math.min(oldLines.size(), newLines.size());
+        BitSet changedLines = new BitSet();
+
+        for (int i = 0; i < commonSize; i++) {
+            if (!oldLines.get(i).equals(newLines.get(i))) {
+                changedLines.set(i);
+            }
+        }
+        changedLines.set(commonSize, Math.max(oldLines.size(), newLines.size()));
+
+        return changedLines;
+    }
+
     private List<ScoreboardLine> getCurrentScoreboardState(String currentScoreboardName) {
         Scoreboard scoreboard = McUtils.mc().level.getScoreboard();
         Objective currentObjective = scoreboard.getObjective(currentScoreboardName);
@@ -153,13 +200,25 @@ public final class ScoreboardHandler extends Handler {
             return List.of();
         }
 
-        return scoreboard.playerScores.entrySet().stream()
-                .map(entry -> Pair.of(entry.getKey(), entry.getValue().get(currentObjective)))
-                .filter(pair -> pair.value() != null)
-                .map(entry -> new ScoreboardLine(
-                        StyledText.fromString(entry.key()), entry.value().value()))
-                .sorted(Comparator.comparing(ScoreboardLine::score).reversed())
-                .toList();
+        Map<String, StyledText> newParsedLines = new HashMap<>();
+        List<ScoreboardLine> lines = new ArrayList<>();
+        for (Map.Entry<String, PlayerScores> entry : scoreboard.playerScores.entrySet()) {
+            Score score = entry.getValue().get(currentObjective);
+            if (score == null) continue;
+
+            StyledText line = parsedLines.get(entry.getKey());
+            if (line == null) {
+                line = StyledText.fromString(entry.getKey());
+            }
+            newParsedLines.put(entry.getKey(), line);
+
+            lines.add(new ScoreboardLine(line, score.value()));
+        }
+        parsedLines = newParsedLines;
+
+        // ScoreboardLine sorts the highest score first
+        lines.sort(Comparator.naturalOrder());
+        return lines;
     }
 
     private List<ScoreboardPart> getValidScoreboardParts(List<ScoreboardLine> reconstructedScoreboard) {
@@ -180,22 +239,17 @@ public final class ScoreboardHandler extends Handler {
         }
 
         // 1. Check for duplicate lines
-        List<StyledText> lines = new ArrayList<>();
+        Set<StyledText> lines = new HashSet<>();
         for (ScoreboardLine line : reconstructedScoreboard) {
-            if (lines.contains(line.line())) {
+            if (!lines.add(line.line())) {
                 // We found a duplicate line, so the scoreboard is invalid
                 return List.of();
             }
-
-            lines.add(line.line());
         }
 
         // 2. Check for gaps in the scores
-        int lastScore = reconstructedScoreboard.stream()
-                .map(ScoreboardLine::score)
-                .findFirst()
-                .orElse(0);
-        for (ScoreboardLine line : reconstructedScoreboard.stream().skip(1).toList()) {
+        int lastScore = reconstructedScoreboard.getFirst().score();
+        for (ScoreboardLine line : reconstructedScoreboard.subList(1, reconstructedScoreboard.size())) {
             if (line.score() >= lastScore) {
                 // We found a non strictly decreasing score, so the scoreboard is invalid
                 // Note: lastScore - line.score() should always be 1,
@@ -207,11 +261,7 @@ public final class ScoreboardHandler extends Handler {
         }
 
         // 3. Check for a new line at the start
-        if (!reconstructedScoreboard.stream()
-                .findFirst()
-                .map(ScoreboardLine::line)
-                .orElse(StyledText.EMPTY)
-                .equals(StyledText.fromString("À"))) {
+        if (!reconstructedScoreboard.getFirst().line().equalsString("À")) {
             // We did not find a new line at the start, so the scoreboard is invalid
             return List.of();
         }
@@ -225,7 +275,7 @@ public final class ScoreboardHandler extends Handler {
         //                        This is a valid case because the scoreboard cannot fit all segments,
         //                        so it will only display the x lines.
         int currentIndex = 1;
-        List<ScoreboardLine> scoreboardLines = reconstructedScoreboard.stream().toList();
+        List<ScoreboardLine> scoreboardLines = reconstructedScoreboard;
 
         List<ScoreboardPart> scoreboardParts = new ArrayList<>();
         while (currentIndex < scoreboardLines.size()) {
@@ -276,16 +326,18 @@ public final class ScoreboardHandler extends Handler {
     }
 
     private void calculateScoreboardSegments(
-            List<ScoreboardLine> reconstructedScoreboard, List<ScoreboardPart> validParts) {
+            List<ScoreboardLine> reconstructedScoreboard, List<ScoreboardPart> validParts, BitSet changedLines) {
         int currentIndex = 1;
-        List<ScoreboardLine> scoreboardLines = reconstructedScoreboard.stream().toList();
+        List<ScoreboardLine> scoreboardLines = reconstructedScoreboard;
 
-        List<Pair<ScoreboardPart, ScoreboardSegment>> oldSegments = ImmutableList.copyOf(scoreboardSegments);
+        Map<ScoreboardPart, IndexedSegment> oldSegments = segmentsByPart;
         scoreboardSegments = new ArrayList<>();
+        segmentsByPart = new IdentityHashMap<>();
 
         int validPartIndex = 0;
         while (currentIndex < scoreboardLines.size() && validPartIndex < validParts.size()) {
-            ScoreboardLine headerLine = scoreboardLines.get(currentIndex);
+            int headerIndex = currentIndex;
+            ScoreboardLine headerLine = scoreboardLines.get(headerIndex);
             ScoreboardPart calculatedPart = getScoreboardPartForHeader(headerLine);
 
             // We could not find a suitable part for the header
@@ -307,16 +359,28 @@ public final class ScoreboardHandler extends Handler {
 
             validPartIndex++;
 
-            List<StyledText> contentLines = new ArrayList<>();
-            for (currentIndex = currentIndex + 1; currentIndex < scoreboardLines.size(); currentIndex++) {
-                ScoreboardLine line = scoreboardLines.get(currentIndex);
-
-                if (line.line().getMatcher(NEXT_LINE_PATTERN).matches()) {
-                    currentIndex++;
-                    break;
+            // Find the segment end, the separator line or the end of the scoreboard
+            int endIndex = headerIndex + 1;
+            while (endIndex < scoreboardLines.size()
+                    && !scoreboardLines.get(endIndex).line().getMatcher(NEXT_LINE_PATTERN).matches()) {
+                endIndex++;
+            }
+            currentIndex = endIndex + 1;
+
+            // If the segment starts at the same line as before, and none of its lines (including the end) changed,
+            // its content is the same, so it does not need to be split up again
+            IndexedSegment oldSegment = oldSegments.get(calculatedPart);
+            int nextChangedLine = changedLines.nextSetBit(headerIndex);
+            List<StyledText> contentLines;
+            if (oldSegment != null
+                    && oldSegment.headerIndex() == headerIndex
+                    && (nextChangedLine == -1 || nextChangedLine > endIndex)) {
+                contentLines = oldSegment.segment().getContent();
+            } else {
+                contentLines = new ArrayList<>(endIndex - headerIndex - 1);
+                for (int i = headerIndex + 1; i < endIndex; i++) {
+                    contentLines.add(scoreboardLines.get(i).line());
                 }
-
-                contentLines.add(line.line());
             }
 
             ScoreboardSegment segment = new ScoreboardSegment(calculatedPart, headerLine.line(), contentLines);
@@ -324,33 +388,27 @@ public final class ScoreboardHandler extends Handler {
 
             segment.setVisibility(!eventCanceled);
             scoreboardSegments.add(new Pair<>(calculatedPart, segment));
+
+            // The fallback part can be used for multiple segments, and is never notified
+            if (calculatedPart != FALLBACK_SCOREBOARD_PART) {
+                segmentsByPart.put(calculatedPart, new IndexedSegment(segment, headerIndex));
+            }
         }
 
         // Handle segment removals
-        for (Pair<ScoreboardPart, ScoreboardSegment> oldPair : oldSegments) {
-            // Special case for the fallback part, don't call onSegmentRemove
-            if (oldPair.key() == FALLBACK_SCOREBOARD_PART) continue;
-
-            Optional<Pair<ScoreboardPart, ScoreboardSegment>> segmentOpt = scoreboardSegments.stream()
-                    .filter(pair -> pair.key() == oldPair.key())
-                    .findFirst();
-            if (segmentOpt.isEmpty()) {
-                oldPair.key().onSegmentRemove(oldPair.value());
+        oldSegments.forEach((part, oldSegment) -> {
+            if (!segmentsByPart.containsKey(part)) {
+                part.onSegmentRemove(oldSegment.segment());
             }
-        }
+        });
 
         // Handle segment changes
-        for (Pair<ScoreboardPart, ScoreboardSegment> pair : scoreboardSegments) {
-            // Special case for the fallback part, don't call onSegmentChange
-            if (pair.key() == FALLBACK_SCOREBOARD_PART) continue;
-
-            Optional<Pair<ScoreboardPart, ScoreboardSegment>> oldSegmentOpt = oldSegments.stream()
-                    .filter(oldPair -> oldPair.key() == pair.key())
-                    .findFirst();
-            if (oldSegmentOpt.isEmpty() || !oldSegmentOpt.get().value().equals(pair.value())) {
-                pair.key().onSegmentChange(pair.value());
+        segmentsByPart.forEach((part, segment) -> {
+            IndexedSegment oldSegment = oldSegments.get(part);
+            if (oldSegment == null || !oldSegment.segment().equals(segment.segment())) {
+                part.onSegmentChange(segment.segment());
             }
-        }
+        });
     }
 
     private void createScoreboardFromSegments() {
@@ -423,7 +481,21 @@ public final class ScoreboardHandler extends Handler {
     }
 
     private ScoreboardPart getScoreboardPartForHeader(ScoreboardLine scoreboardLine) {
-        String unformattedLine = scoreboardLine.line().getString(StyleType.NONE);
+        StyledText line = scoreboardLine.line();
+        ScoreboardPart part = headerParts.get(line);
+        if (part == null) {
+            part = previousHeaderParts.get(line);
+            if (part == null) {
+                part = matchScoreboardPart(line);
+            }
+            headerParts.put(line, part);
+        }
+
+        return part;
+    }
+
+    private ScoreboardPart matchScoreboardPart(StyledText line) {
+        String unformattedLine = line.getString(StyleType.NONE);
 
         for (ScoreboardPart part : scoreboardParts) {
             if (part.getSegmentMatcher()
@@ -437,6 +509,8 @@ public final class ScoreboardHandler extends Handler {
         return FALLBACK_SCOREBOARD_PART;
     }
 
+    private record IndexedSegment(ScoreboardSegment segment, int headerIndex) {}
+
     private static final class FallbackScoreboardPart extends ScoreboardPart {
         private static final SegmentMatcher FALLBACK_MATCHER = SegmentMatcher.fromPattern(".*");
 
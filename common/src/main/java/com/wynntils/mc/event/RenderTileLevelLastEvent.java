@@ -10,6 +10,7 @@ import net.minecraft.client.renderer.LevelRenderer;
 import net.minecraft.client.renderer.SubmitNodeStorage;
 import net.minecraft.client.renderer.state.CameraRenderState;
 import net.neoforged.bus.api.Event;
+import org.joml.Matrix4f;
 
 public class RenderTileLevelLastEvent extends Event {
     private final LevelRenderer levelRenderer;
@@ -17,18 +18,24 @@ public class RenderTileLevelLastEvent extends Event {
     private final SubmitNodeStorage submitNodeStorage;
     private final DeltaTracker deltaTracker;
     private final CameraRenderState cameraRenderState;
+    private final Matrix4f frustumMatrix;
+    private final Matrix4f cullingProjectionMatrix;
 
     public RenderTileLevelLastEvent(
             LevelRenderer levelRenderer,
             PoseStack poseStack,
             SubmitNodeStorage submitNodeStorage,
             DeltaTracker deltaTracker,
-            CameraRenderState cameraRenderState) {
+            CameraRenderState cameraRenderState,
+            Matrix4f frustumMatrix,
+            Matrix4f cullingProjectionMatrix) {
         this.levelRenderer = levelRenderer;
         this.poseStack = poseStack;
         this.submitNodeStorage = submitNodeStorage;
         this.deltaTracker = deltaTracker;
         this.cameraRenderState = cameraRenderState;
+        this.frustumMatrix = frustumMatrix;
+        this.cullingProjectionMatrix = cullingProjectionMatrix;
     }
 
     public LevelRenderer getLevelRenderer() {
@@ -50,4 +57,16 @@ public class RenderTileLevelLastEvent extends Event {
     public CameraRenderState getCameraRenderState() {
         return cameraRenderState;
     }
+
+    /**
+     * Returns the camera rotation matrix the level is culled with. Together with the culling projection matrix, it
+     * can be used to cull positions relative to the camera.
+     */
+    public Matrix4f getFrustumMatrix() {
+        return frustumMatrix;
+    }
+
+    public Matrix4f getCullingProjectionMatrix() {
+        return cullingProjectionMatrix;
+    }
 }
@@ -55,6 +55,9 @@ public abstract class LevelRendererMixin {
     @Unique
     private DeltaTracker lastDeltaTracker;
 
+    @Unique
+    private Matrix4f lastCullingProjectionMatrix;
+
     @Inject(
             at = @At("TAIL"),
             method =
@@ -113,6 +116,7 @@ public abstract class LevelRendererMixin {
             boolean renderSky,
             CallbackInfo ci) {
         this.lastDeltaTracker = deltaTracker;
+        this.lastCullingProjectionMatrix = cullingProjectionMatrix;
     }
 
     @Inject(
@@ -140,7 +144,9 @@ public abstract class LevelRendererMixin {
                 poseStack,
                 this.submitNodeStorage,
                 this.lastDeltaTracker,
-                this.levelRenderState.cameraRenderState));
+                this.levelRenderState.cameraRenderState,
+                frustumMatrix,
+                this.lastCullingProjectionMatrix));
     }
 
     @WrapWithCondition(
@@ -24,4 +24,9 @@ public class ArcherCrowParser implements LabelParser<ArcherCrowInfo> {
 
         return new ArcherCrowInfo(label, location, entity, secondsLeft, playerName);
     }
+
+    @Override
+    public boolean isCandidate(String label) {
+        return label.contains("Crow");
+    }
 }
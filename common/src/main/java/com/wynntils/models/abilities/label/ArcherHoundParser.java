@@ -24,4 +24,9 @@ public class ArcherHoundParser implements LabelParser<ArcherHoundInfo> {
 
         return new ArcherHoundInfo(label, location, entity, secondsLeft, playerName);
     }
+
+    @Override
+    public boolean isCandidate(String label) {
+        return label.contains("Hound");
+    }
 }
@@ -24,4 +24,9 @@ public class ArcherSnakeParser implements LabelParser<ArcherSnakeInfo> {
 
         return new ArcherSnakeInfo(label, location, entity, secondsLeft, playerName);
     }
+
+    @Override
+    public boolean isCandidate(String label) {
+        return label.contains("Snake");
+    }
 }
@@ -57,4 +57,9 @@ public class ShamanTotemLabelParser implements LabelParser<ShamanTotemLabelInfo>
                 invigorateTime,
                 timeLeft);
     }
+
+    @Override
+    public boolean isCandidate(String label) {
+        return label.contains(" §7Totem\n");
+    }
 }
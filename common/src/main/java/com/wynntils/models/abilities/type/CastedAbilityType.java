@@ -41,10 +41,11 @@ public abstract class CastedAbilityType {
     public boolean verifyCustomModelData(List<Float> modelIds) {
         if (modelIds.isEmpty()) return false;
 
-        return modelIds.stream()
-                .allMatch(f -> Services.CustomModel.getGroup(f)
-                        .map(g -> g.equals(group))
-                        .orElse(false));
+        for (float modelId : modelIds) {
+            if (!Services.CustomModel.isInGroup(modelId, group)) return false;
+        }
+
+        return true;
     }
 
     public String getName() {
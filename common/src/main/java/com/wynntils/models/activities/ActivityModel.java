@@ -10,6 +10,8 @@ import com.wynntils.core.components.Managers;
 import com.wynntils.core.components.Model;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.components.Services;
+import com.wynntils.core.persisted.Persisted;
+import com.wynntils.core.persisted.storage.Storage;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.features.combat.ContentTrackerFeature;
 import com.wynntils.handlers.scoreboard.ScoreboardPart;
@@ -31,6 +33,7 @@ import com.wynntils.models.activities.type.ActivityRewardType;
 import com.wynntils.models.activities.type.ActivityStatus;
 import com.wynntils.models.activities.type.ActivityTrackingState;
 import com.wynntils.models.activities.type.ActivityType;
+import com.wynntils.models.activities.type.ContentBookSnapshot;
 import com.wynntils.models.activities.type.WorldEventFastTravelStatus;
 import com.wynntils.models.beacons.event.BeaconEvent;
 import com.wynntils.models.beacons.event.BeaconMarkerEvent;
@@ -50,6 +53,7 @@ import com.wynntils.utils.mc.type.Location;
 import com.wynntils.utils.type.CappedValue;
 import com.wynntils.utils.type.Pair;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.List;
 import java.util.Map;
@@ -58,6 +62,7 @@ import java.util.TreeMap;
 import java.util.function.BiConsumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import net.minecraft.ChatFormatting;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.world.item.ItemStack;
@@ -94,6 +99,11 @@ public final class ActivityModel extends Model {
     private static final DialogueHistoryQueries DIALOGUE_HISTORY_QUERIES = new DialogueHistoryQueries();
     public static final ActivityMarkerProvider ACTIVITY_MARKER_PROVIDER = new ActivityMarkerProvider();
 
+    // Character id and activity type -> last full content book scan
+    @Persisted
+    private final Storage<Map<String, ContentBookSnapshot>> contentBookActivitySnapshots =
+            new Storage<>(new TreeMap<>());
+
     private TrackedActivity trackedActivity;
     private List<List<StyledText>> dialogueHistory = List.of();
     private CappedValue overallProgress = CappedValue.EMPTY;
@@ -200,8 +210,10 @@ public final class ActivityModel extends Model {
     }
 
     public ActivityInfo parseItem(String name, ActivityType type, ItemStack itemStack) {
-        Deque<StyledText> lore = LoreUtils.getLore(itemStack);
+        return parseLore(name, type, LoreUtils.getLore(itemStack));
+    }
 
+    private ActivityInfo parseLore(String name, ActivityType type, Deque<StyledText> lore) {
         StyledText statusLine = lore.pop();
 
         StyledText[] statusLineParts = statusLine.split(" - ");
@@ -541,7 +553,29 @@ public final class ActivityModel extends Model {
 
     public void scanContentBook(
             ActivityType activityType, BiConsumer<List<ActivityInfo>, List<StyledText>> processResult) {
-        CONTAINER_QUERIES.queryContentBook(activityType, processResult, true, false);
+        scanContentBook(activityType, processResult, false);
+    }
+
+    /**
+     * Scans the content book for the given activity type. Unless a full scan is forced, the scan stops after the
+     * first page if nothing that could change the content book happened since the last full scan, and the remaining
+     * pages are taken from the stored snapshot of that scan.
+     */
+    public void scanContentBook(
+            ActivityType activityType,
+            BiConsumer<List<ActivityInfo>, List<StyledText>> processResult,
+            boolean forceFullScan) {
+        CONTAINER_QUERIES.queryContentBook(
+                activityType,
+                processResult,
+                true,
+                false,
+                forceFullScan ? null : contentBookActivitySnapshots.get().get(getSnapshotKey(activityType)));
+    }
+
+    public void clearContentBookSnapshots() {
+        contentBookActivitySnapshots.get().clear();
+        contentBookActivitySnapshots.touched();
     }
 
     public void startTracking(String name, ActivityType activityType) {
@@ -576,7 +610,34 @@ public final class ActivityModel extends Model {
                     }
                 },
                 false,
-                true);
+                true,
+                null);
+    }
+
+    void storeContentBookSnapshot(ActivityType activityType, ContentBookSnapshot snapshot) {
+        contentBookActivitySnapshots.get().put(getSnapshotKey(activityType), snapshot);
+        contentBookActivitySnapshots.touched();
+    }
+
+    /**
+     * Returns a key describing everything that changes content book items without changing their pages, like
+     * requirements being fulfilled or an activity being tracked. The progress is the lore of the progress item
+     * shown for the current filter, which changes whenever an activity of that type is completed.
+     */
+    String getContentBookStateKey(List<StyledText> progress) {
+        String professionLevels = Arrays.stream(ProfessionType.values())
+                .map(profession -> String.valueOf(Models.Profession.getLevel(profession)))
+                .collect(Collectors.joining(","));
+
+        return progress.stream().map(StyledText::getString).collect(Collectors.joining("\n"))
+                + "|" + overallProgress.current() + "/" + overallProgress.max()
+                + "|" + Models.CombatXp.getCombatLevel().current()
+                + "|" + professionLevels
+                + "|" + getTrackedType() + ":" + getTrackedName();
+    }
+
+    private String getSnapshotKey(ActivityType activityType) {
+        return Models.Character.getId() + ":" + activityType.name();
     }
 
     private boolean parseOverallProgress(List<StyledText> progress) {
@@ -16,6 +16,7 @@ import com.wynntils.handlers.container.type.ContainerContent;
 import com.wynntils.handlers.container.type.ContainerContentVerification;
 import com.wynntils.models.activities.type.ActivityInfo;
 import com.wynntils.models.activities.type.ActivityType;
+import com.wynntils.models.activities.type.ContentBookSnapshot;
 import com.wynntils.models.containers.containers.ContentBookContainer;
 import com.wynntils.models.items.items.gui.ActivityItem;
 import com.wynntils.utils.mc.LoreUtils;
@@ -57,20 +58,27 @@ public class ContentBookQueries {
     private String activeFilter;
     private int filterChangeDirection;
     private int filterLoopCount;
+    private boolean reuseSnapshot;
 
     private MessageContainer stateMessageContainer;
 
     /**
      * Trigger a rescan of the content book. When the rescan is done, Models.Content.updateFromContentBookQuery
      * will be called.
+     * <p>
+     * If a snapshot of the last full scan is given, and both the content book state and the first page are unchanged
+     * since then, the scan stops after the first page and the remaining pages are taken from the snapshot. Pages can
+     * only be reached one after another, so a changed page means every page after the first has to be scanned again.
      */
     protected void queryContentBook(
             ActivityType activityType,
             BiConsumer<List<ActivityInfo>, List<StyledText>> processResult,
             boolean showUpdates,
-            boolean firstPageOnly) {
+            boolean firstPageOnly,
+            ContentBookSnapshot previousSnapshot) {
         List<ActivityInfo> newActivity = new ArrayList<>();
         List<StyledText> progress = new ArrayList<>();
+        List<ContentBookSnapshot.Page> newPages = new ArrayList<>();
 
         ScriptedContainerQuery query = ScriptedContainerQuery.builder(
                         "Content Book Query for " + activityType.getDisplayName())
@@ -130,23 +138,30 @@ public class ContentBookQueries {
 
                 // Process first page
                 .reprocess(c -> {
-                    processContentBookPage(c, newActivity);
+                    processContentBookPage(c, newActivity, newPages);
                     ItemStack itemStack = c.items().get(PROGRESS_SLOT);
                     progress.add(ItemUtils.getItemName(itemStack));
                     progress.addAll(LoreUtils.getLore(itemStack));
+
+                    reuseSnapshot = previousSnapshot != null
+                            && !firstPageOnly
+                            && !previousSnapshot.pages().isEmpty()
+                            && previousSnapshot.pages().getFirst().fingerprint()
+                                    == newPages.getFirst().fingerprint()
+                            && previousSnapshot.stateKey().equals(Models.Activity.getContentBookStateKey(progress));
                 })
 
                 // Repeatedly click next page, if available, and process the following page
                 .repeat(
                         c -> {
-                            if (firstPageOnly) {
+                            if (firstPageOnly || reuseSnapshot) {
                                 return false;
                             }
                             return ScriptedContainerQuery.containerHasSlot(
                                     c, NEXT_PAGE_SLOT, Items.POTION, SCROLL_DOWN_TEXT);
                         },
                         QueryStep.clickOnSlot(NEXT_PAGE_SLOT)
-                                .processIncomingContainer(c -> processContentBookPage(c, newActivity)))
+                                .processIncomingContainer(c -> processContentBookPage(c, newActivity, newPages)))
 
                 // Restore filter to original value
                 .execute(() -> filterLoopCount = 0)
@@ -180,6 +195,23 @@ public class ContentBookQueries {
                         QueryStep.clickOnSlot(CHANGE_VIEW_SLOT, () -> filterChangeDirection)
                                 .verifyContentChange(getContentBookFilterChangeVerification()))
 
+                // Take the unchanged pages from the snapshot, and store the new snapshot
+                .execute(() -> {
+                    if (firstPageOnly) return;
+
+                    if (reuseSnapshot) {
+                        for (int page = 1; page < previousSnapshot.pages().size(); page++) {
+                            ContentBookSnapshot.Page snapshotPage = previousSnapshot.pages().get(page);
+                            snapshotPage.entries().forEach(entry -> newActivity.add(entry.toActivityInfo()));
+                            newPages.add(snapshotPage);
+                        }
+                    }
+
+                    Models.Activity.storeContentBookSnapshot(
+                            activityType,
+                            new ContentBookSnapshot(Models.Activity.getContentBookStateKey(progress), newPages));
+                })
+
                 // Finally signal we're done
                 .execute(() -> processResult.accept(newActivity, progress))
                 .execute(() -> {
@@ -266,7 +298,11 @@ public class ContentBookQueries {
         };
     }
 
-    private void processContentBookPage(ContainerContent container, List<ActivityInfo> newActivities) {
+    private void processContentBookPage(
+            ContainerContent container, List<ActivityInfo> newActivities, List<ContentBookSnapshot.Page> newPages) {
+        List<ContentBookSnapshot.Entry> entries = new ArrayList<>();
+        int fingerprint = 1;
+
         for (int slot = 0; slot < 54; slot++) {
             ItemStack itemStack = container.items().get(slot);
             Optional<ActivityItem> activityItemOpt = Models.Item.asWynnItem(itemStack, ActivityItem.class);
@@ -275,7 +311,20 @@ public class ContentBookQueries {
             ActivityInfo activityInfo = activityItemOpt.get().getActivityInfo();
 
             newActivities.add(activityInfo);
+
+            entries.add(ContentBookSnapshot.Entry.fromActivityInfo(activityInfo));
+
+            // The lore is only used for the fingerprint, since the parsed activity is what is stored
+            List<String> lore =
+                    LoreUtils.getLore(itemStack).stream().map(StyledText::getString).toList();
+
+            // Only use string hashes, so the fingerprint is the same across sessions
+            fingerprint = 31 * fingerprint + activityInfo.name().hashCode();
+            fingerprint = 31 * fingerprint + activityInfo.type().name().hashCode();
+            fingerprint = 31 * fingerprint + lore.hashCode();
         }
+
+        newPages.add(new ContentBookSnapshot.Page(fingerprint, entries));
     }
 
     protected void toggleTracking(String name, ActivityType activityType) {
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2025.
+ * Copyright © Wynntils 2025-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.activities.label;
@@ -26,4 +26,9 @@ public class WorldEventCountdownParser implements LabelParser<WorldEventCountdow
 
         return new WorldEventCountdownInfo(label, location, entity, startTime);
     }
+
+    @Override
+    public boolean isCandidate(String label) {
+        return label.startsWith("§#aeb8bfffStarts in");
+    }
 }
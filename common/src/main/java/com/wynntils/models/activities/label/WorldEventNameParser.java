@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2025.
+ * Copyright © Wynntils 2025-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.activities.label;
@@ -20,4 +20,9 @@ public class WorldEventNameParser implements LabelParser<WorldEventNameInfo> {
 
         return new WorldEventNameInfo(label, location, entity, matcher.group(1));
     }
+
+    @Override
+    public boolean isCandidate(String label) {
+        return label.startsWith("§#ebf7ffff");
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.activities.markers;
@@ -46,6 +46,7 @@ public class ActivityMarkerProvider implements MarkerProvider<MarkerPoi> {
                                 PoiLocation.fromLocation(spawnLocation),
                                 ACTIVITY_LOCATION_NAME,
                                 activityType.getTexture()));
+        Models.Marker.markersChanged();
     }
 
     public Optional<Location> getSpawnLocation() {
@@ -74,6 +75,7 @@ public class ActivityMarkerProvider implements MarkerProvider<MarkerPoi> {
                                 PoiLocation.fromLocation(trackedActivityLocation),
                                 ACTIVITY_LOCATION_NAME,
                                 activityType.getTexture()));
+        Models.Marker.markersChanged();
     }
 
     public Location getTrackedActivityLocation() {
@@ -0,0 +1,74 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.models.activities.type;
+
+import com.wynntils.core.text.StyledText;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The result of a full content book scan for one activity type, stored as the parsed activities of each page. The
+ * state key describes everything that affects the content book besides the items themselves (progress counters,
+ * levels and tracking), and each page has a fingerprint of its items.
+ */
+public record ContentBookSnapshot(String stateKey, List<Page> pages) {
+    public record Page(int fingerprint, List<Entry> entries) {}
+
+    /**
+     * An {@link ActivityInfo} in a form that can be stored, with absent values stored as null.
+     */
+    public record Entry(
+            ActivityType type,
+            String name,
+            ActivityStatus status,
+            String specialInfo,
+            StyledText description,
+            ActivityLength length,
+            String lengthInfo,
+            ActivityDistance distance,
+            String distanceInfo,
+            ActivityDifficulty difficulty,
+            WorldEventFastTravelStatus worldEventFastTravelStatus,
+            ActivityRequirements requirements,
+            Map<ActivityRewardType, List<StyledText>> rewards,
+            ActivityTrackingState trackingState) {
+        public static Entry fromActivityInfo(ActivityInfo activityInfo) {
+            return new Entry(
+                    activityInfo.type(),
+                    activityInfo.name(),
+                    activityInfo.status(),
+                    activityInfo.specialInfo().orElse(null),
+                    activityInfo.description().orElse(null),
+                    activityInfo.length().orElse(null),
+                    activityInfo.lengthInfo().orElse(null),
+                    activityInfo.distance().orElse(null),
+                    activityInfo.distanceInfo().orElse(null),
+                    activityInfo.difficulty().orElse(null),
+                    activityInfo.worldEventFastTravelStatus().orElse(null),
+                    activityInfo.requirements(),
+                    activityInfo.rewards(),
+                    activityInfo.trackingState());
+        }
+
+        public ActivityInfo toActivityInfo() {
+            return new ActivityInfo(
+                    type,
+                    name,
+                    status,
+                    Optional.ofNullable(specialInfo),
+                    Optional.ofNullable(description),
+                    Optional.ofNullable(length),
+                    Optional.ofNullable(lengthInfo),
+                    Optional.ofNullable(distance),
+                    Optional.ofNullable(distanceInfo),
+                    Optional.ofNullable(difficulty),
+                    Optional.ofNullable(worldEventFastTravelStatus),
+                    requirements,
+                    rewards,
+                    trackingState);
+        }
+    }
+}
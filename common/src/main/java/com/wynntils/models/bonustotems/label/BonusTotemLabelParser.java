@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2025.
+ * Copyright © Wynntils 2025-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.bonustotems.label;
@@ -38,4 +38,9 @@ public class BonusTotemLabelParser implements LabelParser<BonusTotemLabelInfo> {
 
         return new BonusTotemLabelInfo(label, location, entity, type, user, timerString);
     }
+
+    @Override
+    public boolean isCandidate(String label) {
+        return label.contains(" Totem\n");
+    }
 }
@@ -9,8 +9,6 @@ import com.wynntils.core.components.Handlers;
 import com.wynntils.core.components.Model;
 import com.wynntils.handlers.labels.event.LabelIdentifiedEvent;
 import com.wynntils.handlers.labels.event.LabelsRemovedEvent;
-import com.wynntils.handlers.labels.event.TextDisplayChangedEvent;
-import com.wynntils.handlers.labels.type.LabelInfo;
 import com.wynntils.models.combat.bossbar.DamageBar;
 import com.wynntils.models.combat.label.DamageLabelInfo;
 import com.wynntils.models.combat.label.DamageLabelParser;
@@ -20,7 +18,6 @@ import com.wynntils.models.combat.label.KillLabelParser;
 import com.wynntils.models.combat.label.MobDebuffsLabelInfo;
 import com.wynntils.models.combat.label.MobDebuffsLabelParser;
 import com.wynntils.models.combat.type.DamageDealtEvent;
-import com.wynntils.models.combat.type.DebuffLabelEntry;
 import com.wynntils.models.combat.type.FocusedDamageEvent;
 import com.wynntils.models.combat.type.KillCreditType;
 import com.wynntils.models.combat.type.MobElementals;
@@ -30,13 +27,13 @@ import com.wynntils.utils.mc.McUtils;
 import com.wynntils.utils.type.CappedValue;
 import com.wynntils.utils.type.TimedSet;
 import com.wynntils.utils.wynn.RaycastUtils;
+import java.util.Collection;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
-import net.minecraft.world.entity.Display;
 import net.minecraft.world.phys.Vec3;
 import net.neoforged.bus.api.SubscribeEvent;
 
@@ -53,8 +50,6 @@ public final class CombatModel extends Model {
 
     private final TimedSet<KillCreditType> killSet = new TimedSet<>(60, TimeUnit.SECONDS, true);
 
-    private final Map<Integer, DebuffLabelEntry> debuffTextDisplays = new HashMap<>();
-
     private String focusedMobName = "";
     private MobElementals focusedMobElementals = MobElementals.EMPTY;
     private long focusedMobHealth;
@@ -118,32 +113,10 @@ public final class CombatModel extends Model {
         }
     }
 
-    @SubscribeEvent
-    public void onTextDisplayChanged(TextDisplayChangedEvent.Text event) {
-        int id = event.getTextDisplay().getId();
-        Optional<LabelInfo> labelInfo = event.getLabelInfo();
-
-        if (labelInfo.isEmpty()) {
-            debuffTextDisplays.remove(id);
-            return;
-        }
-
-        if (labelInfo.get() instanceof MobDebuffsLabelInfo debuffInfo) {
-            debuffTextDisplays.put(
-                    debuffInfo.getEntity().getId(),
-                    new DebuffLabelEntry(debuffInfo, (Display.TextDisplay) debuffInfo.getEntity()));
-        } else {
-            debuffTextDisplays.remove(id);
-        }
-    }
-
     @SubscribeEvent
     public void onLabelsRemoved(LabelsRemovedEvent event) {
         event.getRemovedLabels().forEach(label -> {
-            int id = label.getEntity().getId();
-
-            debuffTextDisplays.remove(id);
-            liveDamageInfo.remove(id);
+            liveDamageInfo.remove(label.getEntity().getId());
         });
     }
 
@@ -161,45 +134,22 @@ public final class CombatModel extends Model {
 
     public int getTargetedDebuffCount(
             double range, double horizontalFovDegrees, double verticalFovDegrees, DebuffType debuffType) {
-        if (debuffTextDisplays.isEmpty()) return 0;
-
-        Optional<Display.TextDisplay> targeted = RaycastUtils.getTargetedLabel(
-                debuffTextDisplays.values().stream()
-                        .map(DebuffLabelEntry::entity)
-                        .toList(),
-                range,
-                horizontalFovDegrees,
-                verticalFovDegrees);
-
-        if (targeted.isEmpty()) return 0;
-
-        int id = targeted.get().getId();
-        DebuffLabelEntry entry = debuffTextDisplays.get(id);
+        Collection<MobDebuffsLabelInfo> debuffLabels = Handlers.Label.getLabels(MobDebuffsLabelInfo.class);
+        if (debuffLabels.isEmpty()) return 0;
 
-        if (entry == null) return 0;
+        Optional<MobDebuffsLabelInfo> targeted = RaycastUtils.getTargetedLabel(
+                debuffLabels, MobDebuffsLabelInfo::getEntity, range, horizontalFovDegrees, verticalFovDegrees);
 
-        return entry.info().getDebuffs().getOrDefault(debuffType, 0);
+        return targeted.map(info -> info.getDebuffs().getOrDefault(debuffType, 0)).orElse(0);
     }
 
     public int getDebuffCountInRadius(double radius, DebuffType debuffType) {
-        if (debuffTextDisplays.isEmpty()) return 0;
-
         Vec3 center = McUtils.mc().player.getEyePosition();
 
         int total = 0;
 
-        for (DebuffLabelEntry entry : debuffTextDisplays.values()) {
-            int count = entry.info().getDebuffs().getOrDefault(debuffType, 0);
-            if (count == 0) continue;
-
-            Display.TextDisplay display = entry.entity();
-            Vec3 pos = display.position();
-            double dx = pos.x - center.x;
-            double dz = pos.z - center.z;
-
-            if (dx * dx + dz * dz > radius * radius) continue;
-
-            total += count;
+        for (MobDebuffsLabelInfo info : Handlers.Label.getLabelsInRadius(MobDebuffsLabelInfo.class, center, radius)) {
+            total += info.getDebuffs().getOrDefault(debuffType, 0);
         }
 
         return total;
@@ -36,4 +36,9 @@ public class KillLabelParser implements LabelParser<KillLabelInfo> {
 
         return new KillLabelInfo(label, location, entity, combatXp, guildXp, killCredit);
     }
+
+    @Override
+    public boolean isCandidate(String label) {
+        return label.contains(" Combat XP");
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2025.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.containers;
@@ -8,6 +8,7 @@ import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Model;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.persisted.Persisted;
+import com.wynntils.core.persisted.eventlog.EventLog;
 import com.wynntils.core.persisted.storage.Storage;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.mc.event.ChestMenuQuickMoveEvent;
@@ -31,7 +32,6 @@ import com.wynntils.utils.mc.McUtils;
 import com.wynntils.utils.mc.type.Location;
 import com.wynntils.utils.type.RangedValue;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
@@ -48,6 +48,7 @@ public final class LootChestModel extends Model {
     public static final int LOOT_CHEST_ITEM_COUNT = 27;
     private static final int[] HIGH_TIER_EMERALD_POUCHES = {7, 8, 9, 10};
 
+    // Only read to move mythic finds saved by older versions into the mythic find log
     @Persisted
     private final Storage<List<MythicFind>> mythicFinds = new Storage<>(new ArrayList<>());
 
@@ -69,6 +70,11 @@ public final class LootChestModel extends Model {
     @Persisted
     private final Storage<Map<GearTier, Integer>> dryItemTiers = new Storage<>(new EnumMap<>(GearTier.class));
 
+    private final EventLog<MythicFind> mythicFindLog =
+            new EventLog<>("mythicFinds", MythicFind.class, MythicFind::timestamp, this::addToMythicFindSummary);
+    private MythicFind lastMythicFind;
+    private int highestMythicDryCount;
+
     private BlockPos lastChestPos;
     private int nextExpectedLootContainerId = -2;
     private final List<LootChestTier> sessionChests = new ArrayList<>();
@@ -93,8 +99,25 @@ public final class LootChestModel extends Model {
         return openedChestCount.get();
     }
 
-    public List<MythicFind> getMythicFinds() {
-        return Collections.unmodifiableList(mythicFinds.get());
+    public Optional<MythicFind> getLastMythicFind() {
+        return Optional.ofNullable(lastMythicFind);
+    }
+
+    public int getHighestMythicDryCount() {
+        return highestMythicDryCount;
+    }
+
+    @Override
+    public void onStorageLoad(Storage<?> storage) {
+        if (storage != mythicFinds) return;
+
+        mythicFindLog.load();
+
+        // The finds are only removed from storage once they are in the mythic find log, and importing them again is a
+        // no-op, so a crash in between can neither lose nor duplicate them
+        if (!mythicFinds.get().isEmpty()) {
+            mythicFindLog.importOnce("mythicFinds", mythicFinds.get(), () -> mythicFinds.store(new ArrayList<>()));
+        }
     }
 
     @SubscribeEvent
@@ -233,20 +256,24 @@ public final class LootChestModel extends Model {
     private void storeMythicFind(ItemStack itemStack, RangedValue levelRange) {
         Location chestLocation =
                 new Location(lastChestPos == null ? McUtils.player().blockPosition() : lastChestPos);
-        mythicFinds
-                .get()
-                .add(new MythicFind(
-                        StyledText.fromComponent(itemStack.getHoverName()).getStringWithoutFormatting(),
-                        levelRange,
-                        openedChestCount.get(),
-                        dryCount.get(),
-                        dryBoxes.get(),
-                        dryEmeralds.get(),
-                        dryItemTiers.get(),
-                        chestLocation,
-                        System.currentTimeMillis()));
-
-        mythicFinds.touched();
+        mythicFindLog.append(new MythicFind(
+                StyledText.fromComponent(itemStack.getHoverName()).getStringWithoutFormatting(),
+                levelRange,
+                openedChestCount.get(),
+                dryCount.get(),
+                dryBoxes.get(),
+                dryEmeralds.get(),
+                dryItemTiers.get(),
+                chestLocation,
+                System.currentTimeMillis()));
+    }
+
+    private void addToMythicFindSummary(MythicFind mythicFind) {
+        // Loaded finds can be added after finds from this session
+        if (lastMythicFind == null || mythicFind.timestamp() >= lastMythicFind.timestamp()) {
+            lastMythicFind = mythicFind;
+        }
+        highestMythicDryCount = Math.max(highestMythicDryCount, mythicFind.dryCount());
     }
 
     private void resetNormalDryStatistics() {
@@ -0,0 +1,316 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.models.containers;
+
+import com.wynntils.core.components.Model;
+import com.wynntils.core.components.Models;
+import com.wynntils.core.persisted.Persisted;
+import com.wynntils.core.persisted.storage.Storage;
+import com.wynntils.core.text.StyledText;
+import com.wynntils.mc.event.ContainerSetContentEvent;
+import com.wynntils.mc.event.ContainerSetSlotEvent;
+import com.wynntils.models.containers.containers.personal.PersonalStorageContainer;
+import com.wynntils.models.containers.type.PersonalStorageType;
+import com.wynntils.models.containers.type.StoredItem;
+import com.wynntils.models.containers.type.StoredItemLocation;
+import com.wynntils.models.items.WynnItem;
+import com.wynntils.models.items.encoding.type.EncodingSettings;
+import com.wynntils.models.items.properties.NamedItemProperty;
+import com.wynntils.services.itemfilter.type.ItemSearchQuery;
+import com.wynntils.utils.EncodedByteBuffer;
+import com.wynntils.utils.type.ErrorOr;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.bus.api.SubscribeEvent;
+
+/**
+ * Passively snapshots personal storage pages (banks, block bank, bookshelf and misc bucket) whenever they are opened,
+ * so items can be found without paging through the storage. The snapshots are indexed by the words of the item names.
+ */
+public final class StorageIndexModel extends Model {
+    // Items are encoded with the same settings as saved items, so they stay decodable if the API changes
+    private static final EncodingSettings STORED_ITEM_ENCODING_SETTINGS = new EncodingSettings(true, true);
+    private static final String CHARACTER_BANK_KEY_PREFIX = PersonalStorageType.CHARACTER_BANK.name() + ":";
+    private static final int MAX_DECODED_ITEMS = 4096;
+
+    // Storage key -> page -> slot -> item
+    @Persisted
+    private final Storage<Map<String, Map<Integer, Map<Integer, StoredItem>>>> storedPages =
+            new Storage<>(new TreeMap<>());
+
+    // Word -> locations of the items with the word in their name
+    private final TreeMap<String, Set<IndexKey>> nameIndex = new TreeMap<>();
+    private final Map<String, WynnItem> decodedItems = new HashMap<>();
+    private boolean indexBuilt = false;
+
+    public StorageIndexModel() {
+        super(List.of());
+    }
+
+    @SubscribeEvent
+    public void onContainerSetContent(ContainerSetContentEvent.Post event) {
+        PersonalStorageContainer container = getCurrentStorageContainer(event.getContainerId());
+        if (container == null) return;
+
+        Map<Integer, StoredItem> page = new TreeMap<>();
+        for (int slot : container.getBounds().getSlots()) {
+            if (slot >= event.getItems().size()) break;
+
+            StoredItem storedItem = createStoredItem(event.getItems().get(slot));
+            if (storedItem != null) {
+                page.put(slot, storedItem);
+            }
+        }
+
+        storePage(getStorageKey(container.getPersonalStorageType()), Models.Bank.getCurrentPage(), page);
+    }
+
+    @SubscribeEvent
+    public void onContainerSetSlot(ContainerSetSlotEvent.Post event) {
+        PersonalStorageContainer container = getCurrentStorageContainer(event.getContainerId());
+        if (container == null) return;
+        if (!container.getBounds().getSlots().contains(event.getSlot())) return;
+
+        String storageKey = getStorageKey(container.getPersonalStorageType());
+        int pageNumber = Models.Bank.getCurrentPage();
+
+        Map<Integer, StoredItem> page = new TreeMap<>(
+                storedPages.get().getOrDefault(storageKey, Map.of()).getOrDefault(pageNumber, Map.of()));
+        StoredItem storedItem = createStoredItem(event.getItemStack());
+        if (storedItem == null) {
+            page.remove(event.getSlot());
+        } else {
+            page.put(event.getSlot(), storedItem);
+        }
+
+        storePage(storageKey, pageNumber, page);
+    }
+
+    /**
+     * Finds stored items of the current character whose name contains words starting with all the given words.
+     * The account bank, block bank, bookshelf and misc bucket are shared, the character bank is per character.
+     *
+     * @param query the words to search for
+     * @return the locations of the matching items, ordered by storage, page and slot
+     */
+    public List<StoredItemLocation> findItems(String query) {
+        ensureIndexBuilt();
+
+        List<String> words = getWords(query);
+        if (words.isEmpty()) return List.of();
+
+        Set<IndexKey> matches = null;
+        for (String word : words) {
+            // Any indexed word starting with the query word matches
+            Set<IndexKey> wordMatches = new HashSet<>();
+            nameIndex
+                    .subMap(word, true, word + Character.MAX_VALUE, false)
+                    .values()
+                    .forEach(wordMatches::addAll);
+
+            if (matches == null) {
+                matches = wordMatches;
+            } else {
+                matches.retainAll(wordMatches);
+            }
+
+            if (matches.isEmpty()) return List.of();
+        }
+
+        return toLocations(matches);
+    }
+
+    /**
+     * Finds stored items of the current character matching the given item search query. Items that could not be
+     * encoded when they were stored only match queries without stat filters.
+     *
+     * @param searchQuery the search query
+     * @return the locations of the matching items, ordered by storage, page and slot
+     */
+    public List<StoredItemLocation> findItems(ItemSearchQuery searchQuery) {
+        if (searchQuery.isEmpty()) return List.of();
+
+        List<StoredItemLocation> candidates = searchQuery.plainTextTokens().isEmpty()
+                ? getAllItems()
+                : findItems(String.join(" ", searchQuery.plainTextTokens()));
+        if (searchQuery.filters().isEmpty()) return candidates;
+
+        return candidates.stream()
+                .filter(location -> decodeItem(location.item())
+                        .map(wynnItem -> searchQuery.filters().matches(wynnItem))
+                        .orElse(false))
+                .toList();
+    }
+
+    private void storePage(String storageKey, int pageNumber, Map<Integer, StoredItem> page) {
+        ensureIndexBuilt();
+
+        Map<Integer, Map<Integer, StoredItem>> pages =
+                storedPages.get().computeIfAbsent(storageKey, k -> new TreeMap<>());
+        Map<Integer, StoredItem> oldPage = pages.getOrDefault(pageNumber, Map.of());
+        if (oldPage.equals(page)) return;
+
+        unindexPage(storageKey, pageNumber, oldPage);
+        if (page.isEmpty()) {
+            pages.remove(pageNumber);
+        } else {
+            pages.put(pageNumber, page);
+            indexPage(storageKey, pageNumber, page);
+        }
+
+        storedPages.touched();
+    }
+
+    private void ensureIndexBuilt() {
+        if (indexBuilt) return;
+
+        // The snapshots are persisted, the index is rebuilt from them once per session
+        nameIndex.clear();
+        storedPages.get().forEach((storageKey, pages) -> pages.forEach(
+                (pageNumber, page) -> indexPage(storageKey, pageNumber, page)));
+        indexBuilt = true;
+    }
+
+    private void indexPage(String storageKey, int pageNumber, Map<Integer, StoredItem> page) {
+        page.forEach((slot, item) -> {
+            IndexKey key = new IndexKey(storageKey, pageNumber, slot);
+            for (String word : getWords(item.name())) {
+                nameIndex.computeIfAbsent(word, k -> new HashSet<>()).add(key);
+            }
+        });
+    }
+
+    private void unindexPage(String storageKey, int pageNumber, Map<Integer, StoredItem> page) {
+        page.forEach((slot, item) -> {
+            IndexKey key = new IndexKey(storageKey, pageNumber, slot);
+            for (String word : getWords(item.name())) {
+                Set<IndexKey> keys = nameIndex.get(word);
+                if (keys == null) continue;
+
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    nameIndex.remove(word);
+                }
+            }
+        });
+    }
+
+    private List<StoredItemLocation> getAllItems() {
+        List<IndexKey> keys = new ArrayList<>();
+        storedPages.get().forEach((storageKey, pages) -> pages.forEach((pageNumber, page) ->
+                page.keySet().forEach(slot -> keys.add(new IndexKey(storageKey, pageNumber, slot)))));
+
+        return toLocations(keys);
+    }
+
+    private List<StoredItemLocation> toLocations(Iterable<IndexKey> keys) {
+        String characterBankKey = getStorageKey(PersonalStorageType.CHARACTER_BANK);
+
+        List<StoredItemLocation> locations = new ArrayList<>();
+        for (IndexKey key : keys) {
+            // Only show the character bank of the current character
+            if (key.storageKey().startsWith(CHARACTER_BANK_KEY_PREFIX)
+                    && !key.storageKey().equals(characterBankKey)) {
+                continue;
+            }
+
+            StoredItem item = storedPages
+                    .get()
+                    .getOrDefault(key.storageKey(), Map.of())
+                    .getOrDefault(key.page(), Map.of())
+                    .get(key.slot());
+            if (item == null) continue;
+
+            locations.add(new StoredItemLocation(getStorageType(key.storageKey()), key.page(), key.slot(), item));
+        }
+
+        locations.sort(Comparator.comparing(StoredItemLocation::storageType)
+                .thenComparingInt(StoredItemLocation::page)
+                .thenComparingInt(StoredItemLocation::slot));
+        return locations;
+    }
+
+    private Optional<WynnItem> decodeItem(StoredItem storedItem) {
+        if (storedItem.encodedItem() == null) return Optional.empty();
+
+        WynnItem cachedItem = decodedItems.get(storedItem.encodedItem());
+        if (cachedItem != null) return Optional.of(cachedItem);
+
+        ErrorOr<WynnItem> errorOrWynnItem = Models.ItemEncoding.decodeItem(
+                EncodedByteBuffer.fromBase64String(storedItem.encodedItem()), null);
+        if (errorOrWynnItem.hasError()) return Optional.empty();
+
+        if (decodedItems.size() >= MAX_DECODED_ITEMS) {
+            decodedItems.clear();
+        }
+        decodedItems.put(storedItem.encodedItem(), errorOrWynnItem.getValue());
+
+        return Optional.of(errorOrWynnItem.getValue());
+    }
+
+    private StoredItem createStoredItem(ItemStack itemStack) {
+        if (itemStack.isEmpty()) return null;
+
+        Optional<WynnItem> wynnItemOpt = Models.Item.getWynnItem(itemStack);
+        if (wynnItemOpt.isEmpty()) return null;
+
+        WynnItem wynnItem = wynnItemOpt.get();
+        String name = wynnItem instanceof NamedItemProperty namedItemProperty
+                ? namedItemProperty.getName()
+                : StyledText.fromComponent(itemStack.getHoverName()).getStringWithoutFormatting();
+
+        String encodedItem = null;
+        if (Models.ItemEncoding.canEncodeItem(wynnItem)) {
+            ErrorOr<EncodedByteBuffer> errorOrEncodedByteBuffer =
+                    Models.ItemEncoding.encodeItem(wynnItem, STORED_ITEM_ENCODING_SETTINGS);
+            if (!errorOrEncodedByteBuffer.hasError()) {
+                encodedItem = errorOrEncodedByteBuffer.getValue().toBase64String();
+            }
+        }
+
+        return new StoredItem(name, itemStack.getCount(), encodedItem);
+    }
+
+    private PersonalStorageContainer getCurrentStorageContainer(int containerId) {
+        if (Models.Bank.getStorageContainerType() == null) return null;
+        if (!(Models.Container.getCurrentContainer() instanceof PersonalStorageContainer container)) return null;
+        if (container.getContainerId() != containerId) return null;
+
+        return container;
+    }
+
+    private static String getStorageKey(PersonalStorageType storageType) {
+        if (storageType == PersonalStorageType.CHARACTER_BANK) {
+            return CHARACTER_BANK_KEY_PREFIX + Models.Character.getId();
+        }
+
+        return storageType.name();
+    }
+
+    private static PersonalStorageType getStorageType(String storageKey) {
+        if (storageKey.startsWith(CHARACTER_BANK_KEY_PREFIX)) return PersonalStorageType.CHARACTER_BANK;
+
+        return PersonalStorageType.valueOf(storageKey);
+    }
+
+    private static List<String> getWords(String text) {
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}']+"))
+                .filter(word -> !word.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    private record IndexKey(String storageKey, int page, int slot) {}
+}
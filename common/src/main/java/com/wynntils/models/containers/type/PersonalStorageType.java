@@ -1,13 +1,21 @@
 /*
- * Copyright © Wynntils 2024.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.containers.type;
 
+import com.google.common.base.CaseFormat;
+import net.minecraft.client.resources.language.I18n;
+
 public enum PersonalStorageType {
     ACCOUNT_BANK,
     BLOCK_BANK,
     BOOKSHELF,
     CHARACTER_BANK,
-    MISC_BUCKET
+    MISC_BUCKET;
+
+    public String getDisplayName() {
+        return I18n.get("feature.wynntils.personalStorageUtilities.storageType."
+                + CaseFormat.UPPER_UNDERSCORE.to(CaseFormat.LOWER_CAMEL, name()));
+    }
 }
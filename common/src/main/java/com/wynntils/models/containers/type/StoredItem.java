@@ -0,0 +1,11 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.models.containers.type;
+
+/**
+ * An item seen in a personal storage page. The encoded item is stored as base64 when the item can be encoded,
+ * otherwise it is null and only the name is known.
+ */
+public record StoredItem(String name, int count, String encodedItem) {}
@@ -0,0 +1,18 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.models.containers.type;
+
+/**
+ * The location of a stored item. Pages are 1-indexed as shown in game, slots are container slot indices.
+ */
+public record StoredItemLocation(PersonalStorageType storageType, int page, int slot, StoredItem item) {
+    public int getRow() {
+        return slot / 9 + 1;
+    }
+
+    public int getColumn() {
+        return slot % 9 + 1;
+    }
+}
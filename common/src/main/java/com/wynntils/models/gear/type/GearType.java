@@ -7,11 +7,8 @@ package com.wynntils.models.gear.type;
 import com.wynntils.core.components.Services;
 import com.wynntils.models.character.type.ClassType;
 import com.wynntils.utils.type.Pair;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
-import java.util.Optional;
-import java.util.stream.IntStream;
 import net.minecraft.core.component.DataComponents;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
@@ -95,8 +92,6 @@ public enum GearType {
     private final List<Item> otherItems;
     private final int encodingId;
 
-    private List<Float> modelList = new ArrayList<>();
-
     GearType(
             ClassType classReq,
             Item defaultItem,
@@ -149,10 +144,10 @@ public enum GearType {
                 // We only want to match for proper gear, not rewards
                 if (gearType.isReward()) continue;
 
-                List<Float> customModelDataValue = customModelData.floats();
-                for (Float modelValue : customModelDataValue) {
-                    if ((gearType.defaultItem.equals(item) || gearType.otherItems.contains(item))
-                            && gearType.getModelList().contains(modelValue)) {
+                if (!gearType.defaultItem.equals(item) && !gearType.otherItems.contains(item)) continue;
+
+                for (float modelValue : customModelData.floats()) {
+                    if (gearType.isModel(modelValue)) {
                         return gearType;
                     }
                 }
@@ -192,11 +187,7 @@ public enum GearType {
     }
 
     public float getDefaultModel() {
-        if (Services.CustomModel.getRange(modelKey).isPresent()) {
-            return Services.CustomModel.getRange(modelKey).get().a();
-        } else {
-            return -1f;
-        }
+        return Services.CustomModel.getRange(modelKey).map(Pair::a).orElse(-1f);
     }
 
     public int getEncodingId() {
@@ -250,24 +241,8 @@ public enum GearType {
         return classReq == classType;
     }
 
-    private List<Float> getModelList() {
-        if (modelList.isEmpty()) {
-            List<Float> tempModelList = new ArrayList<>();
-
-            addRangeToList(Services.CustomModel.getRange(modelKey), tempModelList);
-            addRangeToList(Services.CustomModel.getRange(skinModelKey), tempModelList);
-
-            modelList = List.copyOf(tempModelList);
-        }
-
-        return modelList;
-    }
-
-    private static void addRangeToList(Optional<Pair<Float, Float>> modelRange, List<Float> out) {
-        modelRange.ifPresent(range -> {
-            int min = range.a().intValue();
-            int max = range.b().intValue();
-            IntStream.rangeClosed(min, max).mapToObj(i -> (float) i).forEach(out::add);
-        });
+    private boolean isModel(float modelValue) {
+        return Services.CustomModel.isInRange(modelKey, modelValue)
+                || Services.CustomModel.isInRange(skinModelKey, modelValue);
     }
 }
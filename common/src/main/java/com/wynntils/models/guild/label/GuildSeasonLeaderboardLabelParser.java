@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.guild.label;
@@ -77,4 +77,9 @@ public class GuildSeasonLeaderboardLabelParser implements LabelParser {
 
         return null;
     }
+
+    @Override
+    public boolean isCandidate(String label) {
+        return label.startsWith("§d§lSeason ");
+    }
 }
@@ -4,6 +4,7 @@
  */
 package com.wynntils.models.items.items.game;
 
+import com.wynntils.core.components.Models;
 import com.wynntils.models.character.type.ClassType;
 import com.wynntils.models.gear.type.GearTier;
 import com.wynntils.models.gear.type.GearType;
@@ -15,6 +16,7 @@ import com.wynntils.models.items.properties.PagedItemProperty;
 import com.wynntils.models.items.properties.RerollableItemProperty;
 import com.wynntils.models.rewards.type.CharmInfo;
 import com.wynntils.models.rewards.type.CharmInstance;
+import com.wynntils.models.stats.type.IndexedStatValues;
 import com.wynntils.models.stats.type.StatActualValue;
 import com.wynntils.models.stats.type.StatPossibleValues;
 import com.wynntils.models.stats.type.StatType;
@@ -33,6 +35,7 @@ public class CharmItem extends GameItem
     private final CharmInfo charmInfo;
     private final CharmInstance charmInstance;
     private int currentPage;
+    private IndexedStatValues indexedStatValues;
 
     public CharmItem(CharmInfo charmInfo, CharmInstance charmInstance, int currentPage) {
         this.charmInfo = charmInfo;
@@ -102,6 +105,16 @@ public class CharmItem extends GameItem
         return charmInfo.variableStats().stream().map(Pair::b).toList();
     }
 
+    @Override
+    public IndexedStatValues getIndexedStatValues() {
+        // Identifications never change, so the index only needs to be built once per item
+        if (indexedStatValues == null) {
+            indexedStatValues = Models.Stat.indexStatValues(getIdentifications(), getPossibleValues());
+        }
+
+        return indexedStatValues;
+    }
+
     @Override
     public RangedValue getIdentificationLevelRange() {
         return charmInfo.requirements().workingLevelRange();
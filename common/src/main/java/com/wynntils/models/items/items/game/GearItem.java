@@ -4,6 +4,7 @@
  */
 package com.wynntils.models.items.items.game;
 
+import com.wynntils.core.components.Models;
 import com.wynntils.models.character.type.ClassType;
 import com.wynntils.models.elements.type.Powder;
 import com.wynntils.models.gear.type.GearInfo;
@@ -23,6 +24,7 @@ import com.wynntils.models.items.properties.RequirementItemProperty;
 import com.wynntils.models.items.properties.RerollableItemProperty;
 import com.wynntils.models.items.properties.SetItemProperty;
 import com.wynntils.models.items.properties.ShinyItemProperty;
+import com.wynntils.models.stats.type.IndexedStatValues;
 import com.wynntils.models.stats.type.ShinyStat;
 import com.wynntils.models.stats.type.StatActualValue;
 import com.wynntils.models.stats.type.StatPossibleValues;
@@ -48,6 +50,7 @@ public class GearItem extends GameItem
     private final GearInstance gearInstance;
     private int currentPage;
     private final Optional<ShinyStat> parsedShinyStat;
+    private IndexedStatValues indexedStatValues;
 
     public GearItem(
             GearInfo gearInfo, GearInstance gearInstance, int currentPage, Optional<ShinyStat> parsedShinyStat) {
@@ -131,6 +134,16 @@ public class GearItem extends GameItem
         return gearInfo.variableStats().stream().map(Pair::b).toList();
     }
 
+    @Override
+    public IndexedStatValues getIndexedStatValues() {
+        // Identifications never change, so the index only needs to be built once per item
+        if (indexedStatValues == null) {
+            indexedStatValues = Models.Stat.indexStatValues(getIdentifications(), getPossibleValues());
+        }
+
+        return indexedStatValues;
+    }
+
     @Override
     public RangedValue getIdentificationLevelRange() {
         // Gears do not have level-specific stats
@@ -1,9 +1,10 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.items.game;
 
+import com.wynntils.core.components.Models;
 import com.wynntils.models.character.type.ClassType;
 import com.wynntils.models.gear.type.GearTier;
 import com.wynntils.models.gear.type.GearType;
@@ -14,6 +15,7 @@ import com.wynntils.models.items.properties.LeveledItemProperty;
 import com.wynntils.models.items.properties.RerollableItemProperty;
 import com.wynntils.models.rewards.type.TomeInfo;
 import com.wynntils.models.rewards.type.TomeInstance;
+import com.wynntils.models.stats.type.IndexedStatValues;
 import com.wynntils.models.stats.type.StatActualValue;
 import com.wynntils.models.stats.type.StatPossibleValues;
 import com.wynntils.models.stats.type.StatType;
@@ -30,6 +32,7 @@ public class TomeItem extends GameItem
                 IdentifiableItemProperty<TomeInfo, TomeInstance> {
     private final TomeInfo tomeInfo;
     private final TomeInstance tomeInstance;
+    private IndexedStatValues indexedStatValues;
 
     public TomeItem(TomeInfo tomeInfo, TomeInstance tomeInstance) {
         this.tomeInfo = tomeInfo;
@@ -94,6 +97,16 @@ public class TomeItem extends GameItem
         return tomeInfo.variableStats().stream().map(Pair::b).toList();
     }
 
+    @Override
+    public IndexedStatValues getIndexedStatValues() {
+        // Identifications never change, so the index only needs to be built once per item
+        if (indexedStatValues == null) {
+            indexedStatValues = Models.Stat.indexStatValues(getIdentifications(), getPossibleValues());
+        }
+
+        return indexedStatValues;
+    }
+
     @Override
     public RangedValue getIdentificationLevelRange() {
         // Tomes do not have level-specific stats
@@ -1,10 +1,11 @@
 /*
- * Copyright © Wynntils 2023.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.properties;
 
 import com.wynntils.models.character.type.ClassType;
+import com.wynntils.models.stats.type.IndexedStatValues;
 import com.wynntils.models.stats.type.StatActualValue;
 import com.wynntils.models.stats.type.StatPossibleValues;
 import com.wynntils.models.stats.type.StatType;
@@ -30,6 +31,12 @@ public interface IdentifiableItemProperty<T, U> extends NamedItemProperty {
 
     List<StatPossibleValues> getPossibleValues();
 
+    /**
+     * Returns the identifications and possible values indexed by stat ordinal, for scoring the item against many
+     * stats without searching the lists.
+     */
+    IndexedStatValues getIndexedStatValues();
+
     RangedValue getIdentificationLevelRange();
 
     boolean hasOverallValue();
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.lootrun.markers;
@@ -55,6 +55,8 @@ public class LootrunBeaconMarkerProvider implements MarkerProvider<MarkerPoi> {
             newPois.add(new MarkerPoi(PoiLocation.fromLocation(entry.location()), entry.name(), entry.texture()));
         }
         pois = newPois;
+
+        Models.Marker.markersChanged();
     }
 
     @Override
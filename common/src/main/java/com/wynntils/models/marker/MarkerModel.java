@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.marker;
@@ -9,6 +9,7 @@ import com.wynntils.models.marker.type.MarkerInfo;
 import com.wynntils.models.marker.type.MarkerProvider;
 import com.wynntils.services.map.pois.Poi;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -17,6 +18,12 @@ public final class MarkerModel extends Model {
 
     private final List<MarkerProvider> markerProviders = new ArrayList<>();
 
+    // The markers of the enabled providers, shared by everything rendering markers in the world each frame
+    private List<MarkerInfo> markerSnapshot = List.of();
+    private final BitSet snapshotProviders = new BitSet();
+    private final BitSet enabledProviders = new BitSet();
+    private volatile boolean markersChanged = true;
+
     public MarkerModel() {
         super(List.of());
 
@@ -25,6 +32,42 @@ public final class MarkerModel extends Model {
 
     public void registerMarkerProvider(MarkerProvider provider) {
         markerProviders.add(provider);
+        markersChanged();
+    }
+
+    /**
+     * Signals that the markers of a provider have changed, so the marker snapshot is rebuilt the next time it is
+     * requested. Providers need to call this whenever the markers they return change, except for their enabled state,
+     * which is checked for every snapshot.
+     */
+    public void markersChanged() {
+        markersChanged = true;
+    }
+
+    /**
+     * Returns the markers of all enabled providers. Unlike {@link #getAllMarkers()}, the list is cached, and only
+     * rebuilt when a provider signalled a change, or a provider was enabled or disabled.
+     */
+    public List<MarkerInfo> getMarkers() {
+        enabledProviders.clear();
+        for (int i = 0; i < markerProviders.size(); i++) {
+            if (markerProviders.get(i).isEnabled()) {
+                enabledProviders.set(i);
+            }
+        }
+
+        if (markersChanged || !enabledProviders.equals(snapshotProviders)) {
+            // Reset the flag first, so changes made while rebuilding are picked up next time
+            markersChanged = false;
+            snapshotProviders.clear();
+            snapshotProviders.or(enabledProviders);
+            markerSnapshot = enabledProviders.stream()
+                    .mapToObj(markerProviders::get)
+                    .<MarkerInfo>flatMap(MarkerProvider::getMarkerInfos)
+                    .toList();
+        }
+
+        return markerSnapshot;
     }
 
     public Stream<MarkerInfo> getAllMarkers() {
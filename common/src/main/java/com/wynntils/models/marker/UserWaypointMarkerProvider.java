@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.marker;
@@ -113,14 +113,18 @@ public class UserWaypointMarkerProvider implements MarkerProvider<WaypointPoi> {
                         () -> PoiLocation.fromLocation(
                                 markerInfo.locationSupplier().getLocation()),
                         markerInfo.name())));
+        Models.Marker.markersChanged();
     }
 
     public void removeLocation(Location location) {
-        markerInfoSet.removeIf(info -> info.a().location().equals(location));
+        if (markerInfoSet.removeIf(info -> info.a().location().equals(location))) {
+            Models.Marker.markersChanged();
+        }
     }
 
     public void removeAllLocations() {
         markerInfoSet.clear();
+        Models.Marker.markersChanged();
     }
 
     @Override
@@ -30,4 +30,9 @@ public class BossAltarLabelParser implements LabelParser<BossAltarLabelInfo> {
 
         return null;
     }
+
+    @Override
+    public boolean isCandidate(String label) {
+        return label.startsWith("§#d9822bff");
+    }
 }
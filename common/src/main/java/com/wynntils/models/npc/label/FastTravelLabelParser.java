@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2025.
+ * Copyright © Wynntils 2025-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.npc.label;
@@ -29,4 +29,9 @@ public class FastTravelLabelParser implements LabelParser<FastTravelLabelInfo> {
 
         return null;
     }
+
+    @Override
+    public boolean isCandidate(String label) {
+        return label.startsWith("§#8193ffff");
+    }
 }
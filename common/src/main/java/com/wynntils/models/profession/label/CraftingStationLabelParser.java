@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.profession.label;
@@ -30,4 +30,9 @@ public class CraftingStationLabelParser implements LabelParser<ProfessionCraftin
 
         return null;
     }
+
+    @Override
+    public boolean isCandidate(String label) {
+        return label.startsWith("§f");
+    }
 }
@@ -59,4 +59,9 @@ public class GatheringNodeLabelParser implements LabelParser<ProfessionGathering
 
         return null;
     }
+
+    @Override
+    public boolean isCandidate(String label) {
+        return label.contains(" Min: §f");
+    }
 }
@@ -11,6 +11,7 @@ import com.wynntils.core.components.Model;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.mod.TickSchedulerManager.ScheduledTask;
 import com.wynntils.core.persisted.Persisted;
+import com.wynntils.core.persisted.eventlog.EventLog;
 import com.wynntils.core.persisted.storage.Storage;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.chat.event.ChatMessageEvent;
@@ -50,10 +51,13 @@ import com.wynntils.utils.mc.LoreUtils;
 import com.wynntils.utils.mc.McUtils;
 import com.wynntils.utils.mc.StyledTextUtils;
 import com.wynntils.utils.type.CappedValue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
@@ -110,8 +114,15 @@ public final class RaidModel extends Model {
     @Persisted
     private final Storage<Integer> expectedNumRewardPulls = new Storage<>(-1);
 
+    // Only read to move raids saved by older versions into the raid log
     @Persisted
-    public final Storage<List<HistoricRaidInfo>> historicRaids = new Storage<>(new ArrayList<>());
+    private final Storage<List<HistoricRaidInfo>> historicRaids = new Storage<>(new ArrayList<>());
+
+    // Raid name and abbreviation, in lowercase -> end timestamps of the raids in the raid log
+    private final Map<String, LongList> raidEndTimestamps = new HashMap<>();
+    private final LongList allRaidEndTimestamps = new LongArrayList();
+    private final EventLog<HistoricRaidInfo> raidLog =
+            new EventLog<>("raids", HistoricRaidInfo.class, HistoricRaidInfo::endedTimestamp, this::addToRaidSummary);
 
     private static final List<RaidKind> RAIDS = new ArrayList<>();
     private static final RaidScoreboardPart RAID_SCOREBOARD_PART = new RaidScoreboardPart();
@@ -146,6 +157,19 @@ public final class RaidModel extends Model {
         registerRaids();
     }
 
+    @Override
+    public void onStorageLoad(Storage<?> storage) {
+        if (storage != historicRaids) return;
+
+        raidLog.load();
+
+        // The raids are only removed from storage once they are in the raid log, and importing them again is a no-op,
+        // so a crash in between can neither lose nor duplicate them
+        if (!historicRaids.get().isEmpty()) {
+            raidLog.importOnce("historicRaids", historicRaids.get(), () -> historicRaids.store(new ArrayList<>()));
+        }
+    }
+
     @SubscribeEvent
     public void onTitle(TitleSetTextEvent event) {
         Component component = event.getComponent();
@@ -490,14 +514,11 @@ public final class RaidModel extends Model {
         if (currentRaid == null) return;
 
         WynntilsMod.postEvent(new RaidEndedEvent.Failed(currentRaid));
-        historicRaids
-                .get()
-                .add(new HistoricRaidInfo(
-                        currentRaid.getRaidKind().getRaidName(),
-                        currentRaid.getRaidKind().getAbbreviation(),
-                        currentRaid.getChallenges(),
-                        System.currentTimeMillis()));
-        historicRaids.touched();
+        raidLog.append(new HistoricRaidInfo(
+                currentRaid.getRaidKind().getRaidName(),
+                currentRaid.getRaidKind().getAbbreviation(),
+                currentRaid.getChallenges(),
+                System.currentTimeMillis()));
 
         currentRaid = null;
         completedCurrentChallenge = false;
@@ -700,6 +721,17 @@ public final class RaidModel extends Model {
         return -1L;
     }
 
+    public int getRaidRunsSince(long timestamp) {
+        return countSince(allRaidEndTimestamps, timestamp);
+    }
+
+    public int getRaidRunsSince(String raidName, long timestamp) {
+        LongList timestamps = raidEndTimestamps.get(raidName.toLowerCase(Locale.ROOT));
+        if (timestamps == null) return 0;
+
+        return countSince(timestamps, timestamp);
+    }
+
     public List<String> getChosenBuffs(String player) {
         if (!partyRaidBuffs.containsKey(player)) return List.of();
 
@@ -712,14 +744,11 @@ public final class RaidModel extends Model {
         currentRaid.completeCurrentChallenge();
 
         WynntilsMod.postEvent(new RaidEndedEvent.Completed(currentRaid));
-        historicRaids
-                .get()
-                .add(new HistoricRaidInfo(
-                        currentRaid.getRaidKind().getRaidName(),
-                        currentRaid.getRaidKind().getAbbreviation(),
-                        currentRaid.getChallenges(),
-                        System.currentTimeMillis()));
-        historicRaids.touched();
+        raidLog.append(new HistoricRaidInfo(
+                currentRaid.getRaidKind().getRaidName(),
+                currentRaid.getRaidKind().getAbbreviation(),
+                currentRaid.getChallenges(),
+                System.currentTimeMillis()));
 
         checkForNewPersonalBest();
 
@@ -731,6 +760,26 @@ public final class RaidModel extends Model {
         parasiteOvertaken = false;
     }
 
+    private void addToRaidSummary(HistoricRaidInfo raidInfo) {
+        LongList timestamps =
+                raidEndTimestamps.computeIfAbsent(raidInfo.name().toLowerCase(Locale.ROOT), k -> new LongArrayList());
+        raidEndTimestamps.putIfAbsent(raidInfo.abbreviation().toLowerCase(Locale.ROOT), timestamps);
+
+        timestamps.add(raidInfo.endedTimestamp());
+        allRaidEndTimestamps.add(raidInfo.endedTimestamp());
+    }
+
+    private static int countSince(LongList timestamps, long timestamp) {
+        int count = 0;
+        for (int i = 0; i < timestamps.size(); i++) {
+            if (timestamps.getLong(i) >= timestamp) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
     private void checkForNewPersonalBest() {
         long timeInRaid = currentRaid.getTimeInRaid() - currentRaid.getIntermissionTime();
 
@@ -21,6 +21,7 @@ import com.wynntils.models.stats.builders.SpellStatBuilder;
 import com.wynntils.models.stats.builders.StatBuilder;
 import com.wynntils.models.stats.type.DamageStatType;
 import com.wynntils.models.stats.type.DefenceStatType;
+import com.wynntils.models.stats.type.IndexedStatValues;
 import com.wynntils.models.stats.type.MiscStatType;
 import com.wynntils.models.stats.type.SkillStatType;
 import com.wynntils.models.stats.type.SpellStatType;
@@ -33,9 +34,11 @@ import com.wynntils.utils.type.RangedValue;
 import java.io.Reader;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -44,6 +47,9 @@ import java.util.regex.Pattern;
 public final class StatModel extends Model {
     private final List<StatType> statTypeRegistry = new ArrayList<>();
     private final StatLookupTable statTypeLookup = new StatLookupTable();
+    // The ordinal of a stat type is its index in the registry
+    private final Map<StatType, Integer> statOrdinals = new HashMap<>();
+    private final Map<String, StatType> lowerCaseApiNameLookup = new HashMap<>();
     private final Map<StatListOrdering, List<StatType>> orderingLists;
 
     // An id map for stat type -> unique id keys, used for gear chat encoding
@@ -104,6 +110,57 @@ public final class StatModel extends Model {
         return null;
     }
 
+    /**
+     * Looks up a stat type by its API name, ignoring case, like the names used by item weightings.
+     */
+    public StatType fromApiNameIgnoreCase(String apiName) {
+        return lowerCaseApiNameLookup.get(apiName.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the ordinal of the stat type, a dense index usable for arrays of size {@link #getStatTypeCount()}, or
+     * -1 if the stat type is unknown.
+     */
+    public int getStatOrdinal(StatType statType) {
+        Integer ordinal = statOrdinals.get(statType);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    public int getStatTypeCount() {
+        return statTypeRegistry.size();
+    }
+
+    public IndexedStatValues indexStatValues(
+            List<StatActualValue> identifications, List<StatPossibleValues> possibleValues) {
+        int statTypeCount = getStatTypeCount();
+        StatActualValue[] actualValueArray = new StatActualValue[statTypeCount];
+        StatPossibleValues[] possibleValueArray = new StatPossibleValues[statTypeCount];
+        float[] percentages = new float[statTypeCount];
+        Arrays.fill(percentages, Float.NaN);
+
+        // Keep the first value of a stat, if an item lists it twice
+        for (StatActualValue actualValue : identifications) {
+            int ordinal = getStatOrdinal(actualValue.statType());
+            if (ordinal != -1 && actualValueArray[ordinal] == null) {
+                actualValueArray[ordinal] = actualValue;
+            }
+        }
+        for (StatPossibleValues possibleValue : possibleValues) {
+            int ordinal = getStatOrdinal(possibleValue.statType());
+            if (ordinal != -1 && possibleValueArray[ordinal] == null) {
+                possibleValueArray[ordinal] = possibleValue;
+            }
+        }
+
+        for (int i = 0; i < statTypeCount; i++) {
+            if (actualValueArray[i] != null && possibleValueArray[i] != null) {
+                percentages[i] = StatCalculator.getPercentage(actualValueArray[i], possibleValueArray[i]);
+            }
+        }
+
+        return new IndexedStatValues(actualValueArray, possibleValueArray, percentages);
+    }
+
     public Optional<Integer> getIdForStatType(StatType statType) {
         return Optional.ofNullable(statTypeIdMap.get(statType));
     }
@@ -183,6 +240,11 @@ public final class StatModel extends Model {
         for (StatType statType : statTypeRegistry) {
             statTypeLookup.put(statType.getDisplayName(), statType.getUnit(), statType);
         }
+        for (int i = 0; i < statTypeRegistry.size(); i++) {
+            StatType statType = statTypeRegistry.get(i);
+            statOrdinals.putIfAbsent(statType, i);
+            lowerCaseApiNameLookup.putIfAbsent(statType.getApiName().toLowerCase(Locale.ROOT), statType);
+        }
         // Spell Cost stats have a lot of aliases under which they can appear
         for (SpellStatType spellStatType : spellStats) {
             for (String alias : SpellStatBuilder.getAliases(spellStatType)) {
@@ -0,0 +1,30 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.models.stats.type;
+
+/**
+ * The identifications and possible values of an item, indexed by stat ordinal (see
+ * {@link com.wynntils.models.stats.StatModel#getStatOrdinal(StatType)}). The arrays are parallel and cover all stat
+ * types, with null for stats the item does not have. The percentages are precomputed for all stats that have both an
+ * actual and a possible value, and are NaN for all others.
+ */
+public record IndexedStatValues(
+        StatActualValue[] actualValues, StatPossibleValues[] possibleValues, float[] percentages) {
+    public StatActualValue getActualValue(int ordinal) {
+        return actualValues[ordinal];
+    }
+
+    public StatPossibleValues getPossibleValues(int ordinal) {
+        return possibleValues[ordinal];
+    }
+
+    public float getPercentage(int ordinal) {
+        return percentages[ordinal];
+    }
+
+    public boolean hasPercentage(int ordinal) {
+        return !Float.isNaN(percentages[ordinal]);
+    }
+}
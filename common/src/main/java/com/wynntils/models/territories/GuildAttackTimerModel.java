@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2025.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.territories;
@@ -99,6 +99,7 @@ public final class GuildAttackTimerModel extends Model {
                 WynntilsMod.postEvent(new GuildWarQueuedEvent(attackTimer));
             }
 
+            Models.Marker.markersChanged();
             return;
         }
 
@@ -111,6 +112,7 @@ public final class GuildAttackTimerModel extends Model {
             chatAttackTimers.remove(territory);
             scoreboardAttackTimers.remove(territory);
             capturedTerritories.put(territory);
+            Models.Marker.markersChanged();
             return;
         }
 
@@ -118,6 +120,7 @@ public final class GuildAttackTimerModel extends Model {
         if (matcher.matches()) {
             String territory = matcher.group(1);
             territoryDefenses.put(territory, GuildResourceValues.fromString(matcher.group(2)));
+            Models.Marker.markersChanged();
             return;
         }
     }
@@ -127,6 +130,12 @@ public final class GuildAttackTimerModel extends Model {
         // Every 20 ticks, clean up old timers
         if (McUtils.player().tickCount % 20 != 0) return;
 
+        // The markers also depend on the timers expiring and the territory profiles being loaded,
+        // so refresh them every second while there are timers
+        if (!chatAttackTimers.isEmpty() || !scoreboardAttackTimers.isEmpty()) {
+            Models.Marker.markersChanged();
+        }
+
         long currentTime = System.currentTimeMillis();
 
         List<String> removedTimers = new ArrayList<>();
@@ -226,5 +235,7 @@ public final class GuildAttackTimerModel extends Model {
                 }
             }
         }
+
+        Models.Marker.markersChanged();
     }
 }
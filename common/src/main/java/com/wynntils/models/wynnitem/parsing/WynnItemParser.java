@@ -142,6 +142,12 @@ public final class WynnItemParser {
 
     public static WynnItemParseResult parseItemStack(
             ItemStack itemStack, Map<StatType, StatPossibleValues> possibleValuesMap) {
+        return parseItemStack(itemStack, LoreUtils.getTooltipLines(itemStack), possibleValuesMap);
+    }
+
+    // Split out so the tooltip can be supplied directly, as building it needs a running client
+    static WynnItemParseResult parseItemStack(
+            ItemStack itemStack, List<Component> tooltip, Map<StatType, StatPossibleValues> possibleValuesMap) {
         List<StatActualValue> identifications = new ArrayList<>();
         List<NamedItemEffect> namedEffects = new ArrayList<>();
         List<ItemEffect> effects = new ArrayList<>();
@@ -170,7 +176,7 @@ public final class WynnItemParser {
         Map<StatType, Integer> wynnBonuses = new HashMap<>();
 
         // Parse lore for identifications, powders and rerolls
-        List<Component> lore = ComponentUtils.stripDuplicateBlank(LoreUtils.getTooltipLines(itemStack));
+        List<Component> lore = ComponentUtils.stripDuplicateBlank(tooltip);
         lore.removeFirst(); // remove item name
         lore.removeLast(); // remove empty last line
 
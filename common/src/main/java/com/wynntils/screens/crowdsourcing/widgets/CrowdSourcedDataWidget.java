@@ -91,7 +91,9 @@ public class CrowdSourcedDataWidget extends WynntilsButton implements TooltipPro
                         .get()
                         .put(crowdSourcedDataType, OptionalBoolean.FALSE);
 
-                Managers.Config.saveConfig();
+                Managers.Feature.getFeatureInstance(DataCrowdSourcingFeature.class)
+                        .crowdSourcedDataTypeEnabledMap
+                        .touched();
                 return true;
             }
 
@@ -105,7 +107,9 @@ public class CrowdSourcedDataWidget extends WynntilsButton implements TooltipPro
                     .crowdSourcedDataTypeEnabledMap
                     .get()
                     .put(crowdSourcedDataType, OptionalBoolean.TRUE);
-            Managers.Config.saveConfig();
+            Managers.Feature.getFeatureInstance(DataCrowdSourcingFeature.class)
+                    .crowdSourcedDataTypeEnabledMap
+                    .touched();
 
             return true;
         }
@@ -119,7 +123,9 @@ public class CrowdSourcedDataWidget extends WynntilsButton implements TooltipPro
                         .get()
                         .put(crowdSourcedDataType, OptionalBoolean.FALSE);
 
-                Managers.Config.saveConfig();
+                Managers.Feature.getFeatureInstance(DataCrowdSourcingFeature.class)
+                        .crowdSourcedDataTypeEnabledMap
+                        .touched();
                 return true;
             }
 
@@ -5,7 +5,6 @@
 package com.wynntils.screens.guides.aspect;
 
 import com.wynntils.core.components.Models;
-import com.wynntils.core.components.Services;
 import com.wynntils.screens.guides.WynntilsGuideScreen;
 import com.wynntils.screens.guides.widgets.GuideButton;
 import com.wynntils.screens.guides.widgets.GuideContainerWidget;
@@ -45,7 +44,7 @@ public class AspectGuideContainerWidget extends GuideContainerWidget<GuideAspect
     @Override
     protected List<GuideAspectItemStack> filterAndSortGuideItems(
             ItemSearchQuery searchQuery, List<GuideAspectItemStack> guideItems) {
-        return Services.ItemFilter.filterAndSort(searchQuery, guideItems);
+        return filterAndSortIndexed(searchQuery, guideItems);
     }
 
     @Override
@@ -5,7 +5,6 @@
 package com.wynntils.screens.guides.augment;
 
 import com.wynntils.core.components.Models;
-import com.wynntils.core.components.Services;
 import com.wynntils.models.rewards.type.AmplifierInfo;
 import com.wynntils.screens.guides.WynntilsGuideScreen;
 import com.wynntils.screens.guides.widgets.GuideButton;
@@ -43,7 +42,7 @@ public class AugmentGuideContainerWidget extends GuideContainerWidget<GuideAugme
     @Override
     protected List<GuideAugmentItemStack> filterAndSortGuideItems(
             ItemSearchQuery searchQuery, List<GuideAugmentItemStack> guideItems) {
-        return Services.ItemFilter.filterAndSort(searchQuery, guideItems);
+        return filterAndSortIndexed(searchQuery, guideItems);
     }
 
     @Override
@@ -4,7 +4,6 @@
  */
 package com.wynntils.screens.guides.dungeonkey;
 
-import com.wynntils.core.components.Services;
 import com.wynntils.models.activities.type.Dungeon;
 import com.wynntils.screens.guides.WynntilsGuideScreen;
 import com.wynntils.screens.guides.widgets.GuideButton;
@@ -42,7 +41,7 @@ public class DungeonKeyGuideContainerWidget extends GuideContainerWidget<GuideDu
     @Override
     protected List<GuideDungeonKeyItemStack> filterAndSortGuideItems(
             ItemSearchQuery searchQuery, List<GuideDungeonKeyItemStack> guideItems) {
-        return Services.ItemFilter.filterAndSort(searchQuery, guideItems);
+        return filterAndSortIndexed(searchQuery, guideItems);
     }
 
     @Override
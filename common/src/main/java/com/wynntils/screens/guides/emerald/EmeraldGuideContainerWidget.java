@@ -5,7 +5,6 @@
 package com.wynntils.screens.guides.emerald;
 
 import com.wynntils.core.components.Models;
-import com.wynntils.core.components.Services;
 import com.wynntils.screens.guides.WynntilsGuideScreen;
 import com.wynntils.screens.guides.widgets.GuideButton;
 import com.wynntils.screens.guides.widgets.GuideContainerWidget;
@@ -42,7 +41,7 @@ public class EmeraldGuideContainerWidget extends GuideContainerWidget<GuideEmera
     @Override
     protected List<GuideEmeraldItemStack> filterAndSortGuideItems(
             ItemSearchQuery searchQuery, List<GuideEmeraldItemStack> guideItems) {
-        return Services.ItemFilter.filterAndSort(searchQuery, guideItems);
+        return filterAndSortIndexed(searchQuery, guideItems);
     }
 
     @Override
@@ -5,7 +5,6 @@
 package com.wynntils.screens.guides.gatheringtool;
 
 import com.wynntils.core.components.Models;
-import com.wynntils.core.components.Services;
 import com.wynntils.models.profession.type.GatheringToolInfo;
 import com.wynntils.screens.guides.WynntilsGuideScreen;
 import com.wynntils.screens.guides.widgets.GuideButton;
@@ -49,7 +48,7 @@ public class GatheringToolGuideContainerWidget extends GuideContainerWidget<Guid
     @Override
     protected List<GuideGatheringToolItemStack> filterAndSortGuideItems(
             ItemSearchQuery searchQuery, List<GuideGatheringToolItemStack> guideItems) {
-        return Services.ItemFilter.filterAndSort(searchQuery, guideItems);
+        return filterAndSortIndexed(searchQuery, guideItems);
     }
 
     @Override
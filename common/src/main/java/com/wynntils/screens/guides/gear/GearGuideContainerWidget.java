@@ -82,7 +82,7 @@ public class GearGuideContainerWidget extends GuideContainerWidget<GuideGearItem
     @Override
     protected List<GuideGearItemStack> filterAndSortGuideItems(
             ItemSearchQuery searchQuery, List<GuideGearItemStack> guideItems) {
-        return Services.ItemFilter.filterAndSort(searchQuery, guideItems);
+        return filterAndSortIndexed(searchQuery, guideItems);
     }
 
     @Override
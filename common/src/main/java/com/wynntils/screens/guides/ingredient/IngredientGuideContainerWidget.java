@@ -69,7 +69,7 @@ public class IngredientGuideContainerWidget extends GuideContainerWidget<GuideIn
     @Override
     protected List<GuideIngredientItemStack> filterAndSortGuideItems(
             ItemSearchQuery searchQuery, List<GuideIngredientItemStack> guideItems) {
-        return Services.ItemFilter.filterAndSort(searchQuery, guideItems);
+        return filterAndSortIndexed(searchQuery, guideItems);
     }
 
     @Override
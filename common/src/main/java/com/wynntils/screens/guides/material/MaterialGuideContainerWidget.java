@@ -5,7 +5,6 @@
 package com.wynntils.screens.guides.material;
 
 import com.wynntils.core.components.Models;
-import com.wynntils.core.components.Services;
 import com.wynntils.models.profession.type.MaterialInfo;
 import com.wynntils.screens.guides.WynntilsGuideScreen;
 import com.wynntils.screens.guides.widgets.GuideButton;
@@ -48,7 +47,7 @@ public class MaterialGuideContainerWidget extends GuideContainerWidget<GuideMate
     @Override
     protected List<GuideMaterialItemStack> filterAndSortGuideItems(
             ItemSearchQuery searchQuery, List<GuideMaterialItemStack> guideItems) {
-        return Services.ItemFilter.filterAndSort(searchQuery, guideItems);
+        return filterAndSortIndexed(searchQuery, guideItems);
     }
 
     @Override
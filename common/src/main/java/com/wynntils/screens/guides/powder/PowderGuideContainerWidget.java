@@ -5,7 +5,6 @@
 package com.wynntils.screens.guides.powder;
 
 import com.wynntils.core.components.Models;
-import com.wynntils.core.components.Services;
 import com.wynntils.screens.guides.WynntilsGuideScreen;
 import com.wynntils.screens.guides.widgets.GuideButton;
 import com.wynntils.screens.guides.widgets.GuideContainerWidget;
@@ -41,7 +40,7 @@ public class PowderGuideContainerWidget extends GuideContainerWidget<GuidePowder
     @Override
     protected List<GuidePowderItemStack> filterAndSortGuideItems(
             ItemSearchQuery searchQuery, List<GuidePowderItemStack> guideItems) {
-        return Services.ItemFilter.filterAndSort(searchQuery, guideItems);
+        return filterAndSortIndexed(searchQuery, guideItems);
     }
 
     @Override
@@ -5,7 +5,6 @@
 package com.wynntils.screens.guides.rune;
 
 import com.wynntils.core.components.Models;
-import com.wynntils.core.components.Services;
 import com.wynntils.models.rewards.type.RuneType;
 import com.wynntils.screens.guides.WynntilsGuideScreen;
 import com.wynntils.screens.guides.widgets.GuideButton;
@@ -42,7 +41,7 @@ public class RuneGuideContainerWidget extends GuideContainerWidget<GuideRuneItem
     @Override
     protected List<GuideRuneItemStack> filterAndSortGuideItems(
             ItemSearchQuery searchQuery, List<GuideRuneItemStack> guideItems) {
-        return Services.ItemFilter.filterAndSort(searchQuery, guideItems);
+        return filterAndSortIndexed(searchQuery, guideItems);
     }
 
     @Override
@@ -5,7 +5,6 @@
 package com.wynntils.screens.guides.tome;
 
 import com.wynntils.core.components.Models;
-import com.wynntils.core.components.Services;
 import com.wynntils.models.rewards.type.TomeInfo;
 import com.wynntils.screens.guides.WynntilsGuideScreen;
 import com.wynntils.screens.guides.widgets.GuideButton;
@@ -48,7 +47,7 @@ public class TomeGuideContainerWidget extends GuideContainerWidget<GuideTomeItem
     @Override
     protected List<GuideTomeItemStack> filterAndSortGuideItems(
             ItemSearchQuery searchQuery, List<GuideTomeItemStack> guideItems) {
-        return Services.ItemFilter.filterAndSort(searchQuery, guideItems);
+        return filterAndSortIndexed(searchQuery, guideItems);
     }
 
     @Override
@@ -5,7 +5,6 @@
 package com.wynntils.screens.guides.ward;
 
 import com.wynntils.core.components.Models;
-import com.wynntils.core.components.Services;
 import com.wynntils.models.rewards.type.WardType;
 import com.wynntils.screens.guides.WynntilsGuideScreen;
 import com.wynntils.screens.guides.widgets.GuideButton;
@@ -42,7 +41,7 @@ public class WardGuideContainerWidget extends GuideContainerWidget<GuideWardItem
     @Override
     protected List<GuideWardItemStack> filterAndSortGuideItems(
             ItemSearchQuery searchQuery, List<GuideWardItemStack> guideItems) {
-        return Services.ItemFilter.filterAndSort(searchQuery, guideItems);
+        return filterAndSortIndexed(searchQuery, guideItems);
     }
 
     @Override
@@ -14,6 +14,7 @@ import com.wynntils.screens.base.TextboxScreen;
 import com.wynntils.screens.base.widgets.TextInputBoxWidget;
 import com.wynntils.screens.guides.WynntilsGuideScreen;
 import com.wynntils.screens.guides.widgets.filters.GuideFilterWidget;
+import com.wynntils.services.itemfilter.ItemSearchIndex;
 import com.wynntils.services.itemfilter.type.ItemProviderType;
 import com.wynntils.services.itemfilter.type.ItemSearchQuery;
 import com.wynntils.services.itemfilter.type.SortInfo;
@@ -44,6 +45,7 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.FontDescription;
 import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.network.chat.Style;
+import net.minecraft.world.item.ItemStack;
 import org.lwjgl.glfw.GLFW;
 
 public abstract class GuideContainerWidget<T> extends AbstractWidget implements TextboxScreen {
@@ -68,6 +70,7 @@ public abstract class GuideContainerWidget<T> extends AbstractWidget implements
     private ItemSearchQuery searchQuery;
     private ItemSearchQuery cachedSearchQuery;
     private List<T> cachedGuideItems = List.of();
+    private ItemSearchIndex<?> guideItemIndex;
 
     private boolean draggingScroll = false;
     private int scrollOffset;
@@ -555,6 +558,20 @@ public abstract class GuideContainerWidget<T> extends AbstractWidget implements
         return cachedGuideItems;
     }
 
+    /**
+     * Filters and sorts guide items through a search index, which is built once for the list of all guide items.
+     */
+    @SuppressWarnings("unchecked")
+    protected <S extends ItemStack> List<S> filterAndSortIndexed(ItemSearchQuery searchQuery, List<S> guideItems) {
+        ItemSearchIndex<S> index = (ItemSearchIndex<S>) guideItemIndex;
+        if (index == null || !index.isIndexOf(guideItems)) {
+            index = Services.ItemFilter.createSearchIndex(guideItems);
+            guideItemIndex = index;
+        }
+
+        return index.filterAndSort(searchQuery);
+    }
+
     private int getItemCount() {
         return getGuideItems().size();
     }
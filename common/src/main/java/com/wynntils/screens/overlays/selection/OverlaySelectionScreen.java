@@ -12,9 +12,9 @@ import com.wynntils.core.consumers.features.Feature;
 import com.wynntils.core.consumers.overlays.CustomNameProperty;
 import com.wynntils.core.consumers.overlays.Overlay;
 import com.wynntils.core.consumers.screens.WynntilsScreen;
-import com.wynntils.core.persisted.Translatable;
 import com.wynntils.core.persisted.config.Config;
 import com.wynntils.core.persisted.config.OverlayGroupHolder;
+import com.wynntils.core.search.SearchResults;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.features.overlays.CustomBarsOverlayFeature;
 import com.wynntils.features.overlays.InfoBoxFeature;
@@ -30,7 +30,6 @@ import com.wynntils.screens.overlays.placement.OverlayManagementScreen;
 import com.wynntils.screens.overlays.selection.widgets.OverlayButton;
 import com.wynntils.screens.settings.widgets.ConfigTile;
 import com.wynntils.utils.MathUtils;
-import com.wynntils.utils.StringUtils;
 import com.wynntils.utils.colors.CommonColors;
 import com.wynntils.utils.mc.ComponentUtils;
 import com.wynntils.utils.mc.McUtils;
@@ -448,8 +447,7 @@ public final class OverlaySelectionScreen extends WynntilsScreen {
     }
 
     public boolean configOptionContains(Config<?> config) {
-        return !searchWidget.getTextBoxInput().isEmpty()
-                && StringUtils.containsIgnoreCase(config.getDisplayName(), searchWidget.getTextBoxInput());
+        return Managers.Search.search(searchWidget.getTextBoxInput()).matches(config);
     }
 
     public void populateOverlays() {
@@ -460,11 +458,11 @@ public final class OverlaySelectionScreen extends WynntilsScreen {
         overlays = new ArrayList<>();
 
         // Get all overlays, sorted by parent feature a-z, then a-z for each overlay in that feature.
-        // Filter to only include overlays matching search query.
-        overlayList = Managers.Overlay.getOverlays().stream()
-                .sorted(Overlay::compareTo)
-                .filter(this::searchMatches)
-                .toList();
+        // If there is a search query, only include overlays matching it, best matches first.
+        SearchResults searchResults = Managers.Search.search(searchWidget.getTextBoxInput());
+        overlayList = searchResults.isEmpty()
+                ? Managers.Overlay.getOverlays().stream().sorted().toList()
+                : searchResults.getOverlays();
 
         // If not in the "All" filter, then only show overlays that are built-in, or custom bars/info boxes
         if (filterType == FilterType.BUILT_IN) {
@@ -739,18 +737,6 @@ public final class OverlaySelectionScreen extends WynntilsScreen {
         populateOverlays();
     }
 
-    private boolean searchMatches(Translatable translatable) {
-        // For info boxes and custom bars, we want to search for their custom name if given
-        // if there is no match, then check the translated name
-        if (translatable instanceof CustomNameProperty customNameProperty) {
-            if (StringUtils.partialMatch(customNameProperty.getCustomName().get(), searchWidget.getTextBoxInput())) {
-                return true;
-            }
-        }
-
-        return StringUtils.partialMatch(translatable.getTranslatedName(), searchWidget.getTextBoxInput());
-    }
-
     private Stream<GuiEventListener> getWidgetsForIteration() {
         return Stream.concat(
                 children.stream(),
@@ -12,9 +12,9 @@ import com.wynntils.core.consumers.features.Feature;
 import com.wynntils.core.consumers.overlays.CustomNameProperty;
 import com.wynntils.core.consumers.overlays.Overlay;
 import com.wynntils.core.consumers.screens.WynntilsScreen;
-import com.wynntils.core.persisted.Translatable;
 import com.wynntils.core.persisted.config.Category;
 import com.wynntils.core.persisted.config.Config;
+import com.wynntils.core.search.SearchResults;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.screens.base.TooltipProvider;
 import com.wynntils.screens.base.widgets.SearchWidget;
@@ -30,7 +30,6 @@ import com.wynntils.screens.settings.widgets.SettingsSearchWidget;
 import com.wynntils.screens.settings.widgets.SettingsSideTabButton;
 import com.wynntils.screens.settings.widgets.UnsavedChangesWidget;
 import com.wynntils.utils.MathUtils;
-import com.wynntils.utils.StringUtils;
 import com.wynntils.utils.colors.CommonColors;
 import com.wynntils.utils.mc.ComponentUtils;
 import com.wynntils.utils.mc.McUtils;
@@ -822,8 +821,7 @@ public final class WynntilsBookSettingsScreen extends WynntilsScreen {
     }
 
     public boolean configOptionContains(Config<?> config) {
-        return !searchWidget.getTextBoxInput().isEmpty()
-                && StringUtils.containsIgnoreCase(config.getDisplayName(), searchWidget.getTextBoxInput());
+        return getSearchResults().matches(config);
     }
 
     public void setSelectedConfigurable(Configurable selectedConfigurable) {
@@ -1112,7 +1110,7 @@ public final class WynntilsBookSettingsScreen extends WynntilsScreen {
 
         // Find a config that matches current search query and get scroll offset to make that config visible
         for (Config<?> config : configsOptions) {
-            if (StringUtils.containsIgnoreCase(config.getDisplayName(), searchWidget.getTextBoxInput())) {
+            if (configOptionContains(config)) {
                 int newOffset = Math.max(
                         0,
                         Math.min(
@@ -1169,16 +1167,20 @@ public final class WynntilsBookSettingsScreen extends WynntilsScreen {
                 || overlay.getVisibleConfigOptions().stream().anyMatch(this::configOptionContains);
     }
 
-    private boolean searchMatches(Translatable translatable) {
-        // For info boxes and custom bars, we want to search for their custom name if given
-        // if there is no match, then check the translated name
-        if (translatable instanceof CustomNameProperty customNameProperty) {
-            if (StringUtils.partialMatch(customNameProperty.getCustomName().get(), searchWidget.getTextBoxInput())) {
-                return true;
-            }
+    private boolean searchMatches(Configurable configurable) {
+        SearchResults searchResults = getSearchResults();
+
+        if (configurable instanceof Feature feature) {
+            return searchResults.matches(feature);
+        } else if (configurable instanceof Overlay overlay) {
+            return searchResults.matches(overlay);
+        } else {
+            throw new IllegalStateException("Unknown configurable type: " + configurable.getClass());
         }
+    }
 
-        return StringUtils.partialMatch(translatable.getTranslatedName(), searchWidget.getTextBoxInput());
+    private SearchResults getSearchResults() {
+        return Managers.Search.search(searchWidget.getTextBoxInput());
     }
 
     private void renderBg(GuiGraphics guiGraphics) {
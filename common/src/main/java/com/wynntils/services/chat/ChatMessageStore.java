@@ -0,0 +1,113 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.chat;
+
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.mc.event.AddGuiMessageLineEvent;
+import com.wynntils.utils.mc.McUtils;
+import java.util.ArrayDeque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import net.minecraft.client.GuiMessage;
+import net.minecraft.client.GuiMessageTag;
+import net.minecraft.client.gui.components.ChatComponent;
+import net.minecraft.client.gui.components.ComponentRenderUtils;
+import net.minecraft.util.FormattedCharSequence;
+import net.minecraft.util.Mth;
+
+/**
+ * Holds the chat messages shown in the chat tabs, and their wrapped lines, once for all tabs. The tabs only keep
+ * references to the messages and lines in here. The store is a ring buffer, keeping as many messages as all tabs
+ * together can show.
+ * <p>
+ * The wrapped lines of a message are cached for the chat width they were wrapped at, so switching tabs does not
+ * wrap the messages again, unless the chat width has changed since.
+ */
+final class ChatMessageStore {
+    private final ArrayDeque<StoredMessage> messages = new ArrayDeque<>();
+    private final Map<GuiMessage, StoredMessage> messageLookup = new IdentityHashMap<>();
+    private int capacity;
+
+    ChatMessageStore(int capacity) {
+        this.capacity = capacity;
+    }
+
+    void setCapacity(int capacity) {
+        this.capacity = capacity;
+        trim();
+    }
+
+    void add(GuiMessage message) {
+        if (messageLookup.containsKey(message)) return;
+
+        StoredMessage storedMessage = new StoredMessage(message);
+        messages.addLast(storedMessage);
+        messageLookup.put(message, storedMessage);
+        trim();
+    }
+
+    void clear() {
+        messages.clear();
+        messageLookup.clear();
+    }
+
+    /**
+     * Returns the lines of the message wrapped to the given width, in display order, wrapping the message only if it
+     * has not been wrapped to that width before. Messages that have already left the store are wrapped every time.
+     */
+    List<GuiMessage.Line> getLines(GuiMessage message, int width) {
+        StoredMessage storedMessage = messageLookup.get(message);
+        if (storedMessage == null) return wrapMessage(message, width);
+
+        if (storedMessage.lines == null || storedMessage.lineWidth != width) {
+            storedMessage.lines = wrapMessage(message, width);
+            storedMessage.lineWidth = width;
+        }
+
+        return storedMessage.lines;
+    }
+
+    /**
+     * Returns the width the chat component wraps its messages to, in the same way as the vanilla chat component.
+     */
+    static int getLineWidth(ChatComponent chatComponent) {
+        return Mth.floor(chatComponent.getWidth() / chatComponent.getScale());
+    }
+
+    private void trim() {
+        while (messages.size() > capacity) {
+            messageLookup.remove(messages.removeFirst().message);
+        }
+    }
+
+    private static List<GuiMessage.Line> wrapMessage(GuiMessage message, int width) {
+        GuiMessageTag.Icon icon = message.icon();
+        int lineWidth = icon == null ? width : width - (icon.width + 4 + 2);
+
+        List<FormattedCharSequence> wrapped =
+                ComponentRenderUtils.wrapComponents(message.content(), lineWidth, McUtils.mc().font);
+
+        GuiMessage.Line[] lines = new GuiMessage.Line[wrapped.size()];
+        for (int i = 0; i < wrapped.size(); i++) {
+            lines[i] = new GuiMessage.Line(message.addedTime(), wrapped.get(i), message.tag(), i == wrapped.size() - 1);
+
+            // Lines wrapped here bypass the vanilla chat component, so the line event is posted like it would be
+            WynntilsMod.postEvent(new AddGuiMessageLineEvent(message, lines[i]));
+        }
+
+        return List.of(lines);
+    }
+
+    private static final class StoredMessage {
+        private final GuiMessage message;
+        private List<GuiMessage.Line> lines;
+        private int lineWidth;
+
+        private StoredMessage(GuiMessage message) {
+            this.message = message;
+        }
+    }
+}
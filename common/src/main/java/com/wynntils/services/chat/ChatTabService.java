@@ -8,7 +8,6 @@ import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Handlers;
 import com.wynntils.core.components.Managers;
 import com.wynntils.core.components.Service;
-import com.wynntils.core.components.Services;
 import com.wynntils.core.persisted.config.Config;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.features.chat.ChatTabsFeature;
@@ -25,7 +24,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.regex.Pattern;
-import java.util.stream.Stream;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.GuiMessage;
 import net.minecraft.client.GuiMessageTag;
@@ -36,7 +34,11 @@ import net.minecraft.network.chat.MutableComponent;
 import net.neoforged.bus.api.SubscribeEvent;
 
 public final class ChatTabService extends Service {
+    // The number of messages and lines each tab keeps, the same as the vanilla chat component
+    private static final int TAB_HISTORY_SIZE = 100;
+
     private final Map<ChatTab, ChatTabData> tabDataMap = new HashMap<>();
+    private final ChatMessageStore messageStore = new ChatMessageStore(TAB_HISTORY_SIZE);
     // This is a copy of the config in ChatTabsFeature, stored there for persistence.
     private final List<ChatTab> chatTabs = new ArrayList<>();
 
@@ -81,7 +83,8 @@ public final class ChatTabService extends Service {
         configChatTabs.get().add(insertIndex, chatTab);
         configChatTabs.touched();
 
-        tabDataMap.put(chatTab, new ChatTabData(new ChatComponent(McUtils.mc()), false, chatTab.customRegexString()));
+        tabDataMap.put(chatTab, new ChatTabData(false, chatTab.customRegexString()));
+        updateStoreCapacity();
     }
 
     public void removeTab(ChatTab chatTab) {
@@ -92,15 +95,7 @@ public final class ChatTabService extends Service {
         configChatTabs.touched();
 
         tabDataMap.remove(chatTab);
-    }
-
-    public Optional<ChatComponent> getChatComponent(ChatTab tab) {
-        if (!tabDataMap.containsKey(tab)) {
-            WynntilsMod.warn("Chat Tab " + tab.name() + " not found in tabDataMap");
-            return Optional.empty();
-        }
-
-        return Optional.of(tabDataMap.get(tab).getChatComponent());
+        updateStoreCapacity();
     }
 
     public boolean hasUnreadMessages(ChatTab tab) {
@@ -127,10 +122,17 @@ public final class ChatTabService extends Service {
         ChatTabData focusedChatTabData = tabDataMap.get(focused);
         focusedChatTabData.setUnreadMessages(false);
 
-        // Copy the focused tabs messages into the wrapping chat component for display
-        McUtils.mc().gui.chat.allMessages = focusedChatTabData.getChatComponent().allMessages;
-        McUtils.mc().gui.chat.trimmedMessages = focusedChatTabData.getChatComponent().trimmedMessages;
-        McUtils.mc().gui.chat.refreshTrimmedMessages();
+        // The lines only need to be rebuilt if the chat width changed since they were wrapped
+        ChatComponent chatComponent = McUtils.mc().gui.chat;
+        int lineWidth = ChatMessageStore.getLineWidth(chatComponent);
+        if (focusedChatTabData.getLineWidth() != lineWidth) {
+            rebuildLines(focusedChatTabData, lineWidth);
+        }
+
+        // Let the wrapping chat component display the focused tab's lists
+        chatComponent.allMessages = focusedChatTabData.getMessages();
+        chatComponent.trimmedMessages = focusedChatTabData.getLines();
+        chatComponent.resetChatScroll();
     }
     // endregion
 
@@ -147,21 +149,16 @@ public final class ChatTabService extends Service {
         reset();
 
         // Create a new ChatTabData for each tab
-        getChatTabs()
-                .forEach(chatTab -> tabDataMap.put(
-                        chatTab, new ChatTabData(new ChatComponent(McUtils.mc()), false, chatTab.customRegexString())));
+        getChatTabs().forEach(chatTab -> tabDataMap.put(chatTab, new ChatTabData(false, chatTab.customRegexString())));
+        updateStoreCapacity();
 
         // Pass the historic messages from the vanilla chat component to all the new tabs
         McUtils.mc().gui.chat.allMessages.reversed().forEach(msg -> {
-            Component component = msg.content();
-            StyledText styledText = StyledText.fromComponent(component);
+            StyledText styledText = StyledText.fromComponent(msg.content());
             RecipientType recipientType = Handlers.Chat.getRecipientType(styledText);
-            List<ChatTab> recipientTabs = Services.ChatTab.getRecipientTabs(recipientType, styledText);
+            List<ChatTab> recipientTabs = getRecipientTabs(recipientType, styledText);
 
-            recipientTabs.forEach(tab -> {
-                Optional<ChatComponent> chatComponent = Services.ChatTab.getChatComponent(tab);
-                chatComponent.ifPresent(value -> value.addMessage(component));
-            });
+            addMessageToTabs(msg, recipientTabs);
         });
 
         vanillaChatComponent = McUtils.mc().gui.chat;
@@ -195,9 +192,11 @@ public final class ChatTabService extends Service {
 
     void clearMessages(boolean clearSentMsgHistory) {
         vanillaChatComponent.clearMessages(clearSentMsgHistory);
-        tabDataMap
-                .values()
-                .forEach(chatTabData -> chatTabData.getChatComponent().clearMessages(clearSentMsgHistory));
+        tabDataMap.values().forEach(chatTabData -> {
+            chatTabData.getMessages().clear();
+            chatTabData.getLines().clear();
+        });
+        messageStore.clear();
     }
 
     void addMessage(Component component, MessageSignature headerSignature, GuiMessageTag tag) {
@@ -208,11 +207,9 @@ public final class ChatTabService extends Service {
             RecipientType recipientType = Handlers.Chat.getRecipientType(styledText);
 
             List<ChatTab> recipientTabs = getRecipientTabs(recipientType, styledText);
-            recipientTabs.forEach(tab -> {
-                Optional<ChatComponent> chatComponent = getChatComponent(tab);
-                chatComponent.ifPresent(value -> value.addMessage(component));
-                markAsNewMessages(tab);
-            });
+            GuiMessage message = new GuiMessage(McUtils.mc().gui.getGuiTicks(), component, headerSignature, tag);
+            addMessageToTabs(message, recipientTabs);
+            recipientTabs.forEach(this::markAsNewMessages);
         } catch (Throwable t) {
             warnAboutBrokenMod(component, t);
         }
@@ -223,8 +220,9 @@ public final class ChatTabService extends Service {
                         "<< WARNING: A chat message was lost due to a crash in a mod other than Wynntils. See log for details. >>")
                 .withStyle(ChatFormatting.RED);
         vanillaChatComponent.addMessage(warning);
-        Optional<ChatComponent> chatComponent = Services.ChatTab.getChatComponent(focusedTab);
-        chatComponent.ifPresent(value -> value.addMessage(component));
+        addMessageToTabs(
+                new GuiMessage(McUtils.mc().gui.getGuiTicks(), component, null, GuiMessageTag.system()),
+                List.of(focusedTab));
 
         // We have seen many issues with badly written mods that inject into addMessage, and
         // throws exceptions. Instead of considering it a Wynntils crash, dump it to the log and
@@ -238,6 +236,63 @@ public final class ChatTabService extends Service {
 
     private void reset() {
         tabDataMap.clear();
+        messageStore.clear();
+    }
+
+    private void addMessageToTabs(GuiMessage message, List<ChatTab> recipientTabs) {
+        if (recipientTabs.isEmpty()) return;
+
+        // The message and its lines are stored once, the tabs only reference them
+        messageStore.add(message);
+        int lineWidth = ChatMessageStore.getLineWidth(McUtils.mc().gui.chat);
+
+        for (ChatTab tab : recipientTabs) {
+            ChatTabData chatTabData = tabDataMap.get(tab);
+            if (chatTabData == null) continue;
+
+            // The lists are copied on every change, so each is changed at most twice per message
+            List<GuiMessage> messages = chatTabData.getMessages();
+            messages.addFirst(message);
+            trimToHistorySize(messages);
+
+            if (chatTabData.getLineWidth() == lineWidth) {
+                List<GuiMessage.Line> lines = chatTabData.getLines();
+                lines.addAll(0, messageStore.getLines(message, lineWidth).reversed());
+                trimToHistorySize(lines);
+            } else if (tab == focusedTab) {
+                // The chat was resized while this tab was shown, the other tabs are rebuilt when they get focused
+                rebuildLines(chatTabData, lineWidth);
+            }
+        }
+    }
+
+    private static void trimToHistorySize(List<?> list) {
+        if (list.size() > TAB_HISTORY_SIZE) {
+            list.subList(TAB_HISTORY_SIZE, list.size()).clear();
+        }
+    }
+
+    // Rebuilds the lines in place, since the focused tab's list is shown by the wrapping chat component
+    private void rebuildLines(ChatTabData chatTabData, int lineWidth) {
+        List<GuiMessage.Line> lines = new ArrayList<>();
+
+        // Both lists are newest first, so the lines of each message are added last line first
+        for (GuiMessage message : chatTabData.getMessages()) {
+            List<GuiMessage.Line> messageLines = messageStore.getLines(message, lineWidth);
+            for (int i = messageLines.size() - 1; i >= 0 && lines.size() < TAB_HISTORY_SIZE; i--) {
+                lines.add(messageLines.get(i));
+            }
+            if (lines.size() >= TAB_HISTORY_SIZE) break;
+        }
+
+        List<GuiMessage.Line> tabLines = chatTabData.getLines();
+        tabLines.clear();
+        tabLines.addAll(lines);
+        chatTabData.setLineWidth(lineWidth);
+    }
+
+    private void updateStoreCapacity() {
+        messageStore.setCapacity(TAB_HISTORY_SIZE * Math.max(1, tabDataMap.size()));
     }
 
     private void markAsNewMessages(ChatTab tab) {
@@ -295,13 +350,19 @@ public final class ChatTabService extends Service {
             return;
         }
 
-        Stream.concat(
-                        Stream.of(this.vanillaChatComponent),
-                        tabDataMap.values().stream().map(ChatTabData::getChatComponent))
-                .forEach(chatComponent -> {
-                    allMessagesConsumer.accept(chatComponent.allMessages);
-                    chatComponent.refreshTrimmedMessages();
-                });
+        allMessagesConsumer.accept(vanillaChatComponent.allMessages);
+        vanillaChatComponent.refreshTrimmedMessages();
+
+        // The wrapped lines are cached, so the lines of the tabs can be rebuilt without wrapping the messages again
+        for (ChatTabData chatTabData : tabDataMap.values()) {
+            allMessagesConsumer.accept(chatTabData.getMessages());
+            chatTabData.setLineWidth(-1);
+        }
+
+        ChatTabData focusedChatTabData = tabDataMap.get(focusedTab);
+        if (focusedChatTabData != null) {
+            rebuildLines(focusedChatTabData, ChatMessageStore.getLineWidth(McUtils.mc().gui.chat));
+        }
     }
 
     /**
@@ -338,7 +399,8 @@ public final class ChatTabService extends Service {
                 chatTab,
                 oldMap.containsKey(chatTab)
                         ? oldMap.get(chatTab)
-                        : new ChatTabData(new ChatComponent(McUtils.mc()), false, chatTab.customRegexString())));
+                        : new ChatTabData(false, chatTab.customRegexString())));
+        updateStoreCapacity();
 
         if (focusedTab != null) {
             if (chatTabs.isEmpty()) {
@@ -1,28 +1,37 @@
 /*
- * Copyright © Wynntils 2025.
+ * Copyright © Wynntils 2025-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.chat.type;
 
 import com.wynntils.core.WynntilsMod;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
-import net.minecraft.client.gui.components.ChatComponent;
+import net.minecraft.client.GuiMessage;
 
+/**
+ * The state of a chat tab. The message and line lists are views over the messages shared by all tabs, newest first,
+ * like the lists of the vanilla chat component, so they can be shown by it directly. As the focused tab's lists are
+ * iterated by the chat component while new messages arrive, they are copy-on-write lists.
+ */
 public final class ChatTabData {
-    private final ChatComponent chatComponent;
+    private final List<GuiMessage> messages = new CopyOnWriteArrayList<>();
+    private final List<GuiMessage.Line> lines = new CopyOnWriteArrayList<>();
+    // The chat width the lines were wrapped at, or -1 if the lines need to be rebuilt
+    private int lineWidth = -1;
     private boolean hasUnreadMessages;
     private final Optional<Pattern> customRegex;
 
-    public ChatTabData(ChatComponent chatComponent, boolean hasUnreadMessages, Optional<Pattern> customRegex) {
-        this.chatComponent = chatComponent;
+    public ChatTabData(boolean hasUnreadMessages, Optional<Pattern> customRegex) {
         this.hasUnreadMessages = hasUnreadMessages;
         this.customRegex = customRegex;
     }
 
-    public ChatTabData(ChatComponent chatComponent, boolean hasUnreadMessages, String customRegexString) {
-        this(chatComponent, hasUnreadMessages, Optional.ofNullable(compileRegex(customRegexString)));
+    public ChatTabData(boolean hasUnreadMessages, String customRegexString) {
+        this(hasUnreadMessages, Optional.ofNullable(compileRegex(customRegexString)));
     }
 
     private static Pattern compileRegex(String customRegexString) {
@@ -37,8 +46,20 @@ public final class ChatTabData {
         return null;
     }
 
-    public ChatComponent getChatComponent() {
-        return chatComponent;
+    public List<GuiMessage> getMessages() {
+        return messages;
+    }
+
+    public List<GuiMessage.Line> getLines() {
+        return lines;
+    }
+
+    public int getLineWidth() {
+        return lineWidth;
+    }
+
+    public void setLineWidth(int lineWidth) {
+        this.lineWidth = lineWidth;
     }
 
     public boolean hasUnreadMessages() {
@@ -55,8 +76,8 @@ public final class ChatTabData {
 
     @Override
     public String toString() {
-        return "ChatTabData[" + "chatComponent="
-                + chatComponent + ", " + "hasUnreadMessages="
+        return "ChatTabData[" + "messages="
+                + messages.size() + ", " + "hasUnreadMessages="
                 + hasUnreadMessages + ", " + "customRegex="
                 + customRegex + ']';
     }
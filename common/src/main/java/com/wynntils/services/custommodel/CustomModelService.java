@@ -10,15 +10,16 @@ import com.wynntils.core.components.Service;
 import com.wynntils.core.net.DownloadRegistry;
 import com.wynntils.core.net.UrlId;
 import com.wynntils.utils.type.Pair;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
 
 public class CustomModelService extends Service {
-    private Map<String, Float> floatData = new ConcurrentHashMap<>();
-    private Map<String, Pair<Float, Float>> rangeData = new ConcurrentHashMap<>();
-    private Map<Float, String> modelToGroup = new ConcurrentHashMap<>();
+    // Both downloads are published together as one immutable snapshot, so readers never see a half updated table
+    private volatile ModelDataTables tables = ModelDataTables.EMPTY;
 
     public CustomModelService() {
         super(List.of());
@@ -34,22 +35,40 @@ public class CustomModelService extends Service {
     public Optional<Float> getFloat(String key) {
         if (key == null) return Optional.empty();
 
-        return Optional.ofNullable(floatData.get(key));
+        return Optional.ofNullable(tables.floatData().get(key));
     }
 
     public Optional<Pair<Float, Float>> getRange(String key) {
         if (key == null) return Optional.empty();
 
-        return Optional.ofNullable(rangeData.get(key));
+        return Optional.ofNullable(tables.rangeData().get(key));
+    }
+
+    /**
+     * Returns whether the model data is within the (inclusive) range of the key, without boxing the value.
+     */
+    public boolean isInRange(String key, float modelData) {
+        if (key == null) return false;
+
+        Pair<Float, Float> range = tables.rangeData().get(key);
+        return range != null && modelData >= range.a() && modelData <= range.b();
     }
 
     public Optional<String> getGroup(float modelData) {
-        return Optional.ofNullable(modelToGroup.get(modelData));
+        return Optional.ofNullable(tables.groupTable().getGroup(modelData));
+    }
+
+    /**
+     * Returns whether the model data belongs to the given item display group, without boxing the value.
+     */
+    public boolean isInGroup(float modelData, String group) {
+        String modelGroup = tables.groupTable().getGroup(modelData);
+        return modelGroup != null && modelGroup.equals(group);
     }
 
     private void handleModelData(JsonObject jsonObject) {
-        Map<String, Float> newFloatData = new ConcurrentHashMap<>();
-        Map<String, Pair<Float, Float>> newRangeData = new ConcurrentHashMap<>();
+        Map<String, Float> newFloatData = new HashMap<>();
+        Map<String, Pair<Float, Float>> newRangeData = new HashMap<>();
 
         if (jsonObject.has("floats")) {
             jsonObject.getAsJsonObject("floats").asMap().forEach((key, element) -> {
@@ -73,12 +92,12 @@ public class CustomModelService extends Service {
             });
         }
 
-        floatData = newFloatData;
-        rangeData = newRangeData;
+        publish(current ->
+                new ModelDataTables(Map.copyOf(newFloatData), Map.copyOf(newRangeData), current.groupTable()));
     }
 
     private void handleItemDisplayModelData(JsonObject jsonObject) {
-        Map<Float, String> newModelToGroup = new ConcurrentHashMap<>();
+        Map<Float, String> newModelToGroup = new HashMap<>();
 
         if (jsonObject.has("models")) {
             JsonObject modelsObject = jsonObject.getAsJsonObject("models");
@@ -101,6 +120,51 @@ public class CustomModelService extends Service {
             });
         }
 
-        modelToGroup = newModelToGroup;
+        ModelGroupTable groupTable = ModelGroupTable.compile(newModelToGroup);
+        publish(current -> new ModelDataTables(current.floatData(), current.rangeData(), groupTable));
+    }
+
+    private synchronized void publish(UnaryOperator<ModelDataTables> update) {
+        tables = update.apply(tables);
+    }
+
+    private record ModelDataTables(
+            Map<String, Float> floatData, Map<String, Pair<Float, Float>> rangeData, ModelGroupTable groupTable) {
+        private static final ModelDataTables EMPTY = new ModelDataTables(Map.of(), Map.of(), ModelGroupTable.EMPTY);
+    }
+
+    /**
+     * The item display groups of all model data values, as a sorted array of the values and the index of their group,
+     * so looking up a group is a binary search over primitives.
+     */
+    private record ModelGroupTable(float[] modelData, int[] groupIndices, String[] groups) {
+        private static final ModelGroupTable EMPTY = new ModelGroupTable(new float[0], new int[0], new String[0]);
+
+        private static ModelGroupTable compile(Map<Float, String> modelToGroup) {
+            String[] groups = modelToGroup.values().stream().distinct().toArray(String[]::new);
+            Map<String, Integer> groupIndexLookup = new HashMap<>();
+            for (int i = 0; i < groups.length; i++) {
+                groupIndexLookup.put(groups[i], i);
+            }
+
+            float[] modelData = new float[modelToGroup.size()];
+            int i = 0;
+            for (Float value : modelToGroup.keySet()) {
+                modelData[i++] = value;
+            }
+            Arrays.sort(modelData);
+
+            int[] groupIndices = new int[modelData.length];
+            for (int j = 0; j < modelData.length; j++) {
+                groupIndices[j] = groupIndexLookup.get(modelToGroup.get(modelData[j]));
+            }
+
+            return new ModelGroupTable(modelData, groupIndices, groups);
+        }
+
+        private String getGroup(float value) {
+            int index = Arrays.binarySearch(modelData, value);
+            return index >= 0 ? groups[groupIndices[index]] : null;
+        }
     }
 }
@@ -65,7 +65,14 @@ import net.minecraft.world.effect.MobEffects;
 import net.neoforged.bus.api.SubscribeEvent;
 
 public final class HadesService extends Service {
-    private static final int TICKS_PER_UPDATE = 2;
+    // Status updates are sent at an adaptive rate, based on how fast the player is moving
+    private static final int MIN_TICKS_PER_UPDATE = 2;
+    private static final int SLOW_TICKS_PER_UPDATE = 6;
+    // Changes smaller than the quantum are held back until the next keyframe
+    private static final int KEYFRAME_TICKS = 100;
+    private static final float POSITION_QUANTUM = 0.25f;
+    // Blocks per tick, walking is ~0.22, sprinting is ~0.28
+    private static final float FAST_MOVEMENT_SPEED = 0.15f;
     private static final int MS_PER_PING = 1000;
 
     private static final EncodingSettings HADES_ENCODING_SETTINGS = new EncodingSettings(false, false);
@@ -74,8 +81,9 @@ public final class HadesService extends Service {
 
     private CompletableFuture<Void> connectionFuture;
     private HadesConnection hadesConnection;
-    private int tickCountUntilUpdate = 0;
+    private int ticksSinceLastUpdate = 0;
     private PlayerStatus lastSentStatus;
+    private PlayerStatus lastTickStatus;
     private ScheduledExecutorService pingScheduler;
 
     @Persisted
@@ -128,8 +136,9 @@ public final class HadesService extends Service {
                     .setHandlerFactory(a -> new HadesClientHandler(a, userRegistry))
                     .buildClient();
 
-            tickCountUntilUpdate = 0;
+            ticksSinceLastUpdate = 0;
             lastSentStatus = null;
+            lastTickStatus = null;
         } catch (IOException e) {
             WynntilsMod.error("Could not connect to Hades.", e);
         }
@@ -310,39 +319,53 @@ public final class HadesService extends Service {
                         .shareWithFriends
                         .get()) return;
 
-        tickCountUntilUpdate--;
+        ticksSinceLastUpdate++;
 
-        if (tickCountUntilUpdate <= 0) {
-            LocalPlayer player = McUtils.player();
+        LocalPlayer player = McUtils.player();
 
-            float pX = (float) player.getX();
-            float pY = (float) player.getY();
-            float pZ = (float) player.getZ();
+        PlayerStatus newStatus = new PlayerStatus(
+                (float) player.getX(),
+                (float) player.getY(),
+                (float) player.getZ(),
+                Models.CharacterStats.getHealth().orElse(CappedValue.EMPTY),
+                Models.CharacterStats.getMana().orElse(CappedValue.EMPTY));
 
-            PlayerStatus newStatus = new PlayerStatus(
-                    pX,
-                    pY,
-                    pZ,
-                    Models.CharacterStats.getHealth().orElse(CappedValue.EMPTY),
-                    Models.CharacterStats.getMana().orElse(CappedValue.EMPTY));
+        float speed = lastTickStatus == null ? 0f : newStatus.distanceTo(lastTickStatus);
+        lastTickStatus = newStatus;
 
-            if (newStatus.equals(lastSentStatus)) {
-                tickCountUntilUpdate = 1;
-                return;
-            }
+        if (!shouldSendStatus(newStatus, speed)) return;
 
-            tickCountUntilUpdate = TICKS_PER_UPDATE;
-            lastSentStatus = newStatus;
-
-            hadesConnection.sendPacketAndFlush(new HCPacketUpdateStatus(
-                    lastSentStatus.x(),
-                    lastSentStatus.y(),
-                    lastSentStatus.z(),
-                    lastSentStatus.health().current(),
-                    lastSentStatus.health().max(),
-                    lastSentStatus.mana().current(),
-                    lastSentStatus.mana().max()));
-        }
+        ticksSinceLastUpdate = 0;
+        lastSentStatus = newStatus;
+
+        hadesConnection.sendPacketAndFlush(new HCPacketUpdateStatus(
+                lastSentStatus.x(),
+                lastSentStatus.y(),
+                lastSentStatus.z(),
+                lastSentStatus.health().current(),
+                lastSentStatus.health().max(),
+                lastSentStatus.mana().current(),
+                lastSentStatus.mana().max()));
+    }
+
+    private boolean shouldSendStatus(PlayerStatus newStatus, float speed) {
+        if (lastSentStatus == null) return true;
+        if (ticksSinceLastUpdate < MIN_TICKS_PER_UPDATE) return false;
+
+        // Health and mana changes are always sent as soon as possible
+        if (!newStatus.health().equals(lastSentStatus.health())
+                || !newStatus.mana().equals(lastSentStatus.mana())) return true;
+
+        float distance = newStatus.distanceTo(lastSentStatus);
+        if (distance == 0f) return false;
+
+        // Periodically flush any drift that was too small to be sent on its own
+        if (ticksSinceLastUpdate >= KEYFRAME_TICKS) return true;
+        if (distance < POSITION_QUANTUM) return false;
+
+        // Receivers interpolate between updates, so slow movement can be sent less often
+        int ticksPerUpdate = speed >= FAST_MOVEMENT_SPEED ? MIN_TICKS_PER_UPDATE : SLOW_TICKS_PER_UPDATE;
+        return ticksSinceLastUpdate >= ticksPerUpdate;
     }
 
     public void tryResendWorldData() {
@@ -27,12 +27,22 @@ import java.util.UUID;
 import java.util.regex.Matcher;
 
 public class HadesUser {
+    // Updates are interpolated over the time it took them to arrive, up to this limit
+    private static final long MAX_INTERPOLATION_MS = 500;
+    // After reaching the last known position, keep moving along the last velocity for a short while
+    private static final long MAX_EXTRAPOLATION_MS = 250;
+    // If no new update arrives by then, move back to the last known position over this time, so we do not drift off
+    private static final long SETTLE_MS = 250;
+    // Anything further than this is treated as a teleport, and is not interpolated
+    private static final float MAX_INTERPOLATION_DISTANCE = 32f;
+
     private final UUID uuid;
     private final String name;
 
     private PlayerRelation relation;
     private float x, y, z;
     private PoiLocation poiLocation;
+    private volatile MotionState motionState;
     private CappedValue health;
     private CappedValue mana;
     // Decoded items for use in features
@@ -43,6 +53,8 @@ public class HadesUser {
     private Map<InventoryArmor, String> armorCache = new TreeMap<>();
     private Map<InventoryAccessory, String> accessoriesCache = new TreeMap<>();
     private String heldItemCache = "";
+    // Incremented whenever any decoded item changes, so features can cache what they derive from the gear
+    private int gearVersion = 0;
 
     public HadesUser(HSPacketUpdateMutual packet) {
         uuid = packet.getUser();
@@ -61,6 +73,7 @@ public class HadesUser {
         this.z = 0;
 
         this.poiLocation = new PoiLocation(0, 0, 0);
+        this.motionState = MotionState.stationary(0, 0, 0, 0);
 
         this.relation = PlayerRelation.FRIEND;
 
@@ -88,8 +101,28 @@ public class HadesUser {
         return z;
     }
 
+    /**
+     * Returns the smoothed location of the user, interpolated between the last received updates.
+     * This is meant to be called every frame, and only allocates when the block position changes.
+     */
     public PoiLocation getMapLocation() {
-        return poiLocation;
+        MotionState state = motionState;
+        long elapsed = System.currentTimeMillis() - state.updateTime();
+
+        int renderX = (int) state.getX(elapsed);
+        int renderY = (int) state.getY(elapsed);
+        int renderZ = (int) state.getZ(elapsed);
+
+        PoiLocation location = poiLocation;
+        if (location.getX() == renderX
+                && location.getZ() == renderZ
+                && location.getY().orElse(renderY) == renderY) {
+            return location;
+        }
+
+        location = new PoiLocation(renderX, renderY, renderZ);
+        poiLocation = location;
+        return location;
     }
 
     public CappedValue getHealth() {
@@ -112,11 +145,12 @@ public class HadesUser {
         return heldItem;
     }
 
+    public int getGearVersion() {
+        return gearVersion;
+    }
+
     public void updateFromPacket(HSPacketUpdateMutual packet) {
-        this.x = packet.getX();
-        this.y = packet.getY();
-        this.z = packet.getZ();
-        this.poiLocation = new PoiLocation((int) x, (int) y, (int) z);
+        updatePosition(packet.getX(), packet.getY(), packet.getZ());
 
         this.health = new CappedValue(packet.getHealth(), packet.getMaxHealth());
         this.mana = new CappedValue(packet.getMana(), packet.getMaxMana());
@@ -133,6 +167,9 @@ public class HadesUser {
             handleAccessoryData(InventoryAccessory.NECKLACE, GearType.NECKLACE, packet.getNecklace());
 
             if (packet.getHeldItem().isEmpty()) {
+                if (this.heldItem != null) {
+                    gearVersion++;
+                }
                 this.heldItem = null;
                 this.heldItemCache = "";
             } else if (!this.heldItemCache.equals(packet.getHeldItem())) {
@@ -147,6 +184,7 @@ public class HadesUser {
                             && gearItemType.getGearType().isWeapon()) {
                         this.heldItem = item;
                         this.heldItemCache = packet.getHeldItem();
+                        gearVersion++;
                     }
                 }
             }
@@ -167,9 +205,51 @@ public class HadesUser {
         return relation;
     }
 
+    private void updatePosition(float newX, float newY, float newZ) {
+        long now = System.currentTimeMillis();
+        MotionState previousState = motionState;
+
+        if (previousState == null) {
+            this.poiLocation = new PoiLocation((int) newX, (int) newY, (int) newZ);
+            this.motionState = MotionState.stationary(newX, newY, newZ, now);
+        } else {
+            long elapsed = now - previousState.updateTime();
+
+            float dX = newX - x;
+            float dY = newY - y;
+            float dZ = newZ - z;
+
+            if (elapsed <= 0
+                    || elapsed > MAX_INTERPOLATION_MS
+                    || dX * dX + dY * dY + dZ * dZ > MAX_INTERPOLATION_DISTANCE * MAX_INTERPOLATION_DISTANCE) {
+                this.motionState = MotionState.stationary(newX, newY, newZ, now);
+            } else {
+                // Start from where we are currently rendering, so there is no visible jump
+                this.motionState = new MotionState(
+                        previousState.getX(elapsed),
+                        previousState.getY(elapsed),
+                        previousState.getZ(elapsed),
+                        newX,
+                        newY,
+                        newZ,
+                        dX / elapsed,
+                        dY / elapsed,
+                        dZ / elapsed,
+                        now,
+                        elapsed);
+            }
+        }
+
+        this.x = newX;
+        this.y = newY;
+        this.z = newZ;
+    }
+
     private void handleArmorData(InventoryArmor armor, GearType expectedGearType, String armorData) {
         if (armorData.isEmpty()) {
-            this.armor.remove(armor);
+            if (this.armor.remove(armor) != null) {
+                gearVersion++;
+            }
             this.armorCache.remove(armor);
         } else if (!this.armorCache.getOrDefault(armor, "").equals(armorData)) {
             ErrorOr<WynnItem> errorOrDecodedItem = decodeItem(armorData);
@@ -183,6 +263,7 @@ public class HadesUser {
                         && gearItemType.getGearType() == expectedGearType) {
                     this.armor.put(armor, errorOrDecodedItem.getValue());
                     this.armorCache.put(armor, armorData);
+                    gearVersion++;
                 }
             }
         }
@@ -190,7 +271,9 @@ public class HadesUser {
 
     private void handleAccessoryData(InventoryAccessory accessory, GearType expectedGearType, String accessoryData) {
         if (accessoryData.isEmpty()) {
-            this.accessories.remove(accessory);
+            if (this.accessories.remove(accessory) != null) {
+                gearVersion++;
+            }
             this.accessoriesCache.remove(accessory);
         } else if (!this.accessoriesCache.getOrDefault(accessory, "").equals(accessoryData)) {
             ErrorOr<WynnItem> errorOrDecodedItem = decodeItem(accessoryData);
@@ -204,6 +287,7 @@ public class HadesUser {
                         && gearItemType.getGearType() == expectedGearType) {
                     this.accessories.put(accessory, errorOrDecodedItem.getValue());
                     this.accessoriesCache.put(accessory, accessoryData);
+                    gearVersion++;
                 }
             }
         }
@@ -218,4 +302,55 @@ public class HadesUser {
         EncodedByteBuffer encodedByteBuffer = EncodedByteBuffer.fromUtf16String(encodedMatcher.group("data"));
         return Models.ItemEncoding.decodeItem(encodedByteBuffer, encodedMatcher.group("name"));
     }
+
+    /**
+     * Dead-reckoning state for a user. The position is interpolated from the start position to the
+     * target over the interpolation duration, then extrapolated along the velocity (in blocks per ms). If no update
+     * arrives while extrapolating, the position settles back on the target, the last position we actually know.
+     */
+    private record MotionState(
+            float startX,
+            float startY,
+            float startZ,
+            float targetX,
+            float targetY,
+            float targetZ,
+            float velocityX,
+            float velocityY,
+            float velocityZ,
+            long updateTime,
+            long interpolationDuration) {
+        private static MotionState stationary(float x, float y, float z, long updateTime) {
+            return new MotionState(x, y, z, x, y, z, 0, 0, 0, updateTime, 0);
+        }
+
+        private float getX(long elapsed) {
+            return position(startX, targetX, velocityX, elapsed);
+        }
+
+        private float getY(long elapsed) {
+            return position(startY, targetY, velocityY, elapsed);
+        }
+
+        private float getZ(long elapsed) {
+            return position(startZ, targetZ, velocityZ, elapsed);
+        }
+
+        private float position(float start, float target, float velocity, long elapsed) {
+            if (elapsed < interpolationDuration) {
+                return start + (target - start) * ((float) elapsed / interpolationDuration);
+            }
+
+            long extrapolated = elapsed - interpolationDuration;
+            if (extrapolated <= MAX_EXTRAPOLATION_MS) {
+                return target + velocity * extrapolated;
+            }
+
+            long settled = extrapolated - MAX_EXTRAPOLATION_MS;
+            if (settled >= SETTLE_MS) return target;
+
+            float overshoot = velocity * MAX_EXTRAPOLATION_MS;
+            return target + overshoot * (1f - (float) settled / SETTLE_MS);
+        }
+    }
 }
@@ -6,4 +6,11 @@ package com.wynntils.services.hades.type;
 
 import com.wynntils.utils.type.CappedValue;
 
-public record PlayerStatus(float x, float y, float z, CappedValue health, CappedValue mana) {}
+public record PlayerStatus(float x, float y, float z, CappedValue health, CappedValue mana) {
+    public float distanceTo(PlayerStatus other) {
+        float dX = x - other.x;
+        float dY = y - other.y;
+        float dZ = z - other.z;
+        return (float) Math.sqrt(dX * dX + dY * dY + dZ * dZ);
+    }
+}
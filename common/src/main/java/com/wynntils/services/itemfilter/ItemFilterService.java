@@ -91,7 +91,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Stream;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.resources.language.I18n;
 import net.minecraft.world.item.ItemStack;
@@ -294,14 +293,22 @@ public class ItemFilterService extends Service {
 
         Optional<WynnItem> wynnItemOpt = Models.Item.getWynnItem(itemStack);
         if (wynnItemOpt.isEmpty()) return false;
-        String itemName = Models.Item.asWynnItemProperty(itemStack, NamedItemProperty.class)
-                .map(NamedItemProperty::getName)
-                .orElseGet(
-                        () -> StyledText.fromComponent(itemStack.getHoverName()).getStringWithoutFormatting());
+        String itemName = getItemName(itemStack);
 
         return filterMatches(searchQuery, wynnItemOpt.get()) && itemNameMatches(searchQuery, itemName);
     }
 
+    /**
+     * Creates a search index over a fixed list of items. The index caches the stat values of the items, so it
+     * should only be used for lists that do not change, like guide items.
+     *
+     * @param items the items to index
+     * @return a search index over the given items
+     */
+    public <T extends ItemStack> ItemSearchIndex<T> createSearchIndex(List<T> items) {
+        return new ItemSearchIndex<>(items);
+    }
+
     /**
      * Filters and sorts the given list of items according to the given search query.
      *
@@ -310,51 +317,33 @@ public class ItemFilterService extends Service {
      * @return the filtered and sorted list of items
      */
     public <T extends ItemStack> List<T> filterAndSort(ItemSearchQuery searchQuery, List<T> originalList) {
-        Stream<T> filteredList = originalList.stream().filter(itemStack -> matches(searchQuery, itemStack));
-
-        // Sorted stat providers must be filtered as "any" filters
-        filteredList = filteredList.filter(itemStack -> {
-            Optional<WynnItem> wynnItemOpt = Models.Item.getWynnItem(itemStack);
-            if (wynnItemOpt.isEmpty()) return false;
-
-            WynnItem wynnItem = wynnItemOpt.get();
+        List<SortInfo> sorts = searchQuery.sorts();
 
-            for (SortInfo sortInfo : searchQuery.sorts()) {
-                ItemStatProvider<?> statProvider = sortInfo.provider();
-                if (statProvider.getValue(wynnItem).isEmpty()) {
-                    return false;
-                }
-            }
-
-            return true;
-        });
-
-        filteredList = filteredList.sorted((itemStack1, itemStack2) -> {
-            Optional<WynnItem> wynnItem1Opt = Models.Item.getWynnItem(itemStack1);
-            Optional<WynnItem> wynnItem2Opt = Models.Item.getWynnItem(itemStack2);
+        if (sorts.isEmpty()) {
+            return originalList.stream()
+                    .filter(itemStack -> matches(searchQuery, itemStack))
+                    .filter(itemStack -> Models.Item.getWynnItem(itemStack).isPresent())
+                    .toList();
+        }
 
-            if (wynnItem1Opt.isEmpty() || wynnItem2Opt.isEmpty()) {
-                return 0;
-            }
+        // Evaluate the sort keys of each item exactly once, instead of on every comparison
+        List<SortableItem<T>> sortableItems = new ArrayList<>();
+        for (T itemStack : originalList) {
+            if (!matches(searchQuery, itemStack)) continue;
 
-            WynnItem wynnItem1 = wynnItem1Opt.get();
-            WynnItem wynnItem2 = wynnItem2Opt.get();
+            Optional<WynnItem> wynnItemOpt = Models.Item.getWynnItem(itemStack);
+            if (wynnItemOpt.isEmpty()) continue;
 
-            for (SortInfo sortInfo : searchQuery.sorts()) {
-                int compare = sortInfo.provider().compare(wynnItem1, wynnItem2);
+            // Sorted stat providers must be filtered as "any" filters
+            Object[] sortKeys = getSortKeys(sorts, wynnItemOpt.get());
+            if (sortKeys == null) continue;
 
-                if (compare != 0) {
-                    return switch (sortInfo.direction()) {
-                        case ASCENDING -> -compare;
-                        case DESCENDING -> compare;
-                    };
-                }
-            }
+            sortableItems.add(new SortableItem<>(itemStack, sortKeys));
+        }
 
-            return 0;
-        });
+        sortableItems.sort((item1, item2) -> compareSortKeys(sorts, item1.sortKeys(), item2.sortKeys()));
 
-        return filteredList.toList();
+        return sortableItems.stream().map(SortableItem::itemStack).toList();
     }
 
     /**
@@ -621,4 +610,48 @@ public class ItemFilterService extends Service {
     private <T> void registerStatFilter(Class<T> clazz, StatFilterFactory<? extends StatFilter<T>> statFilterFactory) {
         statFilters.add(Pair.of(clazz, statFilterFactory));
     }
+
+    String getItemName(ItemStack itemStack) {
+        return Models.Item.asWynnItemProperty(itemStack, NamedItemProperty.class)
+                .map(NamedItemProperty::getName)
+                .orElseGet(
+                        () -> StyledText.fromComponent(itemStack.getHoverName()).getStringWithoutFormatting());
+    }
+
+    private Object[] getSortKeys(List<SortInfo> sorts, WynnItem wynnItem) {
+        Object[] sortKeys = new Object[sorts.size()];
+
+        for (int i = 0; i < sorts.size(); i++) {
+            Optional<?> value = sorts.get(i).provider().getValue(wynnItem);
+            if (value.isEmpty()) return null;
+
+            sortKeys[i] = value.get();
+        }
+
+        return sortKeys;
+    }
+
+    static int compareSortKeys(List<SortInfo> sorts, Object[] sortKeys1, Object[] sortKeys2) {
+        for (int i = 0; i < sorts.size(); i++) {
+            SortInfo sortInfo = sorts.get(i);
+            int compare = compareSortKey(sortInfo.provider(), sortKeys1[i], sortKeys2[i]);
+
+            if (compare != 0) {
+                return switch (sortInfo.direction()) {
+                    case ASCENDING -> -compare;
+                    case DESCENDING -> compare;
+                };
+            }
+        }
+
+        return 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V extends Comparable<V>> int compareSortKey(
+            ItemStatProvider<V> provider, Object key1, Object key2) {
+        return provider.compareValues((V) key1, (V) key2);
+    }
+
+    private record SortableItem<T>(T itemStack, Object[] sortKeys) {}
 }
@@ -0,0 +1,211 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.itemfilter;
+
+import com.wynntils.core.components.Models;
+import com.wynntils.core.components.Services;
+import com.wynntils.models.items.WynnItem;
+import com.wynntils.services.itemfilter.type.ItemSearchQuery;
+import com.wynntils.services.itemfilter.type.ItemStatProvider;
+import com.wynntils.services.itemfilter.type.SortInfo;
+import com.wynntils.services.itemfilter.type.StatFilter;
+import com.wynntils.services.itemfilter.type.StatProviderAndFilterPair;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * A search index over a fixed list of items, giving the same results as
+ * {@link ItemFilterService#filterAndSort(ItemSearchQuery, List)}.
+ * <p>
+ * Item names are indexed by trigrams when the index is created. Stat values are stored column by column, and are
+ * only computed the first time a stat is used in a query. Each column groups the items by their distinct values, so a
+ * filter is evaluated once per distinct value and the matching items are collected as bitsets, which are then
+ * intersected. Stats that are {@link ItemStatProvider#isVolatile() volatile} are evaluated for every query.
+ */
+public final class ItemSearchIndex<T extends ItemStack> {
+    private static final int NGRAM_LENGTH = 3;
+    private static final int MAX_CACHED_FILTERS_PER_STAT = 128;
+
+    private final List<T> source;
+    private final List<T> items;
+    private final List<WynnItem> wynnItems;
+    private final List<String> names;
+    private final BitSet validItems;
+    private final Map<String, BitSet> nameNgrams = new HashMap<>();
+    private final Map<ItemStatProvider<?>, StatColumn> columns = new HashMap<>();
+
+    ItemSearchIndex(List<T> items) {
+        this.source = items;
+        this.items = List.copyOf(items);
+        this.wynnItems = new ArrayList<>(this.items.size());
+        this.names = new ArrayList<>(this.items.size());
+        this.validItems = new BitSet(this.items.size());
+
+        for (int i = 0; i < this.items.size(); i++) {
+            T itemStack = this.items.get(i);
+            Optional<WynnItem> wynnItemOpt =
+                    itemStack.isEmpty() ? Optional.empty() : Models.Item.getWynnItem(itemStack);
+            String name = wynnItemOpt.isPresent()
+                    ? Services.ItemFilter.getItemName(itemStack).toLowerCase(Locale.ROOT)
+                    : "";
+
+            wynnItems.add(wynnItemOpt.orElse(null));
+            names.add(name);
+
+            if (wynnItemOpt.isEmpty()) continue;
+
+            validItems.set(i);
+            for (int start = 0; start + NGRAM_LENGTH <= name.length(); start++) {
+                nameNgrams
+                        .computeIfAbsent(name.substring(start, start + NGRAM_LENGTH), k -> new BitSet())
+                        .set(i);
+            }
+        }
+    }
+
+    /**
+     * Returns whether this index was created from the given list instance.
+     */
+    public boolean isIndexOf(List<T> items) {
+        return source == items;
+    }
+
+    public List<T> filterAndSort(ItemSearchQuery searchQuery) {
+        BitSet matching = (BitSet) validItems.clone();
+
+        if (!searchQuery.isEmpty()) {
+            for (Map.Entry<ItemStatProvider<?>, List<StatProviderAndFilterPair>> entry :
+                    searchQuery.filters().entries().entrySet()) {
+                // An item matches if any filter of the stat matches it
+                BitSet statMatches = new BitSet(items.size());
+                for (StatProviderAndFilterPair filter : entry.getValue()) {
+                    statMatches.or(getFilterMatches(entry.getKey(), filter.statFilter()));
+                }
+
+                matching.and(statMatches);
+                if (matching.isEmpty()) return List.of();
+            }
+
+            if (!searchQuery.plainTextTokens().isEmpty()) {
+                matching.and(getNameMatches(
+                        String.join(" ", searchQuery.plainTextTokens()).toLowerCase(Locale.ROOT)));
+            }
+        }
+
+        List<SortInfo> sorts = searchQuery.sorts();
+        if (sorts.isEmpty()) {
+            return matching.stream().mapToObj(items::get).toList();
+        }
+
+        // Sorted stat providers must be filtered as "any" filters
+        List<Object[]> sortValues = new ArrayList<>(sorts.size());
+        for (SortInfo sortInfo : sorts) {
+            StatColumn column = getColumn(sortInfo.provider());
+            matching.and(column.present);
+            sortValues.add(column.values);
+        }
+
+        List<IndexedItem> sortableItems = new ArrayList<>(matching.cardinality());
+        matching.stream().forEach(index -> {
+            Object[] sortKeys = new Object[sorts.size()];
+            for (int i = 0; i < sorts.size(); i++) {
+                sortKeys[i] = sortValues.get(i)[index];
+            }
+            sortableItems.add(new IndexedItem(index, sortKeys));
+        });
+
+        sortableItems.sort((item1, item2) ->
+                ItemFilterService.compareSortKeys(sorts, item1.sortKeys(), item2.sortKeys()));
+
+        return sortableItems.stream().map(item -> items.get(item.index())).toList();
+    }
+
+    private BitSet getFilterMatches(ItemStatProvider<?> provider, StatFilter<?> statFilter) {
+        StatColumn column = getColumn(provider);
+
+        BitSet cachedMatches = column.filterMatches.get(statFilter);
+        if (cachedMatches != null) return cachedMatches;
+
+        BitSet matches = new BitSet(items.size());
+        for (Map.Entry<Object, BitSet> entry : column.postings.entrySet()) {
+            if (matchesValue(statFilter, entry.getKey())) {
+                matches.or(entry.getValue());
+            }
+        }
+
+        if (!provider.isVolatile()) {
+            if (column.filterMatches.size() >= MAX_CACHED_FILTERS_PER_STAT) {
+                column.filterMatches.clear();
+            }
+            column.filterMatches.put(statFilter, matches);
+        }
+
+        return matches;
+    }
+
+    private BitSet getNameMatches(String text) {
+        BitSet candidates = (BitSet) validItems.clone();
+
+        // Every trigram of the text must appear in the name, which narrows down the names to check
+        for (int start = 0; start + NGRAM_LENGTH <= text.length(); start++) {
+            BitSet ngramItems = nameNgrams.get(text.substring(start, start + NGRAM_LENGTH));
+            if (ngramItems == null) return new BitSet();
+
+            candidates.and(ngramItems);
+        }
+
+        BitSet matches = new BitSet(items.size());
+        candidates.stream().filter(index -> names.get(index).contains(text)).forEach(matches::set);
+        return matches;
+    }
+
+    private StatColumn getColumn(ItemStatProvider<?> provider) {
+        if (provider.isVolatile()) return buildColumn(provider);
+
+        return columns.computeIfAbsent(provider, this::buildColumn);
+    }
+
+    private StatColumn buildColumn(ItemStatProvider<?> provider) {
+        StatColumn column = new StatColumn(items.size());
+
+        validItems.stream().forEach(index -> {
+            Optional<?> value = provider.getValue(wynnItems.get(index));
+            if (value.isEmpty()) return;
+
+            column.values[index] = value.get();
+            column.present.set(index);
+            column.postings.computeIfAbsent(value.get(), k -> new BitSet()).set(index);
+        });
+
+        return column;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> boolean matchesValue(StatFilter<V> statFilter, Object value) {
+        return statFilter.matches((V) value);
+    }
+
+    private static final class StatColumn {
+        private final Object[] values;
+        private final BitSet present;
+        private final Map<Object, BitSet> postings = new LinkedHashMap<>();
+        // Keyed by the filters themselves, as their strings are for display and do not identify them
+        private final Map<StatFilter<?>, BitSet> filterMatches = new HashMap<>();
+
+        private StatColumn(int size) {
+            this.values = new Object[size];
+            this.present = new BitSet(size);
+        }
+    }
+
+    private record IndexedItem(int index, Object[] sortKeys) {}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.itemfilter.filters;
@@ -62,6 +62,16 @@ public class AnyStatFilters {
         public final String asString() {
             return ANY_FILTER_INPUT;
         }
+
+        @Override
+        public final boolean equals(Object other) {
+            return other != null && getClass() == other.getClass();
+        }
+
+        @Override
+        public final int hashCode() {
+            return getClass().hashCode();
+        }
     }
 
     private abstract static class AbstractAnyStatFilterFactory<T> extends StatFilterFactory<T> {
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024-2025.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.itemfilter.filters;
@@ -25,6 +25,19 @@ public class BooleanStatFilter extends StatFilter<Boolean> {
         return Boolean.toString(value);
     }
 
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (other == null || getClass() != other.getClass()) return false;
+
+        return value == ((BooleanStatFilter) other).value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Boolean.hashCode(value);
+    }
+
     public static class BooleanStatFilterFactory extends StatFilterFactory<BooleanStatFilter> {
         @Override
         public Optional<BooleanStatFilter> create(String inputString) {
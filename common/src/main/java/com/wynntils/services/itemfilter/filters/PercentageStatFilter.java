@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.itemfilter.filters;
@@ -9,6 +9,7 @@ import com.wynntils.services.itemfilter.type.StatFilter;
 import com.wynntils.services.itemfilter.type.StatFilterFactory;
 import com.wynntils.services.itemfilter.type.StatValue;
 import com.wynntils.utils.StringUtils;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -60,6 +61,22 @@ public class PercentageStatFilter extends StatFilter<StatValue> {
         return StringUtils.floatToSimpleString(min) + "-" + StringUtils.floatToSimpleString(max) + "%";
     }
 
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (other == null || getClass() != other.getClass()) return false;
+
+        PercentageStatFilter that = (PercentageStatFilter) other;
+        return Float.compare(min, that.min) == 0
+                && Float.compare(max, that.max) == 0
+                && equalsInString == that.equalsInString;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(min, max, equalsInString);
+    }
+
     public float getMin() {
         return min;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.itemfilter.filters;
@@ -9,6 +9,7 @@ import com.wynntils.services.itemfilter.type.StatFilterFactory;
 import com.wynntils.services.itemfilter.type.StatValue;
 import com.wynntils.utils.MathUtils;
 import com.wynntils.utils.type.CappedValue;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -108,6 +109,20 @@ public final class RangedStatFilters {
             return min + "-" + max;
         }
 
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (other == null || getClass() != other.getClass()) return false;
+
+            AbstractRangedStatFilter<?> that = (AbstractRangedStatFilter<?>) other;
+            return min == that.min && max == that.max && equalsInString == that.equalsInString;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getClass(), min, max, equalsInString);
+        }
+
         public int getMin() {
             return min;
         }
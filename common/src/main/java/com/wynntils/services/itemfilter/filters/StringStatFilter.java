@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.itemfilter.filters;
@@ -7,6 +7,7 @@ package com.wynntils.services.itemfilter.filters;
 import com.wynntils.services.itemfilter.type.StatFilter;
 import com.wynntils.services.itemfilter.type.StatFilterFactory;
 import com.wynntils.utils.StringUtils;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -30,6 +31,20 @@ public final class StringStatFilter extends StatFilter<String> {
         return strict ? "\"" + searchLiteral + "\"" : searchLiteral;
     }
 
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (other == null || getClass() != other.getClass()) return false;
+
+        StringStatFilter that = (StringStatFilter) other;
+        return strict == that.strict && searchLiteral.equals(that.searchLiteral);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(searchLiteral, strict);
+    }
+
     public boolean isStrict() {
         return strict;
     }
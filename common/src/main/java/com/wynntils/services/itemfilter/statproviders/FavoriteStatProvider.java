@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.itemfilter.statproviders;
@@ -31,4 +31,9 @@ public class FavoriteStatProvider extends ItemStatProvider<Boolean> {
     public List<String> getAliases() {
         return List.of("fav");
     }
+
+    @Override
+    public boolean isVolatile() {
+        return true;
+    }
 }
@@ -39,17 +39,10 @@ public class RarityStatProvider extends ItemStatProvider<String> {
     }
 
     @Override
-    public int compare(WynnItem wynnItem1, WynnItem wynnItem2) {
-        Optional<String> itemValue1 = this.getValue(wynnItem1);
-        Optional<String> itemValue2 = this.getValue(wynnItem2);
-
-        if (itemValue1.isEmpty() && itemValue2.isPresent()) return 1;
-        if (itemValue1.isPresent() && itemValue2.isEmpty()) return -1;
-        if (itemValue1.isEmpty() && itemValue2.isEmpty()) return 0;
-
+    public int compareValues(String value1, String value2) {
         // Map the string values to the GearTier enum values
-        GearTier gearTier1 = GearTier.valueOf(itemValue1.get().toUpperCase(Locale.ROOT));
-        GearTier gearTier2 = GearTier.valueOf(itemValue2.get().toUpperCase(Locale.ROOT));
+        GearTier gearTier1 = GearTier.valueOf(value1.toUpperCase(Locale.ROOT));
+        GearTier gearTier2 = GearTier.valueOf(value2.toUpperCase(Locale.ROOT));
 
         return -gearTier1.compareTo(gearTier2);
     }
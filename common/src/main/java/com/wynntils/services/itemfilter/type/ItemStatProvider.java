@@ -60,6 +60,16 @@ public abstract class ItemStatProvider<T extends Comparable<T>> implements Trans
         return name;
     }
 
+    /**
+     * Returns whether the value of this stat can change for the same item, for example because it depends on user
+     * data. Values of volatile stats are never cached by search indexes.
+     *
+     * @return true if the stat value can change for the same item
+     */
+    public boolean isVolatile() {
+        return false;
+    }
+
     public String getDisplayName() {
         return getTranslation("name");
     }
@@ -87,6 +97,17 @@ public abstract class ItemStatProvider<T extends Comparable<T>> implements Trans
         if (itemValue1.isPresent() && itemValue2.isEmpty()) return -1;
         if (itemValue1.isEmpty() && itemValue2.isEmpty()) return 0;
 
-        return -itemValue1.get().compareTo(itemValue2.get());
+        return compareValues(itemValue1.get(), itemValue2.get());
+    }
+
+    /**
+     * Compares two already computed values of this stat. Higher values are ordered first by default.
+     *
+     * @param value1 The first value
+     * @param value2 The second value
+     * @return The comparison result, in the same order as {@link #compare(WynnItem, WynnItem)}
+     */
+    public int compareValues(T value1, T value2) {
+        return -value1.compareTo(value2);
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.itemfilter.type;
@@ -7,6 +7,7 @@ package com.wynntils.services.itemfilter.type;
 /**
  * A filter type to be used for filtering {@link ItemStatProvider} values.
  * Create these with {@link StatFilterFactory}.
+ * Filters are compared by the values they match, so implementations must override equals and hashCode.
  * @param <T> The type of value this filter works on
  */
 public abstract class StatFilter<T> {
@@ -8,20 +8,20 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.wynntils.core.WynntilsMod;
+import com.wynntils.core.components.Models;
 import com.wynntils.core.components.Service;
 import com.wynntils.core.net.DownloadRegistry;
 import com.wynntils.core.net.UrlId;
 import com.wynntils.models.gear.type.ItemWeightSource;
 import com.wynntils.models.items.properties.IdentifiableItemProperty;
-import com.wynntils.models.stats.StatCalculator;
-import com.wynntils.models.stats.type.StatActualValue;
-import com.wynntils.models.stats.type.StatPossibleValues;
+import com.wynntils.models.stats.type.IndexedStatValues;
 import com.wynntils.models.stats.type.StatType;
 import com.wynntils.services.itemweight.type.ItemWeighting;
 import com.wynntils.utils.colors.CustomColor;
 import com.wynntils.utils.type.Pair;
 import java.io.Reader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -71,30 +71,20 @@ public class ItemWeightService extends Service {
     public float calculateWeighting(ItemWeighting weighting, IdentifiableItemProperty<?, ?> itemInfo) {
         if (weighting == null || itemInfo == null) return 0f;
 
-        List<StatActualValue> identifications = itemInfo.getIdentifications();
-        List<StatPossibleValues> possibleValues = itemInfo.getPossibleValues();
+        IndexedStatValues statValues = itemInfo.getIndexedStatValues();
+        if (statValues == null) return 0f;
 
-        if (identifications == null || possibleValues == null) return 0f;
+        int[] statOrdinals = weighting.statOrdinals();
+        double[] statWeights = weighting.statWeights();
 
         double weightedSum = 0;
         double sumWeights = 0;
 
-        for (Map.Entry<String, Double> entry : weighting.identifications().entrySet()) {
-            String statApiName = entry.getKey();
-            double statWeight = entry.getValue();
+        for (int i = 0; i < statOrdinals.length; i++) {
+            if (!statValues.hasPercentage(statOrdinals[i])) continue;
 
-            StatActualValue currentValue = identifications.stream()
-                    .filter(id -> id.statType().getApiName().equalsIgnoreCase(statApiName))
-                    .findFirst()
-                    .orElse(null);
-            StatPossibleValues statPossibleValues = possibleValues.stream()
-                    .filter(id -> id.statType().getApiName().equalsIgnoreCase(statApiName))
-                    .findFirst()
-                    .orElse(null);
-
-            if (currentValue == null || statPossibleValues == null) continue;
-
-            double percent = StatCalculator.getPercentage(currentValue, statPossibleValues);
+            double percent = statValues.getPercentage(statOrdinals[i]);
+            double statWeight = statWeights[i];
             // If the weight is negative, then invert the percentage
             if (statWeight < 0) {
                 percent = 100 - percent;
@@ -113,32 +103,22 @@ public class ItemWeightService extends Service {
             ItemWeighting weighting, IdentifiableItemProperty<?, ?> itemInfo) {
         if (weighting == null || itemInfo == null) return Map.of();
 
-        Map<StatType, Pair<Float, Float>> statWeights = new LinkedHashMap<>();
-
-        for (Map.Entry<String, Double> entry : weighting.identifications().entrySet()) {
-            String statApiName = entry.getKey();
-            float statWeight = entry.getValue().floatValue() * 100;
+        IndexedStatValues statValues = itemInfo.getIndexedStatValues();
+        int[] statOrdinals = weighting.statOrdinals();
+        double[] statWeights = weighting.statWeights();
 
-            List<StatActualValue> identifications = itemInfo.getIdentifications();
-            List<StatPossibleValues> possibleValues = itemInfo.getPossibleValues();
+        Map<StatType, Pair<Float, Float>> statWeightMap = new LinkedHashMap<>();
 
-            StatActualValue currentValue = identifications.stream()
-                    .filter(id -> id.statType().getApiName().equalsIgnoreCase(statApiName))
-                    .findFirst()
-                    .orElse(null);
-            StatPossibleValues statPossibleValues = possibleValues.stream()
-                    .filter(id -> id.statType().getApiName().equalsIgnoreCase(statApiName))
-                    .findFirst()
-                    .orElse(null);
+        for (int i = 0; i < statOrdinals.length; i++) {
+            if (!statValues.hasPercentage(statOrdinals[i])) continue;
 
-            if (currentValue == null || statPossibleValues == null) continue;
+            float statWeight = (float) statWeights[i] * 100;
+            float percent = statValues.getPercentage(statOrdinals[i]);
 
-            float percent = StatCalculator.getPercentage(currentValue, statPossibleValues);
-
-            statWeights.put(currentValue.statType(), Pair.of(statWeight, percent));
+            statWeightMap.put(statValues.getActualValue(statOrdinals[i]).statType(), Pair.of(statWeight, percent));
         }
 
-        return statWeights;
+        return statWeightMap;
     }
 
     private void handleItemWeights(Reader reader) {
@@ -198,8 +178,30 @@ public class ItemWeightService extends Service {
                         .collect(Collectors.toMap(
                                 Map.Entry::getKey, e -> e.getValue().getAsDouble(), (a, b) -> a, LinkedHashMap::new));
 
-                itemWeights.add(new ItemWeighting(weightName, identifications));
+                itemWeights.add(compileWeighting(weightName, identifications));
             }
         }
     }
+
+    // Resolve the API names once, so scoring an item does not need to compare any names
+    private static ItemWeighting compileWeighting(String weightName, Map<String, Double> identifications) {
+        int[] statOrdinals = new int[identifications.size()];
+        double[] statWeights = new double[identifications.size()];
+        int count = 0;
+
+        for (Map.Entry<String, Double> entry : identifications.entrySet()) {
+            StatType statType = Models.Stat.fromApiNameIgnoreCase(entry.getKey());
+            if (statType == null) continue;
+
+            statOrdinals[count] = Models.Stat.getStatOrdinal(statType);
+            statWeights[count] = entry.getValue();
+            count++;
+        }
+
+        return new ItemWeighting(
+                weightName,
+                identifications,
+                Arrays.copyOf(statOrdinals, count),
+                Arrays.copyOf(statWeights, count));
+    }
 }
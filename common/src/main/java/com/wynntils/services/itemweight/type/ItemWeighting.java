@@ -1,9 +1,14 @@
 /*
- * Copyright © Wynntils 2025.
+ * Copyright © Wynntils 2025-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.itemweight.type;
 
 import java.util.Map;
 
-public record ItemWeighting(String weightName, Map<String, Double> identifications) {}
+/**
+ * A weighting of an item's identifications. Besides the weights by API name, the weights are compiled into parallel
+ * arrays of stat ordinals and weights, skipping unknown stats, in the same order.
+ */
+public record ItemWeighting(
+        String weightName, Map<String, Double> identifications, int[] statOrdinals, double[] statWeights) {}
@@ -39,7 +39,20 @@ public final class LootrunCompiler {
             ChatFormatting.DARK_PURPLE.getColor());
 
     public static LootrunPathInstance compile(UncompiledLootrunPath uncompiled, boolean recording) {
-        Long2ObjectMap<List<ColoredPath>> points = generatePointsByChunk(uncompiled.path(), recording);
+        LootrunFeature lootrunFeature = Managers.Feature.getFeatureInstance(LootrunFeature.class);
+        boolean rainbow = lootrunFeature.rainbowLootRun.get() && !recording;
+        int pathColor = recording
+                ? lootrunFeature.recordingPathColor.get().asInt()
+                : lootrunFeature.activePathColor.get().asInt();
+
+        return compile(uncompiled, recording, rainbow, lootrunFeature.cycleDistance.get(), pathColor);
+    }
+
+    // The feature settings are read once by the caller, instead of once per path point
+    static LootrunPathInstance compile(
+            UncompiledLootrunPath uncompiled, boolean recording, boolean rainbow, int cycleDistance, int pathColor) {
+        Long2ObjectMap<List<ColoredPath>> points =
+                generatePointsByChunk(uncompiled.path(), rainbow, cycleDistance, pathColor);
         Long2ObjectMap<Set<BlockPos>> chests = getChests(uncompiled.chests());
         Long2ObjectMap<List<LootrunNote>> notes = getNotes(uncompiled.notes());
 
@@ -114,7 +127,8 @@ public final class LootrunCompiler {
         return result;
     }
 
-    private static Long2ObjectMap<List<ColoredPath>> generatePointsByChunk(LootrunPath raw, boolean recording) {
+    private static Long2ObjectMap<List<ColoredPath>> generatePointsByChunk(
+            LootrunPath raw, boolean rainbow, int cycleDistance, int pathColor) {
         float sampleRate = 10f;
 
         List<List<Vec3>> sampled =
@@ -134,13 +148,7 @@ public final class LootrunCompiler {
         for (int i = 0; i < positions.size(); i++) {
             Vec3 position = positions.get(i);
 
-            if (Managers.Feature.getFeatureInstance(LootrunFeature.class)
-                            .rainbowLootRun
-                            .get()
-                    && !recording) {
-                int cycleDistance = Managers.Feature.getFeatureInstance(LootrunFeature.class)
-                        .cycleDistance
-                        .get();
+            if (rainbow) {
                 int cycle = 10 * cycleDistance;
                 int parts = i % cycle;
                 float done = (float) parts / (float) cycle;
@@ -165,19 +173,7 @@ public final class LootrunCompiler {
 
                 locationsList.points().add(new ColoredPosition(position, usedColor | 0xff000000));
             } else {
-                locationsList
-                        .points()
-                        .add(new ColoredPosition(
-                                position,
-                                recording
-                                        ? Managers.Feature.getFeatureInstance(LootrunFeature.class)
-                                                .recordingPathColor
-                                                .get()
-                                                .asInt()
-                                        : Managers.Feature.getFeatureInstance(LootrunFeature.class)
-                                                .activePathColor
-                                                .get()
-                                                .asInt()));
+                locationsList.points().add(new ColoredPosition(position, pathColor));
             }
         }
 
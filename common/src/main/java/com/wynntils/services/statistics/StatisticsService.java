@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.statistics;
@@ -31,6 +31,13 @@ public final class StatisticsService extends Service {
 
     // The currently active statistics
     private Map<StatisticKind, StatisticEntry> currentStatistics = new EnumMap<>(StatisticKind.class);
+    // Whether the active statistics belong to a character, and are part of the persisted statistics
+    private boolean currentStatisticsPersisted = false;
+
+    // The statistics of all characters combined, updated along with the active statistics,
+    // and only rebuilt from all characters after they are loaded or reset
+    private final Map<StatisticKind, StatisticEntry> overallStatistics = new EnumMap<>(StatisticKind.class);
+    private boolean overallStatisticsValid = false;
 
     public StatisticsService() {
         super(List.of());
@@ -45,6 +52,7 @@ public final class StatisticsService extends Service {
             // have a valid map, otherwise we will crash when trying to set statistics.
             // These values will not be persisted.
             currentStatistics = new EnumMap<>(StatisticKind.class);
+            currentStatisticsPersisted = false;
             return;
         }
 
@@ -61,10 +69,12 @@ public final class StatisticsService extends Service {
     }
 
     public void addToStatistics(StatisticKind kind, long amount) {
-        StatisticEntry newValue = currentStatistics.containsKey(kind)
-                ? currentStatistics.get(kind).getUpdatedEntry(amount)
-                : new StatisticEntry(amount, 1, amount, amount, System.currentTimeMillis(), System.currentTimeMillis());
-        currentStatistics.put(kind, newValue);
+        currentStatistics.put(kind, getUpdatedEntry(currentStatistics.get(kind), amount));
+
+        if (currentStatisticsPersisted && overallStatisticsValid) {
+            overallStatistics.put(kind, getUpdatedEntry(overallStatistics.get(kind), amount));
+        }
+
         statistics.touched();
     }
 
@@ -77,27 +87,16 @@ public final class StatisticsService extends Service {
     }
 
     public StatisticEntry getOverallStatistic(StatisticKind statistic) {
-        StatisticEntry overall = StatisticEntry.EMPTY;
-
-        for (Map<StatisticKind, StatisticEntry> characterStatistics :
-                statistics.get().values()) {
-            StatisticEntry entry = characterStatistics.get(statistic);
-            if (entry != null) {
-                overall = new StatisticEntry(
-                        overall.total() + entry.total(),
-                        overall.count() + entry.count(),
-                        Math.min(overall.min(), entry.min()),
-                        Math.max(overall.max(), entry.max()),
-                        Math.min(overall.firstModified(), entry.firstModified()),
-                        Math.max(overall.lastModified(), entry.lastModified()));
-            }
+        if (!overallStatisticsValid) {
+            rebuildOverallStatistics();
         }
 
-        return overall;
+        return overallStatistics.getOrDefault(statistic, StatisticEntry.EMPTY);
     }
 
     public void resetStatisticForCharacter(StatisticKind statistic) {
         currentStatistics.remove(statistic);
+        overallStatisticsValid = false;
         statistics.touched();
     }
 
@@ -106,21 +105,49 @@ public final class StatisticsService extends Service {
                 statistics.get().values()) {
             characterStatistics.remove(statistic);
         }
+        overallStatistics.remove(statistic);
         statistics.touched();
     }
 
     public void resetStatistics() {
         currentStatistics.clear();
+        overallStatisticsValid = false;
         statistics.touched();
     }
 
+    @Override
+    public void onStorageLoad(Storage<?> storage) {
+        if (storage == statistics) {
+            overallStatisticsValid = false;
+        }
+    }
+
     private void setCurrentStatistics(String id) {
         // Make sure our statistics is based on the correct character, and that it is persisted
         statistics.get().putIfAbsent(id, new EnumMap<>(StatisticKind.class));
         currentStatistics = statistics.get().get(id);
+        currentStatisticsPersisted = true;
         statistics.touched();
     }
 
+    private void rebuildOverallStatistics() {
+        overallStatistics.clear();
+
+        for (Map<StatisticKind, StatisticEntry> characterStatistics :
+                statistics.get().values()) {
+            characterStatistics.forEach((kind, entry) -> overallStatistics.merge(kind, entry, StatisticEntry::merge));
+        }
+
+        overallStatisticsValid = true;
+    }
+
+    private static StatisticEntry getUpdatedEntry(StatisticEntry entry, long amount) {
+        if (entry != null) return entry.getUpdatedEntry(amount);
+
+        long now = System.currentTimeMillis();
+        return new StatisticEntry(amount, 1, amount, amount, now, now);
+    }
+
     public void init() {
         for (StatisticKind kind : StatisticKind.values()) {
             // Assert that the feature name is properly translated
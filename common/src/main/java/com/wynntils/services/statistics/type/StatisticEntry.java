@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.statistics.type;
@@ -17,6 +17,16 @@ public record StatisticEntry(long total, long count, long min, long max, long fi
                 System.currentTimeMillis());
     }
 
+    public StatisticEntry merge(StatisticEntry other) {
+        return new StatisticEntry(
+                total + other.total,
+                count + other.count,
+                Math.min(min, other.min),
+                Math.max(max, other.max),
+                Math.min(firstModified, other.firstModified),
+                Math.max(lastModified, other.lastModified));
+    }
+
     public long average() {
         if (count == 0) return 0;
 
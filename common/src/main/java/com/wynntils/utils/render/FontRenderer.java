@@ -8,9 +8,9 @@ import com.wynntils.core.text.StyledText;
 import com.wynntils.mc.mixin.accessors.MinecraftAccessor;
 import com.wynntils.utils.colors.CommonColors;
 import com.wynntils.utils.colors.CustomColor;
-import com.wynntils.utils.mc.ComponentUtils;
 import com.wynntils.utils.mc.McUtils;
 import com.wynntils.utils.render.type.HorizontalAlignment;
+import com.wynntils.utils.render.type.PreparedText;
 import com.wynntils.utils.render.type.TextShadow;
 import com.wynntils.utils.render.type.VerticalAlignment;
 import com.wynntils.utils.type.IterationDecision;
@@ -20,14 +20,13 @@ import net.minecraft.ChatFormatting;
 import net.minecraft.client.gui.Font;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.network.chat.Component;
-import net.minecraft.network.chat.FormattedText;
-import net.minecraft.network.chat.Style;
 import net.minecraft.util.Mth;
 import net.minecraft.util.Util;
 
 public final class FontRenderer {
     private static final FontRenderer INSTANCE = new FontRenderer();
     private final Font font;
+    private final TextLayoutCache layoutCache;
 
     private static final CustomColor SHADOW_COLOR = CommonColors.BLACK;
     private static final double HALF_PI = 1.5707963267948966;
@@ -36,6 +35,7 @@ public final class FontRenderer {
 
     private FontRenderer() {
         this.font = ((MinecraftAccessor) McUtils.mc()).getFont();
+        this.layoutCache = new TextLayoutCache(font);
     }
 
     public static FontRenderer getInstance() {
@@ -46,6 +46,14 @@ public final class FontRenderer {
         return font;
     }
 
+    /**
+     * Clears all cached text layouts. This needs to be called when glyph widths may have changed, e.g. on resource
+     * reload.
+     */
+    public void clearLayoutCache() {
+        layoutCache.clear();
+    }
+
     public void renderText(
             GuiGraphics guiGraphics,
             StyledText text,
@@ -56,48 +64,11 @@ public final class FontRenderer {
             VerticalAlignment verticalAlignment,
             TextShadow shadow,
             float textScale) {
-        float renderX;
-        float renderY;
-
         if (text == null) return;
 
-        renderX = switch (horizontalAlignment) {
-            case LEFT -> x;
-            case CENTER -> x - (font.width(text.getComponent()) / 2f * textScale);
-            case RIGHT -> x - font.width(text.getComponent()) * textScale;
-        };
-
-        renderY = switch (verticalAlignment) {
-            case TOP -> y;
-            case MIDDLE -> y - (font.lineHeight / 2f * textScale);
-            case BOTTOM -> y - font.lineHeight * textScale;
-        };
-
-        guiGraphics.pose().pushMatrix();
-        guiGraphics.pose().translate(renderX, renderY);
-        guiGraphics.pose().scale(textScale, textScale);
-
-        switch (shadow) {
-            case NONE -> guiGraphics.drawString(font, text.getComponent(), 0, 0, customColor.asInt(), false);
-            case NORMAL -> guiGraphics.drawString(font, text.getComponent(), 0, 0, customColor.asInt(), true);
-            case OUTLINE -> {
-                int shadowColor = SHADOW_COLOR.withAlpha(customColor.a()).asInt();
-                Component strippedComponent = text.iterate((part, changes) -> {
-                            changes.remove(part);
-                            changes.add(part.withStyle(partStyle -> partStyle.withColor(ChatFormatting.BLACK)));
-                            return IterationDecision.CONTINUE;
-                        })
-                        .getComponent();
-
-                guiGraphics.drawString(font, strippedComponent, -1, 0, shadowColor, false);
-                guiGraphics.drawString(font, strippedComponent, 1, 0, shadowColor, false);
-                guiGraphics.drawString(font, strippedComponent, 0, -1, shadowColor, false);
-                guiGraphics.drawString(font, strippedComponent, 0, 1, shadowColor, false);
-                guiGraphics.drawString(font, text.getComponent(), 0, 0, customColor.asInt(), false);
-            }
-        }
-
-        guiGraphics.pose().popMatrix();
+        renderPreparedLine(
+                guiGraphics,
+                prepareLine(text, x, y, customColor, horizontalAlignment, verticalAlignment, shadow, textScale));
     }
 
     public void renderText(
@@ -124,36 +95,21 @@ public final class FontRenderer {
             VerticalAlignment verticalAlignment,
             TextShadow textShadow,
             float textScale) {
-        int lineHeight = font.lineHeight;
-        float calculatedTextHeight = (adjustedLines.size() - 1) * lineHeight * textScale;
-        float renderX =
-                switch (horizontalAlignment) {
-                    case LEFT -> x1;
-                    case CENTER -> (x1 + x2) / 2f;
-                    case RIGHT -> x2;
-                };
-
-        float renderY =
-                switch (verticalAlignment) {
-                    case TOP -> y1;
-                    case MIDDLE -> (y1 + y2) / 2f - calculatedTextHeight / 2f;
-                    case BOTTOM -> y2 - calculatedTextHeight;
-                };
-
-        float lineOffset = 0;
-        for (StyledText text : adjustedLines) {
-            renderText(
-                    guiGraphics,
-                    text,
-                    renderX,
-                    renderY + lineOffset,
-                    customColor,
-                    horizontalAlignment,
-                    verticalAlignment,
-                    textShadow,
-                    textScale);
-            lineOffset += lineHeight * textScale;
-        }
+        renderPreparedText(
+                guiGraphics,
+                new PreparedText(
+                        prepareLinesInBox(
+                                adjustedLines,
+                                x1,
+                                x2,
+                                y1,
+                                y2,
+                                customColor,
+                                horizontalAlignment,
+                                verticalAlignment,
+                                textShadow,
+                                textScale),
+                        null));
     }
 
     public void renderAlignedTextInBox(
@@ -169,37 +125,51 @@ public final class FontRenderer {
             VerticalAlignment verticalAlignment,
             TextShadow textShadow,
             float textScale) {
-        List<StyledText> adjustedLines = new ArrayList<>();
-        for (StyledText line : lines) {
-            if (maxWidth == 0 || font.width(line.getComponent()) < maxWidth / textScale) {
-                adjustedLines.add(line);
-            } else {
-                List<FormattedText> parts =
-                        font.getSplitter().splitLines(line.getComponent(), (int) (maxWidth / textScale), Style.EMPTY);
-                StyledText lastPart = StyledText.EMPTY;
-                for (FormattedText part : parts) {
-                    Style lastStyle = ComponentUtils.getLastPartCodes(lastPart);
-                    StyledText text = StyledText.fromComponent(
-                                    Component.literal("").withStyle(lastStyle))
-                            .append(StyledText.fromComponent(ComponentUtils.formattedTextToComponent(part)));
-                    lastPart = text;
-                    adjustedLines.add(text);
-                }
-            }
-        }
-
-        renderAlignedTextInBox(
+        renderPreparedText(
                 guiGraphics,
-                adjustedLines,
-                x1,
-                x2,
-                y1,
-                y2,
-                customColor,
-                horizontalAlignment,
-                verticalAlignment,
-                textShadow,
-                textScale);
+                prepareAlignedTextInBox(
+                        lines,
+                        x1,
+                        x2,
+                        y1,
+                        y2,
+                        maxWidth,
+                        customColor,
+                        horizontalAlignment,
+                        verticalAlignment,
+                        textShadow,
+                        textScale));
+    }
+
+    /**
+     * Lays out the text like {@link #renderAlignedTextInBox}, without rendering it. The result can be
+     * rendered with {@link #renderPreparedText} for as long as the text and its bounds stay the same.
+     */
+    public PreparedText prepareAlignedTextInBox(
+            StyledText[] lines,
+            float x1,
+            float x2,
+            float y1,
+            float y2,
+            float maxWidth,
+            CustomColor customColor,
+            HorizontalAlignment horizontalAlignment,
+            VerticalAlignment verticalAlignment,
+            TextShadow textShadow,
+            float textScale) {
+        return new PreparedText(
+                prepareLinesInBox(
+                        wrapLines(lines, maxWidth, textScale),
+                        x1,
+                        x2,
+                        y1,
+                        y2,
+                        customColor,
+                        horizontalAlignment,
+                        verticalAlignment,
+                        textShadow,
+                        textScale),
+                null);
     }
 
     public void renderAlignedTextInBox(
@@ -295,7 +265,7 @@ public final class FontRenderer {
                 backgroundColor,
                 renderX,
                 cursorRenderY,
-                font.width(text.getComponent()),
+                layoutCache.getLayout(text, 0).getLineWidth(0),
                 font.lineHeight + 2);
 
         renderAlignedTextInBox(
@@ -328,33 +298,56 @@ public final class FontRenderer {
             VerticalAlignment verticalAlignment,
             TextShadow textShadow,
             float textScale) {
-        List<StyledText> adjustedLines = new ArrayList<>();
-        for (StyledText line : lines) {
-            if (maxWidth == 0 || font.width(line.getComponent()) < maxWidth / textScale) {
-                adjustedLines.add(line);
-            } else {
-                List<FormattedText> parts =
-                        font.getSplitter().splitLines(line.getComponent(), (int) (maxWidth / textScale), Style.EMPTY);
-                StyledText lastPart = StyledText.EMPTY;
-                for (FormattedText part : parts) {
-                    Style lastStyle = ComponentUtils.getLastPartCodes(lastPart);
-                    StyledText text = StyledText.fromComponent(
-                                    Component.literal("").withStyle(lastStyle))
-                            .append(StyledText.fromComponent(ComponentUtils.formattedTextToComponent(part)));
-                    lastPart = text;
-                    adjustedLines.add(text);
-                }
-            }
-        }
+        renderPreparedText(
+                guiGraphics,
+                prepareAlignedHighlightedTextInBox(
+                        lines,
+                        x1,
+                        x2,
+                        y1,
+                        y2,
+                        maxWidth,
+                        borderWidth,
+                        textColor,
+                        backgroundColor,
+                        horizontalAlignment,
+                        verticalAlignment,
+                        textShadow,
+                        textScale));
+    }
+
+    /**
+     * Lays out the text like {@link #renderAlignedHighlightedTextInBox}, without rendering it. The result can be
+     * rendered with {@link #renderPreparedText} for as long as the text and its bounds stay the same.
+     */
+    public PreparedText prepareAlignedHighlightedTextInBox(
+            StyledText[] lines,
+            float x1,
+            float x2,
+            float y1,
+            float y2,
+            float maxWidth,
+            float borderWidth,
+            CustomColor textColor,
+            CustomColor backgroundColor,
+            HorizontalAlignment horizontalAlignment,
+            VerticalAlignment verticalAlignment,
+            TextShadow textShadow,
+            float textScale) {
+        List<StyledText> adjustedLines = wrapLines(lines, maxWidth, textScale);
 
+        PreparedText.Background background = null;
         if (backgroundColor.a() != 0) {
             int lineHeight = font.lineHeight;
             float calculatedTextHeight = (adjustedLines.size()) * lineHeight * textScale;
-            float calculatedTextWidth = adjustedLines.stream()
-                            .filter(line -> !line.getComponent().getString().isBlank())
-                            .map(line -> (float) font.width(line.getComponent()))
-                            .reduce(0f, Math::max)
-                    * textScale;
+            float calculatedTextWidth = 0;
+            for (StyledText line : adjustedLines) {
+                TextLayoutCache.TextLayout layout = layoutCache.getLayout(line, 0);
+                if (layout.getComponent().getString().isBlank()) continue;
+
+                calculatedTextWidth = Math.max(calculatedTextWidth, layout.getLineWidth(0));
+            }
+            calculatedTextWidth *= textScale;
 
             if (calculatedTextWidth != 0) {
                 float renderX =
@@ -373,8 +366,7 @@ public final class FontRenderer {
 
                 float totalBorderWidth = (borderWidth * 2);
 
-                RenderUtils.drawRect(
-                        guiGraphics,
+                background = new PreparedText.Background(
                         backgroundColor,
                         renderX - (borderWidth),
                         renderY - (borderWidth),
@@ -383,18 +375,36 @@ public final class FontRenderer {
             }
         }
 
-        renderAlignedTextInBox(
-                guiGraphics,
-                adjustedLines,
-                x1,
-                x2,
-                y1,
-                y2,
-                textColor,
-                horizontalAlignment,
-                verticalAlignment,
-                textShadow,
-                textScale);
+        return new PreparedText(
+                prepareLinesInBox(
+                        adjustedLines,
+                        x1,
+                        x2,
+                        y1,
+                        y2,
+                        textColor,
+                        horizontalAlignment,
+                        verticalAlignment,
+                        textShadow,
+                        textScale),
+                background);
+    }
+
+    public void renderPreparedText(GuiGraphics guiGraphics, PreparedText preparedText) {
+        PreparedText.Background background = preparedText.background();
+        if (background != null) {
+            RenderUtils.drawRect(
+                    guiGraphics,
+                    background.color(),
+                    background.x(),
+                    background.y(),
+                    background.width(),
+                    background.height());
+        }
+
+        for (PreparedText.Line line : preparedText.lines()) {
+            renderPreparedLine(guiGraphics, line);
+        }
     }
 
     public void renderAlignedTextInBox(
@@ -486,26 +496,16 @@ public final class FontRenderer {
             float textScale) {
         if (text == null) return;
 
-        if (maxWidth == 0 || font.width(text.getComponent()) * textScale < maxWidth) {
+        if (maxWidth == 0) {
             renderText(guiGraphics, text, x, y, customColor, horizontalAlignment, verticalAlignment, shadow, textScale);
             return;
         }
 
-        List<FormattedText> parts =
-                font.getSplitter().splitLines(text.getComponent(), (int) (maxWidth / textScale), Style.EMPTY);
-
-        StyledText lastPart = StyledText.EMPTY;
-        for (int i = 0; i < parts.size(); i++) {
-            // copy the format codes to this part as well
-            Style lastStyle = ComponentUtils.getLastPartCodes(lastPart);
-
-            StyledText part = StyledText.fromComponent(Component.literal("").withStyle(lastStyle))
-                    .append(StyledText.fromComponent(ComponentUtils.formattedTextToComponent(parts.get(i))));
-            lastPart = part;
-
+        List<StyledText> lines = layoutCache.getLayout(text, maxWidth / textScale).getLines();
+        for (int i = 0; i < lines.size(); i++) {
             renderText(
                     guiGraphics,
-                    part,
+                    lines.get(i),
                     x,
                     y + (i * font.lineHeight * textScale),
                     customColor,
@@ -864,9 +864,128 @@ public final class FontRenderer {
     }
 
     public float calculateRenderHeight(StyledText line, float maxWidth) {
-        // If we ask Mojang code the line height of an empty line we get 0 back so replace with space
-        return font.wordWrapHeight(
-                line.isEmpty() ? Component.literal(" ") : line.getComponent(),
-                maxWidth == 0 ? Integer.MAX_VALUE : (int) maxWidth);
+        return layoutCache.getLayout(line, maxWidth).getWrapHeight();
+    }
+
+    private List<PreparedText.Line> prepareLinesInBox(
+            List<StyledText> adjustedLines,
+            float x1,
+            float x2,
+            float y1,
+            float y2,
+            CustomColor customColor,
+            HorizontalAlignment horizontalAlignment,
+            VerticalAlignment verticalAlignment,
+            TextShadow textShadow,
+            float textScale) {
+        int lineHeight = font.lineHeight;
+        float calculatedTextHeight = (adjustedLines.size() - 1) * lineHeight * textScale;
+        float renderX =
+                switch (horizontalAlignment) {
+                    case LEFT -> x1;
+                    case CENTER -> (x1 + x2) / 2f;
+                    case RIGHT -> x2;
+                };
+
+        float renderY =
+                switch (verticalAlignment) {
+                    case TOP -> y1;
+                    case MIDDLE -> (y1 + y2) / 2f - calculatedTextHeight / 2f;
+                    case BOTTOM -> y2 - calculatedTextHeight;
+                };
+
+        List<PreparedText.Line> preparedLines = new ArrayList<>(adjustedLines.size());
+        float lineOffset = 0;
+        for (StyledText text : adjustedLines) {
+            preparedLines.add(prepareLine(
+                    text,
+                    renderX,
+                    renderY + lineOffset,
+                    customColor,
+                    horizontalAlignment,
+                    verticalAlignment,
+                    textShadow,
+                    textScale));
+            lineOffset += lineHeight * textScale;
+        }
+
+        return preparedLines;
+    }
+
+    private PreparedText.Line prepareLine(
+            StyledText text,
+            float x,
+            float y,
+            CustomColor customColor,
+            HorizontalAlignment horizontalAlignment,
+            VerticalAlignment verticalAlignment,
+            TextShadow shadow,
+            float textScale) {
+        TextLayoutCache.TextLayout layout = layoutCache.getLayout(text, 0);
+
+        float renderX =
+                switch (horizontalAlignment) {
+                    case LEFT -> x;
+                    case CENTER -> x - (layout.getLineWidth(0) / 2f * textScale);
+                    case RIGHT -> x - layout.getLineWidth(0) * textScale;
+                };
+
+        float renderY =
+                switch (verticalAlignment) {
+                    case TOP -> y;
+                    case MIDDLE -> y - (font.lineHeight / 2f * textScale);
+                    case BOTTOM -> y - font.lineHeight * textScale;
+                };
+
+        Component outlineComponent = null;
+        if (shadow == TextShadow.OUTLINE) {
+            outlineComponent = text.iterate((part, changes) -> {
+                        changes.remove(part);
+                        changes.add(part.withStyle(partStyle -> partStyle.withColor(ChatFormatting.BLACK)));
+                        return IterationDecision.CONTINUE;
+                    })
+                    .getComponent();
+        }
+
+        return new PreparedText.Line(
+                layout.getComponent(),
+                outlineComponent,
+                renderX,
+                renderY,
+                textScale,
+                customColor.asInt(),
+                SHADOW_COLOR.withAlpha(customColor.a()).asInt(),
+                shadow);
+    }
+
+    private void renderPreparedLine(GuiGraphics guiGraphics, PreparedText.Line line) {
+        guiGraphics.pose().pushMatrix();
+        guiGraphics.pose().translate(line.x(), line.y());
+        guiGraphics.pose().scale(line.scale(), line.scale());
+
+        switch (line.shadow()) {
+            case NONE -> guiGraphics.drawString(font, line.component(), 0, 0, line.color(), false);
+            case NORMAL -> guiGraphics.drawString(font, line.component(), 0, 0, line.color(), true);
+            case OUTLINE -> {
+                guiGraphics.drawString(font, line.outlineComponent(), -1, 0, line.outlineColor(), false);
+                guiGraphics.drawString(font, line.outlineComponent(), 1, 0, line.outlineColor(), false);
+                guiGraphics.drawString(font, line.outlineComponent(), 0, -1, line.outlineColor(), false);
+                guiGraphics.drawString(font, line.outlineComponent(), 0, 1, line.outlineColor(), false);
+                guiGraphics.drawString(font, line.component(), 0, 0, line.color(), false);
+            }
+        }
+
+        guiGraphics.pose().popMatrix();
+    }
+
+    private List<StyledText> wrapLines(StyledText[] lines, float maxWidth, float textScale) {
+        float wrapWidth = maxWidth == 0 ? 0 : maxWidth / textScale;
+
+        List<StyledText> adjustedLines = new ArrayList<>();
+        for (StyledText line : lines) {
+            adjustedLines.addAll(layoutCache.getLayout(line, wrapWidth).getLines());
+        }
+
+        return adjustedLines;
     }
 }
@@ -0,0 +1,424 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.utils.render;
+
+import com.wynntils.services.lootrunpaths.LootrunPathInstance;
+import com.wynntils.utils.MathUtils;
+import com.wynntils.utils.VectorUtils;
+import com.wynntils.utils.colors.CustomColor;
+import com.wynntils.utils.render.pipelines.CustomRenderPipelines;
+import com.wynntils.utils.render.state.ColoredTrianglesRenderState;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.gui.navigation.ScreenRectangle;
+import net.minecraft.client.gui.render.TextureSetup;
+import org.joml.Matrix3x2f;
+import org.joml.Vector2d;
+import org.joml.Vector2f;
+
+/**
+ * The tessellated line of a lootrun path on the map, cached per zoom level of detail. The mesh is built in map space,
+ * scaled by the zoom of its level, so panning only changes the transform the mesh is rendered with, and the line is
+ * only simplified and tessellated again when the zoom crosses into another level, or the path changes.
+ * This must only be used from the render thread.
+ */
+final class LootrunLineMesh {
+    // Rendering at a zoom between two levels scales the mesh of the closest level,
+    // so the line width can be off by up to 2^(1/8), about 9%
+    private static final int LODS_PER_OCTAVE = 4;
+    // Removed points are at most this far (in pixels) from the simplified line
+    private static final float SIMPLIFY_TOLERANCE = 0.5f;
+    // Points closer than this (in pixels) are skipped, as the joints of very short segments would look broken
+    private static final float MIN_SEGMENT_LENGTH = 2f;
+    // The mesh is split into chunks of this many segments, and chunks outside the visible area are not submitted
+    private static final int SEGMENTS_PER_CHUNK = 32;
+
+    private static final Map<Integer, LootrunLineMesh> meshes = new HashMap<>();
+    private static LootrunPathInstance meshLootrun;
+    private static float meshLootrunWidth;
+    private static float meshOutlineWidth;
+
+    private final float zoom;
+    private final List<Vector2f> outlineVertices = new ArrayList<>();
+    private final List<Vector2f> lootrunVertices = new ArrayList<>();
+    private final List<Chunk> chunks = new ArrayList<>();
+
+    private LootrunLineMesh(float zoom) {
+        this.zoom = zoom;
+    }
+
+    static LootrunLineMesh get(LootrunPathInstance lootrun, float lootrunWidth, float outlineWidth, float zoom) {
+        if (lootrun != meshLootrun || lootrunWidth != meshLootrunWidth || outlineWidth != meshOutlineWidth) {
+            meshes.clear();
+            meshLootrun = lootrun;
+            meshLootrunWidth = lootrunWidth;
+            meshOutlineWidth = outlineWidth;
+        }
+
+        int level = Math.round((float) (Math.log(zoom) / Math.log(2) * LODS_PER_OCTAVE));
+        return meshes.computeIfAbsent(
+                level,
+                l -> build(
+                        lootrun.simplifiedPath(),
+                        (float) Math.pow(2, (double) l / LODS_PER_OCTAVE),
+                        lootrunWidth,
+                        outlineWidth));
+    }
+
+    void render(
+            GuiGraphics guiGraphics,
+            float centerX,
+            float centerZ,
+            float mapTextureX,
+            float mapTextureZ,
+            float currentZoom,
+            CustomColor lootrunColor,
+            CustomColor outlineColor) {
+        if (lootrunVertices.isEmpty()) return;
+
+        // The mesh is at the origin of the map, scaled by the zoom of its level
+        Matrix3x2f pose = new Matrix3x2f(guiGraphics.pose())
+                .translate(centerX - mapTextureX * currentZoom, centerZ - mapTextureZ * currentZoom)
+                .scale(currentZoom / zoom);
+        ScreenRectangle scissor = guiGraphics.scissorStack.peek();
+
+        List<Vector2f> visibleOutlineVertices = outlineVertices;
+        List<Vector2f> visibleLootrunVertices = lootrunVertices;
+
+        if (scissor != null) {
+            List<Chunk> visibleChunks = new ArrayList<>();
+            Vector2f corner = new Vector2f();
+            for (Chunk chunk : chunks) {
+                if (chunk.isVisible(pose, scissor, corner)) {
+                    visibleChunks.add(chunk);
+                }
+            }
+
+            if (visibleChunks.isEmpty()) return;
+
+            if (visibleChunks.size() < chunks.size()) {
+                visibleOutlineVertices = new ArrayList<>();
+                visibleLootrunVertices = new ArrayList<>();
+                for (Chunk chunk : visibleChunks) {
+                    visibleOutlineVertices.addAll(outlineVertices.subList(chunk.outlineStart(), chunk.outlineEnd()));
+                    visibleLootrunVertices.addAll(lootrunVertices.subList(chunk.lootrunStart(), chunk.lootrunEnd()));
+                }
+            }
+        }
+
+        guiGraphics.guiRenderState.submitGuiElement(new ColoredTrianglesRenderState(
+                CustomRenderPipelines.POSITION_COLOR_QUAD_PIPELINE,
+                TextureSetup.noTexture(),
+                pose,
+                visibleOutlineVertices,
+                outlineColor,
+                scissor));
+
+        guiGraphics.guiRenderState.submitGuiElement(new ColoredTrianglesRenderState(
+                CustomRenderPipelines.POSITION_COLOR_QUAD_PIPELINE,
+                TextureSetup.noTexture(),
+                pose,
+                visibleLootrunVertices,
+                lootrunColor,
+                scissor));
+    }
+
+    private static LootrunLineMesh build(List<Vector2d> path, float zoom, float lootrunWidth, float outlineWidth) {
+        LootrunLineMesh mesh = new LootrunLineMesh(zoom);
+        if (path.size() < 3) return mesh;
+
+        List<Vector2f> projected = new ArrayList<>(path.size());
+        for (Vector2d point : path) {
+            projected.add(new Vector2f((int) point.x() * zoom, (int) point.y() * zoom));
+        }
+
+        List<Vector2f> points = new ArrayList<>();
+        Vector2f last = null;
+        for (Vector2f point : simplify(projected)) {
+            if (last == null || last.distance(point) > MIN_SEGMENT_LENGTH) {
+                last = point;
+                points.add(point);
+            }
+        }
+
+        List<Vector2f> middlePoints = new ArrayList<>();
+        for (int i = 0; i < points.size() - 1; i++) {
+            if (i == 0) {
+                middlePoints.add(points.getFirst());
+            } else if (i == points.size() - 2) {
+                middlePoints.add(points.getLast());
+            } else {
+                middlePoints.add(new Vector2f(points.get(i)).add(points.get(i + 1)).mul(0.5f));
+            }
+        }
+
+        for (int chunkStart = 1; chunkStart < middlePoints.size(); chunkStart += SEGMENTS_PER_CHUNK) {
+            int outlineStart = mesh.outlineVertices.size();
+            int lootrunStart = mesh.lootrunVertices.size();
+
+            int chunkEnd = Math.min(chunkStart + SEGMENTS_PER_CHUNK, middlePoints.size());
+            for (int i = chunkStart; i < chunkEnd; i++) {
+                drawTriangles(
+                        mesh.outlineVertices,
+                        middlePoints.get(i - 1),
+                        points.get(i),
+                        middlePoints.get(i),
+                        outlineWidth);
+                drawTriangles(
+                        mesh.lootrunVertices,
+                        middlePoints.get(i - 1),
+                        points.get(i),
+                        middlePoints.get(i),
+                        lootrunWidth);
+            }
+
+            mesh.chunks.add(
+                    Chunk.create(mesh.outlineVertices, outlineStart, lootrunStart, mesh.lootrunVertices.size()));
+        }
+
+        return mesh;
+    }
+
+    // Douglas-Peucker simplification, keeping the points that are further than the tolerance from the simplified line
+    private static List<Vector2f> simplify(List<Vector2f> points) {
+        boolean[] keep = new boolean[points.size()];
+        keep[0] = true;
+        keep[points.size() - 1] = true;
+
+        ArrayDeque<int[]> ranges = new ArrayDeque<>();
+        ranges.push(new int[] {0, points.size() - 1});
+
+        while (!ranges.isEmpty()) {
+            int[] range = ranges.pop();
+            int start = range[0];
+            int end = range[1];
+
+            float maxDistance = 0;
+            int maxIndex = -1;
+            for (int i = start + 1; i < end; i++) {
+                float distance = distanceToSegment(points.get(i), points.get(start), points.get(end));
+                if (distance > maxDistance) {
+                    maxDistance = distance;
+                    maxIndex = i;
+                }
+            }
+
+            if (maxIndex != -1 && maxDistance > SIMPLIFY_TOLERANCE) {
+                keep[maxIndex] = true;
+                ranges.push(new int[] {start, maxIndex});
+                ranges.push(new int[] {maxIndex, end});
+            }
+        }
+
+        List<Vector2f> simplified = new ArrayList<>();
+        for (int i = 0; i < points.size(); i++) {
+            if (keep[i]) {
+                simplified.add(points.get(i));
+            }
+        }
+        return simplified;
+    }
+
+    private static float distanceToSegment(Vector2f point, Vector2f start, Vector2f end) {
+        float dx = end.x() - start.x();
+        float dy = end.y() - start.y();
+        float lengthSquared = dx * dx + dy * dy;
+
+        // Lootruns usually end where they start
+        if (lengthSquared == 0) return point.distance(start);
+
+        float projection = ((point.x() - start.x()) * dx + (point.y() - start.y()) * dy) / lengthSquared;
+        float t = MathUtils.clamp(projection, 0f, 1f);
+        return point.distance(start.x() + t * dx, start.y() + t * dy);
+    }
+
+    private static void drawTriangles(List<Vector2f> vertices, Vector2f p0, Vector2f p1, Vector2f p2, float lineWidth) {
+        Vector2f t0 = new Vector2f();
+        Vector2f t2 = new Vector2f();
+
+        p1.sub(p0, t0);
+        p2.sub(p1, t2);
+
+        t0 = new Vector2f(-t0.y(), t0.x());
+        t2 = new Vector2f(-t2.y(), t2.x());
+
+        if (MathUtils.signedArea(p0, p1, p2) > 0) {
+            t0.mul(-1);
+            t2.mul(-1);
+        }
+
+        t0.normalize();
+        t2.normalize();
+        t0.mul(lineWidth);
+        t2.mul(lineWidth);
+
+        Vector2f lineIntersection = VectorUtils.lineIntersection(
+                new Vector2f(p0).add(t0), new Vector2f(p1).add(t0), new Vector2f(p2).add(t2), new Vector2f(p1).add(t2));
+
+        Vector2f anchor = new Vector2f();
+        float anchorLength = Float.MAX_VALUE;
+
+        if (lineIntersection != null) {
+            lineIntersection.sub(p1, anchor);
+            anchorLength = lineIntersection.length();
+        }
+
+        Vector2f p0p1 = new Vector2f(p0).sub(p1);
+        Vector2f p1p2 = new Vector2f(p1).sub(p2);
+
+        if (anchorLength > p0p1.length() || anchorLength > p1p2.length()) {
+            addVertex(vertices, new Vector2f(p0).add(t0));
+            addVertex(vertices, new Vector2f(p0).sub(t0));
+            addVertex(vertices, new Vector2f(p1).add(t0));
+
+            addVertex(vertices, new Vector2f(p0).sub(t0));
+            addVertex(vertices, new Vector2f(p1).add(t0));
+            addVertex(vertices, new Vector2f(p1).sub(t0));
+
+            drawRoundJoint(p1, new Vector2f(p1).add(t0), new Vector2f(p1).add(t2), p2, vertices);
+
+            addVertex(vertices, new Vector2f(p2).add(t2));
+            addVertex(vertices, new Vector2f(p1).sub(t2));
+            addVertex(vertices, new Vector2f(p1).add(t2));
+
+            addVertex(vertices, new Vector2f(p2).add(t2));
+            addVertex(vertices, new Vector2f(p1).sub(t2));
+            addVertex(vertices, new Vector2f(p2).sub(t2));
+        } else {
+            addVertex(vertices, new Vector2f(p0).add(t0));
+            addVertex(vertices, new Vector2f(p0).sub(t0));
+            addVertex(vertices, new Vector2f(p1).sub(anchor));
+
+            addVertex(vertices, new Vector2f(p0).add(t0));
+            addVertex(vertices, new Vector2f(p1).sub(anchor));
+            addVertex(vertices, new Vector2f(p1).add(t0));
+
+            Vector2f rP0 = new Vector2f(p1).add(t0);
+            Vector2f rP1 = new Vector2f(p1).add(t2);
+            Vector2f rP2 = new Vector2f(p1).sub(anchor);
+
+            addVertex(vertices, rP0);
+            addVertex(vertices, p1);
+            addVertex(vertices, rP2);
+
+            drawRoundJoint(p1, rP0, rP1, rP2, vertices);
+
+            addVertex(vertices, p1);
+            addVertex(vertices, rP1);
+            addVertex(vertices, rP2);
+
+            addVertex(vertices, new Vector2f(p2).add(t2));
+            addVertex(vertices, new Vector2f(p1).sub(anchor));
+            addVertex(vertices, new Vector2f(p1).add(t2));
+
+            addVertex(vertices, new Vector2f(p2).add(t2));
+            addVertex(vertices, new Vector2f(p1).sub(anchor));
+            addVertex(vertices, new Vector2f(p2).sub(t2));
+        }
+    }
+
+    private static void drawRoundJoint(
+            Vector2f center, Vector2f p0, Vector2f p1, Vector2f nextPointInLine, List<Vector2f> vertices) {
+        float radius = new Vector2f(center).sub(p0).length();
+
+        float angle0 = (float) Math.atan2((p1.y() - center.y()), (p1.x() - center.x()));
+        float angle1 = (float) Math.atan2((p0.y() - center.y()), (p0.x() - center.x()));
+        float orgAngle0 = angle0;
+
+        if (angle1 > angle0) {
+            while (angle1 - angle0 >= Math.PI - 0.001f) {
+                angle1 = (float) (angle1 - 2 * Math.PI);
+            }
+        } else {
+            while (angle0 - angle1 >= Math.PI - 0.001f) {
+                angle0 = (float) (angle0 - 2 * Math.PI);
+            }
+        }
+
+        float angleDiff = angle1 - angle0;
+
+        if (Math.abs(angleDiff) >= Math.PI - 0.001f && Math.abs(angleDiff) <= Math.PI + 0.001f) {
+            Vector2f r1 = new Vector2f(center).sub(nextPointInLine);
+
+            if (r1.x() == 0) {
+                if (r1.y() > 0) {
+                    angleDiff = -angleDiff;
+                }
+            } else if (r1.x() >= -0.001f) {
+                angleDiff = -angleDiff;
+            }
+        }
+
+        int nSegments = (int) Math.abs(angleDiff * radius / 2);
+        nSegments++;
+
+        float angleInc = angleDiff / nSegments;
+
+        for (int i = 0; i < nSegments; i++) {
+            addVertex(vertices, center);
+            addVertex(vertices, new Vector2f((float) (center.x() + radius * Math.cos(orgAngle0 + angleInc * i)), (float)
+                    (center.y() + radius * Math.sin(orgAngle0 + angleInc * i))));
+            addVertex(
+                    vertices,
+                    new Vector2f((float) (center.x() + radius * Math.cos(orgAngle0 + angleInc * (1 + i))), (float)
+                            (center.y() + radius * Math.sin(orgAngle0 + angleInc * (1 + i)))));
+        }
+    }
+
+    private static void addVertex(List<Vector2f> vertices, Vector2f pos) {
+        vertices.add(new Vector2f(pos));
+    }
+
+    // The vertex ranges of a chunk of segments, and the bounds of its outline in mesh space
+    private record Chunk(
+            int outlineStart,
+            int outlineEnd,
+            int lootrunStart,
+            int lootrunEnd,
+            float minX,
+            float minY,
+            float maxX,
+            float maxY) {
+        private static Chunk create(
+                List<Vector2f> outlineVertices, int outlineStart, int lootrunStart, int lootrunEnd) {
+            float minX = Float.MAX_VALUE;
+            float minY = Float.MAX_VALUE;
+            float maxX = -Float.MAX_VALUE;
+            float maxY = -Float.MAX_VALUE;
+
+            for (int i = outlineStart; i < outlineVertices.size(); i++) {
+                Vector2f vertex = outlineVertices.get(i);
+                minX = Math.min(minX, vertex.x());
+                minY = Math.min(minY, vertex.y());
+                maxX = Math.max(maxX, vertex.x());
+                maxY = Math.max(maxY, vertex.y());
+            }
+
+            return new Chunk(
+                    outlineStart, outlineVertices.size(), lootrunStart, lootrunEnd, minX, minY, maxX, maxY);
+        }
+
+        private boolean isVisible(Matrix3x2f pose, ScreenRectangle scissor, Vector2f corner) {
+            if (outlineStart == outlineEnd) return false;
+
+            // The pose only translates and scales, so the bounds stay axis-aligned
+            pose.transformPosition(minX, minY, corner);
+            float screenMinX = corner.x();
+            float screenMinY = corner.y();
+            pose.transformPosition(maxX, maxY, corner);
+            float screenMaxX = corner.x();
+            float screenMaxY = corner.y();
+
+            return Math.max(screenMinX, screenMaxX) >= scissor.left()
+                    && Math.min(screenMinX, screenMaxX) <= scissor.right()
+                    && Math.max(screenMinY, screenMaxY) >= scissor.top()
+                    && Math.min(screenMinY, screenMaxY) <= scissor.bottom();
+        }
+    }
+}
@@ -7,8 +7,6 @@ package com.wynntils.utils.render;
 import com.wynntils.services.lootrunpaths.LootrunPathInstance;
 import com.wynntils.services.map.MapTexture;
 import com.wynntils.services.map.pois.Poi;
-import com.wynntils.utils.MathUtils;
-import com.wynntils.utils.VectorUtils;
 import com.wynntils.utils.colors.CommonColors;
 import com.wynntils.utils.colors.CustomColor;
 import com.wynntils.utils.mc.McUtils;
@@ -22,7 +20,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import net.minecraft.client.gui.GuiGraphics;
-import net.minecraft.client.gui.navigation.ScreenRectangle;
 import net.minecraft.client.gui.render.TextureSetup;
 import net.minecraft.client.renderer.RenderPipelines;
 import net.minecraft.client.renderer.texture.AbstractTexture;
@@ -30,7 +27,6 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.resources.Identifier;
 import net.minecraft.world.level.ChunkPos;
 import org.joml.Matrix3x2f;
-import org.joml.Vector2d;
 import org.joml.Vector2f;
 
 public final class MapRenderer {
@@ -314,205 +310,16 @@ public final class MapRenderer {
             CustomColor outlineColor) {
         if (lootrun.simplifiedPath().size() < 3) return;
 
-        List<Vector2f> points = new ArrayList<>();
-
-        List<Vector2f> middlePoints = new ArrayList<>();
-
-        Vector2f last = null;
-        for (Vector2d point : lootrun.simplifiedPath()) {
-            Vector2f screenPos = new Vector2f(
-                    getRenderX((int) point.x(), mapTextureX, centerX, currentZoom),
-                    getRenderZ((int) point.y(), mapTextureZ, centerZ, currentZoom));
-
-            if (last == null) {
-                last = screenPos;
-                points.add(screenPos);
-                continue;
-            }
-
-            if (new Vector2f(last).sub(screenPos).length() > 2) {
-                last = screenPos;
-                points.add(screenPos);
-            }
-        }
-
-        for (int i = 0; i < points.size() - 1; i++) {
-            if (i == 0) {
-                middlePoints.add(points.getFirst());
-            } else if (i == points.size() - 2) {
-                middlePoints.add(points.getLast());
-            } else {
-                middlePoints.add(
-                        new Vector2f(points.get(i)).add(points.get(i + 1)).mul(0.5f));
-            }
-        }
-
-        List<Vector2f> outlineVertices = new ArrayList<>();
-        List<Vector2f> lootrunVertices = new ArrayList<>();
-        Matrix3x2f pose = new Matrix3x2f(guiGraphics.pose());
-        ScreenRectangle scissor = guiGraphics.scissorStack.peek();
-
-        for (int i = 1; i < middlePoints.size(); i++) {
-            drawTriangles(outlineVertices, middlePoints.get(i - 1), points.get(i), middlePoints.get(i), outlineWidth);
-            drawTriangles(lootrunVertices, middlePoints.get(i - 1), points.get(i), middlePoints.get(i), lootrunWidth);
-        }
-
-        if (!outlineVertices.isEmpty()) {
-            guiGraphics.guiRenderState.submitGuiElement(new ColoredTrianglesRenderState(
-                    CustomRenderPipelines.POSITION_COLOR_QUAD_PIPELINE,
-                    TextureSetup.noTexture(),
-                    pose,
-                    outlineVertices,
-                    outlineColor,
-                    scissor));
-        }
-
-        if (!lootrunVertices.isEmpty()) {
-            guiGraphics.guiRenderState.submitGuiElement(new ColoredTrianglesRenderState(
-                    CustomRenderPipelines.POSITION_COLOR_QUAD_PIPELINE,
-                    TextureSetup.noTexture(),
-                    pose,
-                    lootrunVertices,
-                    lootrunColor,
-                    scissor));
-        }
-    }
-
-    private static void drawTriangles(List<Vector2f> vertices, Vector2f p0, Vector2f p1, Vector2f p2, float lineWidth) {
-        Vector2f t0 = new Vector2f();
-        Vector2f t2 = new Vector2f();
-
-        p1.sub(p0, t0);
-        p2.sub(p1, t2);
-
-        t0 = new Vector2f(-t0.y(), t0.x());
-        t2 = new Vector2f(-t2.y(), t2.x());
-
-        if (MathUtils.signedArea(p0, p1, p2) > 0) {
-            t0.mul(-1);
-            t2.mul(-1);
-        }
-
-        t0.normalize();
-        t2.normalize();
-        t0.mul(lineWidth);
-        t2.mul(lineWidth);
-
-        Vector2f lineIntersection = VectorUtils.lineIntersection(
-                new Vector2f(p0).add(t0), new Vector2f(p1).add(t0), new Vector2f(p2).add(t2), new Vector2f(p1).add(t2));
-
-        Vector2f anchor = new Vector2f();
-        float anchorLength = Float.MAX_VALUE;
-
-        if (lineIntersection != null) {
-            lineIntersection.sub(p1, anchor);
-            anchorLength = lineIntersection.length();
-        }
-
-        Vector2f p0p1 = new Vector2f(p0).sub(p1);
-        Vector2f p1p2 = new Vector2f(p1).sub(p2);
-
-        if (anchorLength > p0p1.length() || anchorLength > p1p2.length()) {
-            addVertex(vertices, new Vector2f(p0).add(t0));
-            addVertex(vertices, new Vector2f(p0).sub(t0));
-            addVertex(vertices, new Vector2f(p1).add(t0));
-
-            addVertex(vertices, new Vector2f(p0).sub(t0));
-            addVertex(vertices, new Vector2f(p1).add(t0));
-            addVertex(vertices, new Vector2f(p1).sub(t0));
-
-            drawRoundJoint(p1, new Vector2f(p1).add(t0), new Vector2f(p1).add(t2), p2, vertices);
-
-            addVertex(vertices, new Vector2f(p2).add(t2));
-            addVertex(vertices, new Vector2f(p1).sub(t2));
-            addVertex(vertices, new Vector2f(p1).add(t2));
-
-            addVertex(vertices, new Vector2f(p2).add(t2));
-            addVertex(vertices, new Vector2f(p1).sub(t2));
-            addVertex(vertices, new Vector2f(p2).sub(t2));
-        } else {
-            addVertex(vertices, new Vector2f(p0).add(t0));
-            addVertex(vertices, new Vector2f(p0).sub(t0));
-            addVertex(vertices, new Vector2f(p1).sub(anchor));
-
-            addVertex(vertices, new Vector2f(p0).add(t0));
-            addVertex(vertices, new Vector2f(p1).sub(anchor));
-            addVertex(vertices, new Vector2f(p1).add(t0));
-
-            Vector2f rP0 = new Vector2f(p1).add(t0);
-            Vector2f rP1 = new Vector2f(p1).add(t2);
-            Vector2f rP2 = new Vector2f(p1).sub(anchor);
-
-            addVertex(vertices, rP0);
-            addVertex(vertices, p1);
-            addVertex(vertices, rP2);
-
-            drawRoundJoint(p1, rP0, rP1, rP2, vertices);
-
-            addVertex(vertices, p1);
-            addVertex(vertices, rP1);
-            addVertex(vertices, rP2);
-
-            addVertex(vertices, new Vector2f(p2).add(t2));
-            addVertex(vertices, new Vector2f(p1).sub(anchor));
-            addVertex(vertices, new Vector2f(p1).add(t2));
-
-            addVertex(vertices, new Vector2f(p2).add(t2));
-            addVertex(vertices, new Vector2f(p1).sub(anchor));
-            addVertex(vertices, new Vector2f(p2).sub(t2));
-        }
-    }
-
-    private static void drawRoundJoint(
-            Vector2f center, Vector2f p0, Vector2f p1, Vector2f nextPointInLine, List<Vector2f> vertices) {
-        float radius = new Vector2f(center).sub(p0).length();
-
-        float angle0 = (float) Math.atan2((p1.y() - center.y()), (p1.x() - center.x()));
-        float angle1 = (float) Math.atan2((p0.y() - center.y()), (p0.x() - center.x()));
-        float orgAngle0 = angle0;
-
-        if (angle1 > angle0) {
-            while (angle1 - angle0 >= Math.PI - 0.001f) {
-                angle1 = (float) (angle1 - 2 * Math.PI);
-            }
-        } else {
-            while (angle0 - angle1 >= Math.PI - 0.001f) {
-                angle0 = (float) (angle0 - 2 * Math.PI);
-            }
-        }
-
-        float angleDiff = angle1 - angle0;
-
-        if (Math.abs(angleDiff) >= Math.PI - 0.001f && Math.abs(angleDiff) <= Math.PI + 0.001f) {
-            Vector2f r1 = new Vector2f(center).sub(nextPointInLine);
-
-            if (r1.x() == 0) {
-                if (r1.y() > 0) {
-                    angleDiff = -angleDiff;
-                }
-            } else if (r1.x() >= -0.001f) {
-                angleDiff = -angleDiff;
-            }
-        }
-
-        int nSegments = (int) Math.abs(angleDiff * radius / 2);
-        nSegments++;
-
-        float angleInc = angleDiff / nSegments;
-
-        for (int i = 0; i < nSegments; i++) {
-            addVertex(vertices, center);
-            addVertex(vertices, new Vector2f((float) (center.x() + radius * Math.cos(orgAngle0 + angleInc * i)), (float)
-                    (center.y() + radius * Math.sin(orgAngle0 + angleInc * i))));
-            addVertex(
-                    vertices,
-                    new Vector2f((float) (center.x() + radius * Math.cos(orgAngle0 + angleInc * (1 + i))), (float)
-                            (center.y() + radius * Math.sin(orgAngle0 + angleInc * (1 + i)))));
-        }
-    }
-
-    private static void addVertex(List<Vector2f> vertices, Vector2f pos) {
-        vertices.add(new Vector2f(pos));
+        LootrunLineMesh.get(lootrun, lootrunWidth, outlineWidth, currentZoom)
+                .render(
+                        guiGraphics,
+                        centerX,
+                        centerZ,
+                        mapTextureX,
+                        mapTextureZ,
+                        currentZoom,
+                        lootrunColor,
+                        outlineColor);
     }
 
     /**
@@ -0,0 +1,165 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.utils.render;
+
+import com.wynntils.core.text.StyledText;
+import com.wynntils.utils.mc.ComponentUtils;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.minecraft.client.gui.Font;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.FormattedText;
+import net.minecraft.network.chat.Style;
+
+/**
+ * Caches the wrapped lines, widths and heights of rendered texts, so text that is rendered every frame
+ * (but usually only changes once per tick) is not rebuilt and re-wrapped every frame.
+ * Entries are evicted once they have not been accessed for a while. This must only be used from the render thread.
+ */
+public final class TextLayoutCache {
+    private static final long MAX_IDLE_MS = 10_000;
+    // Texts that change every frame would otherwise fill up the cache, so be more aggressive when it gets large
+    private static final long MAX_IDLE_MS_WHEN_FULL = 1_000;
+    private static final int MAX_LAYOUTS = 2048;
+    private static final int LOOKUPS_PER_EVICTION = 4096;
+
+    private final Font font;
+    private final Map<LayoutKey, TextLayout> layouts = new HashMap<>();
+    private int lookupsSinceEviction = 0;
+
+    public TextLayoutCache(Font font) {
+        this.font = font;
+    }
+
+    /**
+     * Returns the layout of the given text, wrapped to the given width. A width of 0 means no wrapping.
+     */
+    public TextLayout getLayout(StyledText text, float maxWidth) {
+        long now = System.currentTimeMillis();
+
+        if (++lookupsSinceEviction >= LOOKUPS_PER_EVICTION) {
+            evict(now, MAX_IDLE_MS);
+        } else if (layouts.size() >= MAX_LAYOUTS) {
+            evict(now, MAX_IDLE_MS_WHEN_FULL);
+        }
+
+        TextLayout layout = layouts.computeIfAbsent(new LayoutKey(text, maxWidth), this::createLayout);
+        layout.lastAccess = now;
+        return layout;
+    }
+
+    public void clear() {
+        layouts.clear();
+    }
+
+    private void evict(long now, long maxIdle) {
+        lookupsSinceEviction = 0;
+        layouts.values().removeIf(layout -> now - layout.lastAccess > maxIdle);
+
+        // Everything is in active use, which can only happen with a constantly changing text; start over
+        if (layouts.size() >= MAX_LAYOUTS) {
+            layouts.clear();
+        }
+    }
+
+    private TextLayout createLayout(LayoutKey key) {
+        StyledText text = key.text();
+        Component component = text.getComponent();
+        int width = font.width(component);
+
+        if (key.maxWidth() == 0 || width < key.maxWidth()) {
+            return new TextLayout(component, List.of(text), List.of(component), new int[] {width}, key.maxWidth());
+        }
+
+        List<FormattedText> parts = font.getSplitter().splitLines(component, (int) key.maxWidth(), Style.EMPTY);
+
+        List<StyledText> lines = new ArrayList<>(parts.size());
+        List<Component> components = new ArrayList<>(parts.size());
+        int[] widths = new int[parts.size()];
+
+        StyledText lastPart = StyledText.EMPTY;
+        for (int i = 0; i < parts.size(); i++) {
+            // copy the format codes to this part as well
+            Style lastStyle = ComponentUtils.getLastPartCodes(lastPart);
+
+            StyledText line = StyledText.fromComponent(Component.literal("").withStyle(lastStyle))
+                    .append(StyledText.fromComponent(ComponentUtils.formattedTextToComponent(parts.get(i))));
+            lastPart = line;
+
+            Component lineComponent = line.getComponent();
+            lines.add(line);
+            components.add(lineComponent);
+            widths[i] = font.width(lineComponent);
+        }
+
+        return new TextLayout(component, List.copyOf(lines), List.copyOf(components), widths, key.maxWidth());
+    }
+
+    private record LayoutKey(StyledText text, float maxWidth) {}
+
+    public final class TextLayout {
+        private final Component component;
+        private final List<StyledText> lines;
+        private final List<Component> lineComponents;
+        private final int[] lineWidths;
+        private final float maxWidth;
+
+        private int wrapHeight = -1;
+        private long lastAccess;
+
+        private TextLayout(
+                Component component,
+                List<StyledText> lines,
+                List<Component> lineComponents,
+                int[] lineWidths,
+                float maxWidth) {
+            this.component = component;
+            this.lines = lines;
+            this.lineComponents = lineComponents;
+            this.lineWidths = lineWidths;
+            this.maxWidth = maxWidth;
+        }
+
+        /** The component of the whole, unwrapped text */
+        public Component getComponent() {
+            return component;
+        }
+
+        public List<StyledText> getLines() {
+            return lines;
+        }
+
+        public Component getLineComponent(int line) {
+            return lineComponents.get(line);
+        }
+
+        public int getLineWidth(int line) {
+            return lineWidths[line];
+        }
+
+        public int getLineCount() {
+            return lines.size();
+        }
+
+        public boolean isWrapped() {
+            return lines.size() > 1;
+        }
+
+        /** The height of the text when word wrapped by Minecraft, see {@link Font#wordWrapHeight} */
+        public int getWrapHeight() {
+            if (wrapHeight == -1) {
+                // If we ask Mojang code the line height of an empty line we get 0 back so replace with space
+                Component heightComponent = lines.size() == 1 && lines.getFirst().isEmpty()
+                        ? Component.literal(" ")
+                        : component;
+                wrapHeight = font.wordWrapHeight(heightComponent, maxWidth == 0 ? Integer.MAX_VALUE : (int) maxWidth);
+            }
+
+            return wrapHeight;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.utils.render.type;
+
+import com.wynntils.utils.colors.CustomColor;
+import java.util.List;
+import net.minecraft.network.chat.Component;
+
+/**
+ * Text that has been fully laid out for rendering, with every line positioned. This can be rendered repeatedly
+ * without recalculating layout, as long as the text and its bounds do not change.
+ */
+public record PreparedText(List<Line> lines, Background background) {
+    public record Line(
+            Component component,
+            Component outlineComponent,
+            float x,
+            float y,
+            float scale,
+            int color,
+            int outlineColor,
+            TextShadow shadow) {}
+
+    public record Background(CustomColor color, float x, float y, float width, float height) {}
+}
@@ -5,11 +5,12 @@
 package com.wynntils.utils.wynn;
 
 import com.wynntils.utils.mc.McUtils;
-import java.util.List;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.function.Function;
 import net.minecraft.client.player.LocalPlayer;
 import net.minecraft.core.BlockPos;
-import net.minecraft.world.entity.Display;
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.entity.projectile.ProjectileUtil;
 import net.minecraft.world.level.ClipContext;
@@ -46,8 +47,9 @@ public final class RaycastUtils {
         return Optional.of((Player) hitResult.getEntity());
     }
 
-    public static Optional<Display.TextDisplay> getTargetedLabel(
-            List<Display.TextDisplay> candidates,
+    public static <T> Optional<T> getTargetedLabel(
+            Collection<T> candidates,
+            Function<T, ? extends Entity> entityGetter,
             double maxRange,
             double horizontalFovDegrees,
             double verticalFovDegrees) {
@@ -56,7 +58,7 @@ public final class RaycastUtils {
         Vec3 camPos = player.getEyePosition();
         Vec3 camForward = player.getLookAngle();
 
-        Display.TextDisplay best = null;
+        T best = null;
         double bestHorizontalAngle = Double.MAX_VALUE;
         double bestDistSq = Double.MAX_VALUE;
 
@@ -65,10 +67,11 @@ public final class RaycastUtils {
         double halfHorizontalRad = Math.toRadians(horizontalFovDegrees * 0.5);
         double halfVerticalRad = Math.toRadians(verticalFovDegrees * 0.5);
 
-        for (Display.TextDisplay display : candidates) {
-            if (display.isRemoved()) continue;
+        for (T candidate : candidates) {
+            Entity entity = entityGetter.apply(candidate);
+            if (entity.isRemoved()) continue;
 
-            Vec3 to = display.position().subtract(camPos);
+            Vec3 to = entity.position().subtract(camPos);
             double distSq = to.lengthSqr();
             if (distSq > maxRangeSq) continue;
 
@@ -99,7 +102,7 @@ public final class RaycastUtils {
                     || (horizontalAngle == bestHorizontalAngle && distSq < bestDistSq)) {
                 bestHorizontalAngle = horizontalAngle;
                 bestDistSq = distSq;
-                best = display;
+                best = candidate;
             }
         }
 
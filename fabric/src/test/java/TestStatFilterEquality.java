@@ -0,0 +1,97 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.services.itemfilter.filters.AnyStatFilters;
+import com.wynntils.services.itemfilter.filters.BooleanStatFilter;
+import com.wynntils.services.itemfilter.filters.PercentageStatFilter;
+import com.wynntils.services.itemfilter.filters.RangedStatFilters;
+import com.wynntils.services.itemfilter.filters.StringStatFilter;
+import com.wynntils.services.itemfilter.type.StatFilter;
+import com.wynntils.services.itemfilter.type.StatFilterFactory;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestStatFilterEquality {
+    private static final PercentageStatFilter.PercentageStatFilterFactory PERCENTAGE_FACTORY =
+            new PercentageStatFilter.PercentageStatFilterFactory();
+    // The ranged and any factories share private base classes, so they are used through their supertype
+    private static final StatFilterFactory<RangedStatFilters.RangedIntegerStatFilter> INTEGER_FACTORY =
+            new RangedStatFilters.RangedIntegerStatFilter.RangedIntegerStatFilterFactory();
+
+    @Test
+    public void testLessThanPercentagesAreDistinct() {
+        // These all have the same display string, as their minimum is Float.MIN_VALUE
+        PercentageStatFilter tenPercent = PERCENTAGE_FACTORY.create("<=10%").orElseThrow();
+        PercentageStatFilter fiftyPercent = PERCENTAGE_FACTORY.create("<=50%").orElseThrow();
+        PercentageStatFilter ninetyPercent = PERCENTAGE_FACTORY.create("<=90%").orElseThrow();
+
+        Assertions.assertNotEquals(tenPercent, fiftyPercent);
+        Assertions.assertNotEquals(fiftyPercent, ninetyPercent);
+
+        Map<StatFilter<?>, String> cache = new HashMap<>();
+        cache.put(tenPercent, "10");
+        cache.put(fiftyPercent, "50");
+        cache.put(ninetyPercent, "90");
+
+        Assertions.assertEquals(3, cache.size());
+        Assertions.assertEquals("50", cache.get(PERCENTAGE_FACTORY.create("<=50%").orElseThrow()));
+    }
+
+    @Test
+    public void testCloseFractionalPercentagesAreDistinct() {
+        Assertions.assertNotEquals(
+                PERCENTAGE_FACTORY.create("10.001-20%").orElseThrow(),
+                PERCENTAGE_FACTORY.create("10.002-20%").orElseThrow());
+    }
+
+    @Test
+    public void testSameInputGivesEqualFilters() {
+        assertEqualFilters(
+                PERCENTAGE_FACTORY.create(">=75%").orElseThrow(),
+                PERCENTAGE_FACTORY.create(">=75%").orElseThrow());
+        assertEqualFilters(
+                INTEGER_FACTORY.create("10-20").orElseThrow(),
+                INTEGER_FACTORY.create("10-20").orElseThrow());
+
+        StringStatFilter.StringStatFilterFactory stringFactory = new StringStatFilter.StringStatFilterFactory();
+        assertEqualFilters(
+                stringFactory.create("\"Bow\"").orElseThrow(),
+                stringFactory.create("\"Bow\"").orElseThrow());
+
+        BooleanStatFilter.BooleanStatFilterFactory booleanFactory = new BooleanStatFilter.BooleanStatFilterFactory();
+        assertEqualFilters(booleanFactory.fromBoolean(true), booleanFactory.create("true").orElseThrow());
+    }
+
+    @Test
+    public void testDifferentFilterTypesAreDistinct() {
+        StatFilterFactory<RangedStatFilters.RangedStatValueStatFilter> statValueFactory =
+                new RangedStatFilters.RangedStatValueStatFilter.RangedStatValueStatFilterFactory();
+        Assertions.assertNotEquals(
+                INTEGER_FACTORY.create("10-20").orElseThrow(),
+                statValueFactory.create("10-20").orElseThrow());
+
+        StringStatFilter.StringStatFilterFactory stringFactory = new StringStatFilter.StringStatFilterFactory();
+        Assertions.assertNotEquals(
+                stringFactory.create("Bow").orElseThrow(),
+                stringFactory.create("\"Bow\"").orElseThrow());
+
+        StatFilterFactory<AnyStatFilters.AnyIntegerStatFilter> anyIntegerFactory =
+                new AnyStatFilters.AnyIntegerStatFilter.AnyIntegerStatFilterFactory();
+        StatFilterFactory<AnyStatFilters.AnyStringStatFilter> anyStringFactory =
+                new AnyStatFilters.AnyStringStatFilter.AnyStringStatFilterFactory();
+        assertEqualFilters(
+                anyIntegerFactory.create("*").orElseThrow(),
+                anyIntegerFactory.create("*").orElseThrow());
+        Assertions.assertNotEquals(
+                anyIntegerFactory.create("*").orElseThrow(),
+                anyStringFactory.create("*").orElseThrow());
+    }
+
+    private static void assertEqualFilters(StatFilter<?> filter, StatFilter<?> other) {
+        Assertions.assertEquals(filter, other);
+        Assertions.assertEquals(filter.hashCode(), other.hashCode());
+    }
+}
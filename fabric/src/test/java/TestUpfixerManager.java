@@ -0,0 +1,197 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.core.persisted.PersistedValue;
+import com.wynntils.core.persisted.upfixers.Upfixer;
+import com.wynntils.core.persisted.upfixers.UpfixerManager;
+import com.wynntils.core.persisted.upfixers.UpfixerType;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestUpfixerManager {
+    private final TestUpfixer first = new TestUpfixer("first");
+    private final TestUpfixer second = new TestUpfixer("second");
+    private final TestUpfixer third = new TestUpfixer("third");
+    private final TestUpfixer fourth = new TestUpfixer("fourth");
+
+    private UpfixerManager upfixerManager;
+
+    @BeforeAll
+    public static void setup() {
+        WynntilsMod.setupTestEnv();
+    }
+
+    @BeforeEach
+    public void setupUpfixers() throws Exception {
+        upfixerManager = new UpfixerManager();
+        setConfigUpfixers(upfixerManager, List.of(first, second, third));
+    }
+
+    @Test
+    public void testUpToDateFileRunsNoUpfixers() {
+        JsonObject configObject = new JsonObject();
+        configObject.addProperty(UpfixerManager.UPFIXER_LAST_APPLIED_JSON_MEMBER_NAME, "third");
+
+        Assertions.assertFalse(runUpfixers(configObject));
+
+        Assertions.assertEquals(0, first.runs);
+        Assertions.assertEquals(0, second.runs);
+        Assertions.assertEquals(0, third.runs);
+        Assertions.assertFalse(configObject.has(UpfixerManager.UPFIXER_JSON_MEMBER_NAME));
+    }
+
+    @Test
+    public void testUpfixersUpToLastAppliedAreSkipped() {
+        // The last applied upfixer alone marks the first upfixer as applied, even without its name in the file
+        JsonObject configObject = new JsonObject();
+        configObject.addProperty(UpfixerManager.UPFIXER_LAST_APPLIED_JSON_MEMBER_NAME, "first");
+
+        Assertions.assertTrue(runUpfixers(configObject));
+
+        Assertions.assertEquals(0, first.runs);
+        Assertions.assertEquals(1, second.runs);
+        Assertions.assertEquals(1, third.runs);
+        Assertions.assertEquals("third", getLastApplied(configObject));
+    }
+
+    @Test
+    public void testFileWithoutLastAppliedSkipsAppliedUpfixers() {
+        JsonObject configObject = new JsonObject();
+        JsonArray appliedUpfixers = new JsonArray();
+        appliedUpfixers.add("first");
+        appliedUpfixers.add("third");
+        configObject.add(UpfixerManager.UPFIXER_JSON_MEMBER_NAME, appliedUpfixers);
+
+        Assertions.assertTrue(runUpfixers(configObject));
+
+        Assertions.assertEquals(0, first.runs);
+        Assertions.assertEquals(1, second.runs);
+        Assertions.assertEquals(0, third.runs);
+        Assertions.assertEquals("third", getLastApplied(configObject));
+    }
+
+    @Test
+    public void testFailedUpfixerIsNotRecordedAndIsRetried() {
+        second.succeeds = false;
+
+        JsonObject configObject = new JsonObject();
+        Assertions.assertTrue(runUpfixers(configObject));
+
+        // The upfixer after the failed one is still applied, but only the upfixers before it are recorded
+        Assertions.assertEquals(1, first.runs);
+        Assertions.assertEquals(1, second.runs);
+        Assertions.assertEquals(1, third.runs);
+        Assertions.assertEquals("first", getLastApplied(configObject));
+
+        second.succeeds = true;
+        Assertions.assertTrue(runUpfixers(configObject));
+
+        Assertions.assertEquals(1, first.runs);
+        Assertions.assertEquals(2, second.runs);
+        Assertions.assertEquals(1, third.runs);
+        Assertions.assertEquals("third", getLastApplied(configObject));
+
+        // Now that the file is up to date with the last upfixer, nothing runs again
+        Assertions.assertFalse(runUpfixers(configObject));
+        Assertions.assertEquals(2, second.runs);
+    }
+
+    @Test
+    public void testThrowingUpfixerIsRetried() {
+        second.throwsException = true;
+
+        JsonObject configObject = new JsonObject();
+        Assertions.assertTrue(runUpfixers(configObject));
+        Assertions.assertEquals("first", getLastApplied(configObject));
+
+        second.throwsException = false;
+        Assertions.assertTrue(runUpfixers(configObject));
+        Assertions.assertEquals(2, second.runs);
+        Assertions.assertEquals("third", getLastApplied(configObject));
+    }
+
+    @Test
+    public void testRemovedUpfixerDoesNotSkipNewUpfixers() throws Exception {
+        JsonObject configObject = new JsonObject();
+        Assertions.assertTrue(runUpfixers(configObject));
+        Assertions.assertEquals("third", getLastApplied(configObject));
+
+        // An old upfixer is removed and a new one added
+        setConfigUpfixers(upfixerManager, List.of(second, third, fourth));
+        Assertions.assertTrue(runUpfixers(configObject));
+
+        Assertions.assertEquals(1, second.runs);
+        Assertions.assertEquals(1, third.runs);
+        Assertions.assertEquals(1, fourth.runs);
+        Assertions.assertEquals("fourth", getLastApplied(configObject));
+    }
+
+    @Test
+    public void testRemovedLastAppliedUpfixerFallsBackToNames() throws Exception {
+        JsonObject configObject = new JsonObject();
+        JsonArray appliedUpfixers = new JsonArray();
+        appliedUpfixers.add("first");
+        appliedUpfixers.add("second");
+        configObject.add(UpfixerManager.UPFIXER_JSON_MEMBER_NAME, appliedUpfixers);
+        configObject.addProperty(UpfixerManager.UPFIXER_LAST_APPLIED_JSON_MEMBER_NAME, "second");
+
+        setConfigUpfixers(upfixerManager, List.of(first, third, fourth));
+        Assertions.assertTrue(runUpfixers(configObject));
+
+        Assertions.assertEquals(0, first.runs);
+        Assertions.assertEquals(1, third.runs);
+        Assertions.assertEquals(1, fourth.runs);
+        Assertions.assertEquals("fourth", getLastApplied(configObject));
+    }
+
+    private boolean runUpfixers(JsonObject configObject) {
+        return upfixerManager.runUpfixers(configObject, Set.<PersistedValue<?>>of(), UpfixerType.CONFIG);
+    }
+
+    private static String getLastApplied(JsonObject configObject) {
+        return configObject.get(UpfixerManager.UPFIXER_LAST_APPLIED_JSON_MEMBER_NAME).getAsString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void setConfigUpfixers(UpfixerManager upfixerManager, List<Upfixer> upfixers) throws Exception {
+        Field field = UpfixerManager.class.getDeclaredField("configUpfixers");
+        field.setAccessible(true);
+
+        List<Upfixer> configUpfixers = (List<Upfixer>) field.get(upfixerManager);
+        configUpfixers.clear();
+        configUpfixers.addAll(upfixers);
+    }
+
+    private static final class TestUpfixer implements Upfixer {
+        private final String name;
+        private boolean succeeds = true;
+        private boolean throwsException = false;
+        private int runs = 0;
+
+        private TestUpfixer(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public boolean apply(JsonObject configObject, Set<PersistedValue<?>> persisteds) {
+            runs++;
+            if (throwsException) throw new IllegalStateException("Upfixer " + name + " failed");
+
+            return succeeds;
+        }
+
+        @Override
+        public String getUpfixerName() {
+            return name;
+        }
+    }
+}